@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.benchmarks;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import com.oracle.truffle.sl.runtime.SLBigIntegerArray;
+import com.oracle.truffle.sl.runtime.SLIntegerArray;
+import com.oracle.truffle.sl.runtime.SLLongArray;
+
+/**
+ * The operands used by the array benchmarks. Every kind describes a pair of arrays of the same
+ * size, and the representation of their {@code vec_add}:
+ * <ul>
+ * <li>{@code int}, {@code long} and {@code BigInteger} add two arrays of that element type without
+ * any overflow.</li>
+ * <li>{@code intToLong} adds two {@code int} arrays whose last lane overflows, so the result is
+ * widened to {@code long}.</li>
+ * <li>{@code longToBigInteger} adds two {@code long} arrays whose last lane overflows, so the
+ * result is widened to {@code BigInteger}.</li>
+ * </ul>
+ * The {@code BigInteger} operands store all elements but the last one in the dense part of their
+ * storage, which is the common case for arrays of arbitrary precision numbers.
+ */
+final class SLBenchmarkArrays {
+
+    private static final BigInteger BIG = BigInteger.ONE.shiftLeft(Long.SIZE);
+
+    private SLBenchmarkArrays() {
+    }
+
+    /**
+     * Creates the left operand of {@code kind} with {@code size} elements.
+     */
+    static Object left(String kind, int size) {
+        return create(kind, size, true);
+    }
+
+    /**
+     * Creates the right operand of {@code kind} with {@code size} elements.
+     */
+    static Object right(String kind, int size) {
+        return create(kind, size, false);
+    }
+
+    /**
+     * Returns SL source for an array literal that evaluates to the same array as
+     * {@link #left(String, int)}.
+     */
+    static String leftLiteral(String kind, int size) {
+        return literal(kind, size, true);
+    }
+
+    static String rightLiteral(String kind, int size) {
+        return literal(kind, size, false);
+    }
+
+    private static Object create(String kind, int size, boolean left) {
+        switch (kind) {
+            case "int":
+            case "intToLong": {
+                int[] values = new int[size];
+                Arrays.fill(values, 1);
+                values[size - 1] = last(kind, left).intValueExact();
+                return new SLIntegerArray(values);
+            }
+            case "long":
+            case "longToBigInteger": {
+                long[] values = new long[size];
+                Arrays.fill(values, 1L << Integer.SIZE);
+                values[size - 1] = last(kind, left).longValueExact();
+                return new SLLongArray(values);
+            }
+            case "BigInteger": {
+                long[] values = new long[size];
+                Arrays.fill(values, 1L << Integer.SIZE);
+                BigInteger[] overflow = new BigInteger[size];
+                overflow[size - 1] = last(kind, left);
+                return new SLBigIntegerArray(values, overflow);
+            }
+            default:
+                throw new IllegalArgumentException("Unknown kind " + kind);
+        }
+    }
+
+    private static String literal(String kind, int size, boolean left) {
+        String element;
+        switch (kind) {
+            case "int":
+            case "intToLong":
+                element = "1";
+                break;
+            case "long":
+            case "longToBigInteger":
+            case "BigInteger":
+                element = String.valueOf(1L << Integer.SIZE);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown kind " + kind);
+        }
+        StringBuilder result = new StringBuilder("[");
+        for (int i = 0; i < size - 1; i++) {
+            result.append(element).append(", ");
+        }
+        return result.append(last(kind, left)).append("]").toString();
+    }
+
+    /**
+     * Returns the last element of an operand. The other elements are small positive numbers, so
+     * only the last lane of a sum can overflow.
+     */
+    private static BigInteger last(String kind, boolean left) {
+        switch (kind) {
+            case "int":
+                return BigInteger.ONE;
+            case "intToLong":
+                return BigInteger.valueOf(left ? Integer.MAX_VALUE : 1);
+            case "long":
+                return BigInteger.valueOf(1L << Integer.SIZE);
+            case "longToBigInteger":
+                return BigInteger.valueOf(left ? Long.MAX_VALUE : 1);
+            case "BigInteger":
+                return BIG;
+            default:
+                throw new IllegalArgumentException("Unknown kind " + kind);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.graalvm.polyglot.Context;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.oracle.truffle.api.CallTarget;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.RootNode;
+import com.oracle.truffle.sl.SLLanguage;
+import com.oracle.truffle.sl.nodes.SLExpressionNode;
+import com.oracle.truffle.sl.nodes.expression.SLVecAddNodeGen;
+import com.oracle.truffle.sl.nodes.local.SLReadArgumentNode;
+
+/**
+ * Runs a single {@code SLVecAddNode} on arrays that are created in Java, without any parsing or
+ * polyglot call overhead. This isolates the cost of the addition kernels, including the widening
+ * of the result on overflow, for sizes from a small tuple up to 10 million elements.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dpolyglotimpl.DisableClassPathIsolation=true", "-Dpolyglot.engine.WarnInterpreterOnly=false"})
+public class SLVecAddNodeBenchmark {
+
+    @Param({"int", "long", "BigInteger", "intToLong", "longToBigInteger"}) public String kind;
+    @Param({"5", "1000", "1000000", "10000000"}) public int size;
+
+    private Context context;
+    private CallTarget vecAdd;
+    private Object left;
+    private Object right;
+
+    @Setup
+    public void setup() {
+        context = Context.create("sl");
+        context.initialize("sl");
+        context.enter();
+        vecAdd = new VecAddRootNode(SLLanguage.get(null)).getCallTarget();
+        left = SLBenchmarkArrays.left(kind, size);
+        right = SLBenchmarkArrays.right(kind, size);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.leave();
+        context.close();
+    }
+
+    @Benchmark
+    public Object vecAdd() {
+        return vecAdd.call(left, right);
+    }
+
+    static final class VecAddRootNode extends RootNode {
+
+        @Child private SLExpressionNode body;
+
+        VecAddRootNode(SLLanguage language) {
+            super(language);
+            this.body = SLVecAddNodeGen.create(new SLReadArgumentNode(0), new SLReadArgumentNode(1));
+        }
+
+        @Override
+        public Object execute(VirtualFrame frame) {
+            return body.executeGeneric(frame);
+        }
+    }
+}
@@ -46,8 +46,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.graalvm.options.OptionCategory;
+import org.graalvm.options.OptionDescriptors;
+import org.graalvm.options.OptionKey;
+import org.graalvm.options.OptionStability;
+
 import com.oracle.truffle.api.Assumption;
 import com.oracle.truffle.api.CallTarget;
+import com.oracle.truffle.api.Option;
 import com.oracle.truffle.api.RootCallTarget;
 import com.oracle.truffle.api.Truffle;
 import com.oracle.truffle.api.TruffleLanguage;
@@ -216,6 +222,18 @@ public final class SLLanguage extends TruffleLanguage<SLContext> {
 
     private final Shape rootShape;
 
+    @Option(help = "Use SIMD instructions (jdk.incubator.vector) for vector operations on arrays. Ignored if the module is not available.", category = OptionCategory.USER, stability = OptionStability.EXPERIMENTAL) //
+    public static final OptionKey<Boolean> SIMD = new OptionKey<>(false);
+
+    @Option(help = "Number of threads used by parallel vector operations on arrays (0 uses one thread per available processor, 1 disables parallel execution).", category = OptionCategory.USER, stability = OptionStability.EXPERIMENTAL) //
+    public static final OptionKey<Integer> Parallelism = new OptionKey<>(0);
+
+    @Option(help = "Minimum number of array elements for which vector operations run in parallel.", category = OptionCategory.USER, stability = OptionStability.EXPERIMENTAL) //
+    public static final OptionKey<Integer> ParallelThreshold = new OptionKey<>(1 << 16);
+
+    @Option(help = "Number of elements of the BIG_ZERO_ARRAY and BIG_ONES_ARRAY literals.", category = OptionCategory.USER, stability = OptionStability.EXPERIMENTAL) //
+    public static final OptionKey<Integer> BigArrayLength = new OptionKey<>(10000);
+
     public SLLanguage() {
         counter++;
         this.rootShape = Shape.newBuilder().layout(SLObject.class).build();
@@ -226,6 +244,11 @@ public final class SLLanguage extends TruffleLanguage<SLContext> {
         return new SLContext(this, env, new ArrayList<>(EXTERNAL_BUILTINS));
     }
 
+    @Override
+    protected OptionDescriptors getOptionDescriptors() {
+        return new SLLanguageOptionDescriptors();
+    }
+
     @Override
     protected boolean patchContext(SLContext context, Env newEnv) {
         context.patchContext(newEnv);
@@ -416,6 +439,11 @@ public final class SLLanguage extends TruffleLanguage<SLContext> {
         EXTERNAL_BUILTINS.add(builtin);
     }
 
+    @Override
+    protected void disposeContext(SLContext context) {
+        context.dispose();
+    }
+
     @Override
     protected void exitContext(SLContext context, ExitMode exitMode, int exitCode) {
         /*
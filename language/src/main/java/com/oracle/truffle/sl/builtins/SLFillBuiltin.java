@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.builtins;
+
+import java.util.Arrays;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import com.oracle.truffle.sl.runtime.SLBigInteger;
+import com.oracle.truffle.sl.runtime.SLBigIntegerArray;
+import com.oracle.truffle.sl.runtime.SLIntegerArray;
+import com.oracle.truffle.sl.runtime.SLLongArray;
+
+/**
+ * Builtin function that allocates an array of the given length with every element set to the
+ * given value. The storage is the narrowest one that holds the value.
+ */
+@NodeInfo(shortName = "fill")
+public abstract class SLFillBuiltin extends SLArrayAllocationBuiltin {
+
+    @Specialization(guards = "isInt(value)")
+    protected SLIntegerArray fillInt(long length, long value) {
+        int[] values = new int[checkLength(length)];
+        Arrays.fill(values, (int) value);
+        return new SLIntegerArray(values);
+    }
+
+    @Specialization(replaces = "fillInt")
+    protected Object fillLong(long length, long value) {
+        int checkedLength = checkLength(length);
+        if (isInt(value)) {
+            return fillInt(checkedLength, value);
+        }
+        long[] values = new long[checkedLength];
+        Arrays.fill(values, value);
+        return new SLLongArray(values);
+    }
+
+    @Specialization
+    @TruffleBoundary
+    protected SLBigIntegerArray fillSLBigInteger(long length, SLBigInteger value) {
+        SLBigIntegerArray result = new SLBigIntegerArray(new long[checkLength(length)]);
+        for (int i = 0; i < result.size(); i++) {
+            result.set(i, value.getValue());
+        }
+        return result;
+    }
+}
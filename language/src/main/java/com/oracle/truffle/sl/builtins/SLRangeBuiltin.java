@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.builtins;
+
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.LoopNode;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import com.oracle.truffle.sl.runtime.SLContext;
+import com.oracle.truffle.sl.runtime.SLIntegerArray;
+import com.oracle.truffle.sl.runtime.SLLongArray;
+
+/**
+ * Builtin function that returns the array of the numbers from the first argument (inclusive) to
+ * the second argument (exclusive). The array is empty if the bounds are not ascending.
+ */
+@NodeInfo(shortName = "range")
+public abstract class SLRangeBuiltin extends SLArrayAllocationBuiltin {
+
+    @Specialization(guards = {"isInt(from)", "isInt(to)"})
+    protected SLIntegerArray rangeInt(long from, long to) {
+        int[] values = new int[checkLength(Math.max(to - from, 0))];
+        int start = (int) from;
+        SLContext context = SLContext.get(this);
+        if (context.isParallel(values.length)) {
+            context.forEachChunk(values.length, (chunkFrom, chunkTo) -> fill(values, start, chunkFrom, chunkTo));
+        } else {
+            LoopNode.reportLoopCount(this, values.length);
+            fill(values, start, 0, values.length);
+        }
+        return new SLIntegerArray(values);
+    }
+
+    @Specialization(replaces = "rangeInt")
+    protected Object rangeLong(long from, long to) {
+        if (isInt(from) && isInt(to)) {
+            return rangeInt(from, to);
+        }
+        long length = to - from;
+        if (((to ^ from) & (to ^ length)) < 0) {
+            /* The length overflowed, so the range is far too large or empty. */
+            length = from < to ? Long.MAX_VALUE : 0;
+        }
+        long[] values = new long[checkLength(Math.max(length, 0))];
+        SLContext context = SLContext.get(this);
+        if (context.isParallel(values.length)) {
+            context.forEachChunk(values.length, (chunkFrom, chunkTo) -> fill(values, from, chunkFrom, chunkTo));
+        } else {
+            LoopNode.reportLoopCount(this, values.length);
+            fill(values, from, 0, values.length);
+        }
+        return new SLLongArray(values);
+    }
+
+    private static void fill(int[] values, int start, int from, int to) {
+        for (int i = from; i < to; i++) {
+            values[i] = start + i;
+        }
+    }
+
+    private static void fill(long[] values, long start, int from, int to) {
+        for (int i = from; i < to; i++) {
+            values[i] = start + i;
+        }
+    }
+}
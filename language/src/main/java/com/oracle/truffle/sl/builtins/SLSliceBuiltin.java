@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.builtins;
+
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import com.oracle.truffle.sl.SLException;
+import com.oracle.truffle.sl.runtime.SLArrayView;
+import com.oracle.truffle.sl.runtime.SLUniformArray;
+
+/**
+ * Builtin function that returns the elements of an array from the second argument (inclusive) to
+ * the third argument (exclusive), as a {@link SLArrayView view} that shares the storage of the
+ * array.
+ */
+@NodeInfo(shortName = "slice")
+public abstract class SLSliceBuiltin extends SLBuiltinNode {
+
+    @Specialization
+    protected SLUniformArray slice(SLUniformArray array, long from, long to) {
+        checkBounds(array.size(), from, to);
+        return new SLUniformArray((int) (to - from), array.getValue());
+    }
+
+    @Specialization
+    protected SLArrayView slice(Object array, long from, long to) {
+        SLArrayView view = SLArrayView.of(array);
+        if (view == null) {
+            throw SLException.typeError(this, array, from, to);
+        }
+        checkBounds(view.size(), from, to);
+        return view.slice((int) from, (int) to);
+    }
+
+    private void checkBounds(int length, long from, long to) {
+        if (from < 0 || from > to || to > length) {
+            throw new SLException("Invalid slice: " + from + ", " + to, this);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.builtins;
+
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import com.oracle.truffle.sl.SLException;
+import com.oracle.truffle.sl.runtime.SLArrayView;
+import com.oracle.truffle.sl.runtime.SLUniformArray;
+
+/**
+ * Builtin function that returns every n-th element of an array, starting with the first one, as
+ * a {@link SLArrayView view} that shares the storage of the array.
+ */
+@NodeInfo(shortName = "stride")
+public abstract class SLStrideBuiltin extends SLBuiltinNode {
+
+    @Specialization
+    protected SLUniformArray stride(SLUniformArray array, long step) {
+        checkStep(step);
+        int length = array.size();
+        return new SLUniformArray(length == 0 ? 0 : (int) ((length - 1) / step + 1), array.getValue());
+    }
+
+    @Specialization
+    protected SLArrayView stride(Object array, long step) {
+        SLArrayView view = SLArrayView.of(array);
+        if (view == null) {
+            throw SLException.typeError(this, array, step);
+        }
+        checkStep(step);
+        return view.stride((int) Math.min(step, Integer.MAX_VALUE));
+    }
+
+    private void checkStep(long step) {
+        if (step <= 0) {
+            throw new SLException("Invalid stride: " + step, this);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.builtins;
+
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import com.oracle.truffle.sl.runtime.SLArrayView;
+import com.oracle.truffle.sl.runtime.SLBigIntegerArray;
+import com.oracle.truffle.sl.runtime.SLContext;
+import com.oracle.truffle.sl.runtime.SLIntegerArray;
+import com.oracle.truffle.sl.runtime.SLLongArray;
+
+/**
+ * Builtin function that returns the array of the indices that sort an array: element {@code i} of
+ * the result is the index of the {@code i}-th smallest element. Equal elements keep their order.
+ */
+@NodeInfo(shortName = "vec_argsort")
+public abstract class SLVecArgsortBuiltin extends SLVecOrderingBuiltin {
+
+    @Specialization
+    protected SLIntegerArray doSLIntegerArray(SLIntegerArray array) {
+        return new SLIntegerArray(argsort(SLContext.get(this), array.getValues()));
+    }
+
+    @Specialization
+    protected SLIntegerArray doSLLongArray(SLLongArray array) {
+        return new SLIntegerArray(argsort(array.getValues(), null));
+    }
+
+    @Specialization
+    protected SLIntegerArray doSLBigIntegerArray(SLBigIntegerArray array) {
+        return new SLIntegerArray(argsort(array.getValues(), array.getOverflow()));
+    }
+
+    @Specialization
+    protected SLIntegerArray doSLArrayView(SLArrayView view) {
+        Object copy = view.copy();
+        if (copy instanceof SLIntegerArray) {
+            return doSLIntegerArray((SLIntegerArray) copy);
+        } else if (copy instanceof SLLongArray) {
+            return doSLLongArray((SLLongArray) copy);
+        }
+        return doSLBigIntegerArray((SLBigIntegerArray) copy);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.builtins;
+
+import java.math.BigInteger;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import com.oracle.truffle.sl.SLException;
+import com.oracle.truffle.sl.runtime.SLArrayView;
+import com.oracle.truffle.sl.runtime.SLBigInteger;
+import com.oracle.truffle.sl.runtime.SLBigIntegerArray;
+import com.oracle.truffle.sl.runtime.SLIntegerArray;
+import com.oracle.truffle.sl.runtime.SLLongArray;
+
+/**
+ * Builtin function that searches a number in a sorted array. Like
+ * {@link java.util.Arrays#binarySearch(long[], long)}, it returns the index of the number if it
+ * was found, and {@code -(insertion point) - 1} otherwise.
+ */
+@NodeInfo(shortName = "vec_bsearch")
+public abstract class SLVecBsearchBuiltin extends SLVecOrderingBuiltin {
+
+    @Specialization
+    protected long doSLIntegerArray(SLIntegerArray array, long key) {
+        int[] values = array.getValues();
+        int low = 0;
+        int high = values.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long value = values[middle];
+            if (value < key) {
+                low = middle + 1;
+            } else if (value > key) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return notFound(low);
+    }
+
+    @Specialization
+    protected long doSLLongArray(SLLongArray array, long key) {
+        long[] values = array.getValues();
+        int low = 0;
+        int high = values.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long value = values[middle];
+            if (value < key) {
+                low = middle + 1;
+            } else if (value > key) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return notFound(low);
+    }
+
+    @Specialization
+    protected long doSLBigIntegerArray(SLBigIntegerArray array, long key) {
+        long[] values = array.getValues();
+        BigInteger[] overflow = array.getOverflow();
+        int low = 0;
+        int high = values.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int order = compare(values[middle], overflow == null ? null : overflow[middle], key);
+            if (order < 0) {
+                low = middle + 1;
+            } else if (order > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return notFound(low);
+    }
+
+    @Specialization
+    protected long doSLArrayView(SLArrayView view, long key) {
+        int low = 0;
+        int high = view.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int order = view.isOverflow(middle) ? view.getBigInteger(middle).signum() : Long.compare(view.getLong(middle), key);
+            if (order < 0) {
+                low = middle + 1;
+            } else if (order > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return notFound(low);
+    }
+
+    /**
+     * Searches a number that does not fit into a {@code long} with {@link BigInteger} comparisons.
+     */
+    @Specialization
+    @TruffleBoundary
+    protected long doSLBigInteger(Object array, SLBigInteger key) {
+        SLArrayView view = SLArrayView.of(array);
+        if (view == null) {
+            throw SLException.typeError(this, array, key);
+        }
+        int low = 0;
+        int high = view.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int order = view.getBigInteger(middle).compareTo(key.getValue());
+            if (order < 0) {
+                low = middle + 1;
+            } else if (order > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return notFound(low);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.builtins;
+
+import com.oracle.truffle.api.nodes.DirectCallNode;
+import com.oracle.truffle.api.nodes.IndirectCallNode;
+import com.oracle.truffle.sl.SLException;
+import com.oracle.truffle.sl.runtime.SLArrayView;
+import com.oracle.truffle.sl.runtime.SLBigInteger;
+import com.oracle.truffle.sl.runtime.SLFunction;
+
+/**
+ * Base class of the builtins that call a function for every element of an array. Like the
+ * {@link SLFunction dispatch of SL calls}, the builtins cache the call target of the function
+ * and call it through a {@link DirectCallNode}, so that the function can be inlined into the loop
+ * over the elements. Once the cache overflows, the function is called through an
+ * {@link IndirectCallNode}.
+ * <p>
+ * The elements are read through a {@link SLArrayView view}, so all kinds of arrays are accepted
+ * without copying them.
+ */
+public abstract class SLVecCallbackBuiltin extends SLBuiltinNode {
+
+    static final int INLINE_CACHE_SIZE = SLFunction.INLINE_CACHE_SIZE;
+
+    protected final SLArrayView toView(Object array, SLFunction function) {
+        SLArrayView view = SLArrayView.of(array);
+        if (view == null) {
+            throw SLException.typeError(this, array, function);
+        }
+        return view;
+    }
+
+    /**
+     * Calls the function with the direct call node of the cached specialization, or with the
+     * indirect call node of the uncached one. The other node is {@code null}.
+     */
+    protected static Object call(DirectCallNode direct, IndirectCallNode indirect, SLFunction function, Object... arguments) {
+        if (direct != null) {
+            return direct.call(arguments);
+        }
+        return indirect.call(function.getCallTarget(), arguments);
+    }
+
+    protected static Object element(SLArrayView view, int index) {
+        if (view.isOverflow(index)) {
+            return new SLBigInteger(view.getBigInteger(index));
+        }
+        return view.getLong(index);
+    }
+}
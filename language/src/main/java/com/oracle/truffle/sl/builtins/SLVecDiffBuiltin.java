@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.builtins;
+
+import java.math.BigInteger;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Cached.Shared;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.LoopNode;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import com.oracle.truffle.api.profiles.InlinedBranchProfile;
+import com.oracle.truffle.sl.runtime.SLArrayView;
+import com.oracle.truffle.sl.runtime.SLBigIntegerArray;
+import com.oracle.truffle.sl.runtime.SLContext;
+import com.oracle.truffle.sl.runtime.SLIntegerArray;
+import com.oracle.truffle.sl.runtime.SLLongArray;
+import com.oracle.truffle.sl.runtime.SLUniformArray;
+
+/**
+ * Builtin function that returns the first differences of an array: element {@code i} of the
+ * result is element {@code i + 1} minus element {@code i}, so the result has one element less.
+ * Differences that do not fit into a {@code long} are stored like in a {@link SLBigIntegerArray}.
+ */
+@NodeInfo(shortName = "vec_diff")
+public abstract class SLVecDiffBuiltin extends SLVecReductionBuiltin {
+
+    @Specialization
+    protected SLUniformArray doSLUniformArray(SLUniformArray array) {
+        return new SLUniformArray(Math.max(array.size() - 1, 0), 0);
+    }
+
+    /**
+     * The difference of two {@code int} values always fits into a {@code long}. The result is
+     * narrowed to an {@link SLIntegerArray} if all differences fit.
+     */
+    @Specialization
+    protected Object doSLIntegerArray(SLIntegerArray array) {
+        int[] values = array.getValues();
+        long[] result = new long[Math.max(values.length - 1, 0)];
+        SLContext context = SLContext.get(this);
+        if (context.isParallel(result.length)) {
+            context.forEachChunk(result.length, (from, to) -> diff(values, result, from, to));
+        } else {
+            diff(values, result, 0, result.length);
+            LoopNode.reportLoopCount(this, result.length);
+        }
+        return SLLongArray.narrow(result);
+    }
+
+    @Specialization
+    protected Object doSLLongArray(SLLongArray array,
+                    @Bind("this") Node node,
+                    @Shared("overflow") @Cached InlinedBranchProfile overflowProfile) {
+        return diffLanes(array.getValues(), null, node, overflowProfile);
+    }
+
+    @Specialization
+    protected Object doSLBigIntegerArray(SLBigIntegerArray array,
+                    @Bind("this") Node node,
+                    @Shared("overflow") @Cached InlinedBranchProfile overflowProfile) {
+        return diffLanes(array.getValues(), array.getOverflow(), node, overflowProfile);
+    }
+
+    @Specialization
+    protected Object doSLArrayView(SLArrayView view,
+                    @Bind("this") Node node,
+                    @Shared("overflow") @Cached InlinedBranchProfile overflowProfile) {
+        Object copy = view.copy();
+        if (copy instanceof SLIntegerArray) {
+            return doSLIntegerArray((SLIntegerArray) copy);
+        } else if (copy instanceof SLLongArray) {
+            return doSLLongArray((SLLongArray) copy, node, overflowProfile);
+        }
+        return doSLBigIntegerArray((SLBigIntegerArray) copy, node, overflowProfile);
+    }
+
+    private Object diffLanes(long[] values, BigInteger[] overflow, Node node, InlinedBranchProfile overflowProfile) {
+        long[] result = new long[Math.max(values.length - 1, 0)];
+        SLBigIntegerArray.OverflowTable table = new SLBigIntegerArray.OverflowTable(result.length);
+        SLContext context = SLContext.get(this);
+        if (context.isParallel(result.length)) {
+            context.forEachChunk(result.length, (from, to) -> diff(values, overflow, result, table, from, to));
+        } else {
+            diff(values, overflow, result, table, 0, result.length);
+            LoopNode.reportLoopCount(this, result.length);
+        }
+        if (table.getValues() != null) {
+            overflowProfile.enter(node);
+            return new SLBigIntegerArray(result, table.getValues());
+        }
+        return new SLLongArray(result);
+    }
+
+    private static void diff(int[] values, long[] result, int from, int to) {
+        for (int i = from; i < to; i++) {
+            result[i] = (long) values[i + 1] - values[i];
+        }
+    }
+
+    private static void diff(long[] values, BigInteger[] overflow, long[] result, SLBigIntegerArray.OverflowTable table, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (overflow == null || (overflow[i] == null && overflow[i + 1] == null)) {
+                long a = values[i + 1];
+                long b = values[i];
+                long r = a - b;
+                if (((a ^ b) & (a ^ r)) >= 0) {
+                    result[i] = r;
+                    continue;
+                }
+            }
+            diffLane(values, overflow, result, table, i);
+        }
+    }
+
+    @TruffleBoundary
+    private static void diffLane(long[] values, BigInteger[] overflow, long[] result, SLBigIntegerArray.OverflowTable table, int i) {
+        BigInteger a = overflow != null && overflow[i + 1] != null ? overflow[i + 1] : BigInteger.valueOf(values[i + 1]);
+        BigInteger b = overflow != null && overflow[i] != null ? overflow[i] : BigInteger.valueOf(values[i]);
+        BigInteger r = a.subtract(b);
+        if (SLBigIntegerArray.fitsInDenseStorage(r)) {
+            result[i] = r.longValue();
+        } else {
+            table.set(i, r);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.builtins;
+
+import java.math.BigInteger;
+
+import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Cached.Shared;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.LoopNode;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import com.oracle.truffle.api.profiles.InlinedBranchProfile;
+import com.oracle.truffle.sl.SLException;
+import com.oracle.truffle.sl.runtime.SLArrayView;
+import com.oracle.truffle.sl.runtime.SLBigIntegerArray;
+import com.oracle.truffle.sl.runtime.SLContext;
+import com.oracle.truffle.sl.runtime.SLIntegerArray;
+import com.oracle.truffle.sl.runtime.SLLongArray;
+
+/**
+ * Builtin function that returns the dot product of two arrays of the same size, i.e. the sum of
+ * the products of their elements. Like {@link SLVecSumBuiltin}, the sum is accumulated in a
+ * {@code long} and promoted to an arbitrary precision number when it overflows.
+ */
+@NodeInfo(shortName = "vec_dot")
+public abstract class SLVecDotBuiltin extends SLVecReductionBuiltin {
+
+    @Specialization
+    protected Object doSLIntegerArray(SLIntegerArray left, SLIntegerArray right,
+                    @Bind("this") Node node,
+                    @Shared("overflow") @Cached InlinedBranchProfile overflowProfile) {
+        int[] a = left.getValues();
+        int[] b = right.getValues();
+        checkSameSize(a.length, b.length);
+        SLContext context = SLContext.get(this);
+        if (context.isParallel(a.length)) {
+            return toNumber(context.reduceChunks(a.length, (from, to) -> dot(a, b, from, to, 0), BigInteger::add));
+        }
+        long sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            long product = (long) a[i] * b[i];
+            long result = sum + product;
+            if (((sum ^ result) & (product ^ result)) < 0) {
+                overflowProfile.enter(node);
+                return toNumber(dot(a, b, i, a.length, sum));
+            }
+            sum = result;
+        }
+        LoopNode.reportLoopCount(this, a.length);
+        return sum;
+    }
+
+    @Specialization
+    protected Object doSLLongArray(SLLongArray left, SLLongArray right,
+                    @Bind("this") Node node,
+                    @Shared("overflow") @Cached InlinedBranchProfile overflowProfile) {
+        return dotLanes(left.getValues(), null, right.getValues(), null, node, overflowProfile);
+    }
+
+    @Specialization
+    protected Object doSLBigIntegerArray(SLBigIntegerArray left, SLBigIntegerArray right,
+                    @Bind("this") Node node,
+                    @Shared("overflow") @Cached InlinedBranchProfile overflowProfile) {
+        return dotLanes(left.getValues(), left.getOverflow(), right.getValues(), right.getOverflow(), node, overflowProfile);
+    }
+
+    @Specialization(guards = "isView(left) || isView(right)")
+    protected Object doSLArrayView(Object left, Object right) {
+        SLArrayView a = SLArrayView.of(left);
+        SLArrayView b = SLArrayView.of(right);
+        if (a == null || b == null) {
+            throw SLException.typeError(this, left, right);
+        }
+        checkSameSize(a.size(), b.size());
+        SLContext context = SLContext.get(this);
+        if (context.isParallel(a.size())) {
+            return toNumber(context.reduceChunks(a.size(), (from, to) -> dot(a, b, from, to, 0), BigInteger::add));
+        }
+        return toNumber(dot(a, b, 0, a.size(), 0));
+    }
+
+    /**
+     * Arrays of different widths are read through views instead of being copied into the wider
+     * storage.
+     */
+    @Specialization(guards = "isMixedWidth(left, right)")
+    protected Object doMixedWidth(Object left, Object right) {
+        return doSLArrayView(left, right);
+    }
+
+    private Object dotLanes(long[] a, BigInteger[] aOverflow, long[] b, BigInteger[] bOverflow, Node node, InlinedBranchProfile overflowProfile) {
+        checkSameSize(a.length, b.length);
+        SLContext context = SLContext.get(this);
+        if (context.isParallel(a.length)) {
+            return toNumber(context.reduceChunks(a.length, (from, to) -> dot(a, aOverflow, b, bOverflow, from, to, 0), BigInteger::add));
+        }
+        if (aOverflow != null || bOverflow != null) {
+            return toNumber(dot(a, aOverflow, b, bOverflow, 0, a.length, 0));
+        }
+        long sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            long product = a[i] * b[i];
+            long result = sum + product;
+            if (Math.multiplyHigh(a[i], b[i]) != (product >> 63) || ((sum ^ result) & (product ^ result)) < 0) {
+                overflowProfile.enter(node);
+                return toNumber(dot(a, null, b, null, i, a.length, sum));
+            }
+            sum = result;
+        }
+        LoopNode.reportLoopCount(this, a.length);
+        return sum;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.builtins;
+
+import com.oracle.truffle.api.Assumption;
+import com.oracle.truffle.api.RootCallTarget;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Cached.Shared;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.DirectCallNode;
+import com.oracle.truffle.api.nodes.IndirectCallNode;
+import com.oracle.truffle.api.nodes.LoopNode;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import com.oracle.truffle.sl.SLException;
+import com.oracle.truffle.sl.nodes.util.SLArrayBuilder;
+import com.oracle.truffle.sl.runtime.SLAllocationSite;
+import com.oracle.truffle.sl.runtime.SLArrayView;
+import com.oracle.truffle.sl.runtime.SLFunction;
+
+/**
+ * Builtin function that calls a function for every element of an array, and returns the array of
+ * the results. The storage of the result is chosen from the numbers the function returned so far.
+ */
+@NodeInfo(shortName = "vec_map")
+public abstract class SLVecMapBuiltin extends SLVecCallbackBuiltin {
+
+    @Specialization(limit = "INLINE_CACHE_SIZE", //
+                    guards = "function.getCallTarget() == cachedTarget", //
+                    assumptions = "callTargetStable")
+    @SuppressWarnings("unused")
+    protected Object mapDirect(Object array, SLFunction function,
+                    @Cached("function.getCallTargetStable()") Assumption callTargetStable,
+                    @Cached("function.getCallTarget()") RootCallTarget cachedTarget,
+                    @Cached("create(cachedTarget)") DirectCallNode callNode,
+                    @Shared("site") @Cached(value = "create()", neverDefault = true) SLAllocationSite site) {
+        return map(array, function, callNode, null, site);
+    }
+
+    @Specialization(replaces = "mapDirect")
+    protected Object mapIndirect(Object array, SLFunction function,
+                    @Cached IndirectCallNode callNode,
+                    @Shared("site") @Cached(value = "create()", neverDefault = true) SLAllocationSite site) {
+        return map(array, function, null, callNode, site);
+    }
+
+    private Object map(Object array, SLFunction function, DirectCallNode direct, IndirectCallNode indirect, SLAllocationSite site) {
+        SLArrayView view = toView(array, function);
+        int length = view.size();
+        SLArrayBuilder result = new SLArrayBuilder(site, length);
+        for (int i = 0; i < length; i++) {
+            Object value = call(direct, indirect, function, element(view, i));
+            if (!result.set(i, value)) {
+                throw SLException.typeError(this, value);
+            }
+        }
+        LoopNode.reportLoopCount(this, length);
+        return result.build(length);
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.builtins;
+
+import java.math.BigInteger;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.LoopNode;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import com.oracle.truffle.sl.runtime.SLArrayView;
+import com.oracle.truffle.sl.runtime.SLBigIntegerArray;
+import com.oracle.truffle.sl.runtime.SLContext;
+import com.oracle.truffle.sl.runtime.SLIntegerArray;
+import com.oracle.truffle.sl.runtime.SLLongArray;
+import com.oracle.truffle.sl.runtime.SLUniformArray;
+
+/**
+ * Builtin function that returns the largest element of a non-empty array.
+ */
+@NodeInfo(shortName = "vec_max")
+public abstract class SLVecMaxBuiltin extends SLVecReductionBuiltin {
+
+    @Specialization
+    protected long doSLUniformArray(SLUniformArray array) {
+        checkNotEmpty(array.size());
+        return array.getValue();
+    }
+
+    @Specialization
+    protected long doSLIntegerArray(SLIntegerArray array) {
+        int[] values = array.getValues();
+        checkNotEmpty(values.length);
+        SLContext context = SLContext.get(this);
+        if (context.isParallel(values.length)) {
+            return context.reduceChunks(values.length, (from, to) -> max(values, from, to), Math::max);
+        }
+        LoopNode.reportLoopCount(this, values.length);
+        return max(values, 0, values.length);
+    }
+
+    @Specialization
+    protected long doSLLongArray(SLLongArray array) {
+        long[] values = array.getValues();
+        checkNotEmpty(values.length);
+        SLContext context = SLContext.get(this);
+        if (context.isParallel(values.length)) {
+            return context.reduceChunks(values.length, (from, to) -> max(values, from, to), Math::max);
+        }
+        LoopNode.reportLoopCount(this, values.length);
+        return max(values, 0, values.length);
+    }
+
+    @Specialization
+    protected Object doSLBigIntegerArray(SLBigIntegerArray array) {
+        long[] values = array.getValues();
+        checkNotEmpty(values.length);
+        if (array.getOverflow() != null) {
+            return toNumber(max(values, array.getOverflow()));
+        }
+        SLContext context = SLContext.get(this);
+        if (context.isParallel(values.length)) {
+            return context.reduceChunks(values.length, (from, to) -> max(values, from, to), Math::max);
+        }
+        LoopNode.reportLoopCount(this, values.length);
+        return max(values, 0, values.length);
+    }
+
+    @Specialization
+    protected Object doSLArrayView(SLArrayView view) {
+        checkNotEmpty(view.size());
+        return max(view);
+    }
+
+    private static long max(int[] values, int from, int to) {
+        int result = values[from];
+        for (int i = from + 1; i < to; i++) {
+            result = Math.max(result, values[i]);
+        }
+        return result;
+    }
+
+    private static long max(long[] values, int from, int to) {
+        long result = values[from];
+        for (int i = from + 1; i < to; i++) {
+            result = Math.max(result, values[i]);
+        }
+        return result;
+    }
+
+    @TruffleBoundary
+    private static BigInteger max(long[] values, BigInteger[] overflow) {
+        BigInteger result = null;
+        for (int i = 0; i < values.length; i++) {
+            BigInteger value = overflow[i] != null ? overflow[i] : BigInteger.valueOf(values[i]);
+            if (result == null || value.compareTo(result) > 0) {
+                result = value;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the largest element of a view. The elements that do not fit into a {@code long} are
+     * outside of its range, so they only decide the result if they are positive.
+     */
+    @TruffleBoundary
+    private static Object max(SLArrayView view) {
+        long result = 0;
+        boolean dense = false;
+        BigInteger overflow = null;
+        for (int i = 0; i < view.size(); i++) {
+            if (view.isOverflow(i)) {
+                BigInteger value = view.getBigInteger(i);
+                if (overflow == null || value.compareTo(overflow) > 0) {
+                    overflow = value;
+                }
+            } else {
+                long value = view.getLong(i);
+                result = dense ? Math.max(result, value) : value;
+                dense = true;
+            }
+        }
+        if (overflow != null && (!dense || overflow.signum() > 0)) {
+            return toNumber(overflow);
+        }
+        return result;
+    }
+}
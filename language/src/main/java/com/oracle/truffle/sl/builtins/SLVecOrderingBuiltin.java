@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.builtins;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.sl.runtime.SLBigIntegerArray;
+import com.oracle.truffle.sl.runtime.SLContext;
+import com.oracle.truffle.sl.runtime.SLIntegerArray;
+import com.oracle.truffle.sl.runtime.SLLongArray;
+
+/**
+ * Base class of the builtins that sort and search arrays. The kernels work on the primitive
+ * storage of the arrays, so no element is boxed and no comparator is called. Arrays above the
+ * {@link SLContext#isParallel(int) parallel threshold} are sorted with
+ * {@link Arrays#parallelSort(long[])} on the {@link SLContext#runParallel thread pool} of the
+ * context.
+ * <p>
+ * The elements of a {@link SLBigIntegerArray} that do not fit into a {@code long} are outside of
+ * its range, so their sign alone orders them relative to the dense elements. Only the overflowed
+ * elements are compared with each other as {@link BigInteger}.
+ */
+public abstract class SLVecOrderingBuiltin extends SLBuiltinNode {
+
+    /**
+     * Sorts a dense array in place.
+     */
+    protected static void sort(SLContext context, Object array) {
+        if (array instanceof SLIntegerArray) {
+            sort(context, ((SLIntegerArray) array).getValues());
+        } else if (array instanceof SLLongArray) {
+            sort(context, ((SLLongArray) array).getValues());
+        } else {
+            sort(context, (SLBigIntegerArray) array);
+        }
+    }
+
+    @TruffleBoundary
+    protected static void sort(SLContext context, int[] values) {
+        if (context.isParallel(values.length)) {
+            context.runParallel(() -> Arrays.parallelSort(values));
+        } else {
+            Arrays.sort(values);
+        }
+    }
+
+    @TruffleBoundary
+    protected static void sort(SLContext context, long[] values) {
+        if (context.isParallel(values.length)) {
+            context.runParallel(() -> Arrays.parallelSort(values));
+        } else {
+            Arrays.sort(values);
+        }
+    }
+
+    /**
+     * Sorts the dense elements as {@code long} values, and places the overflowed elements before
+     * or after them depending on their sign.
+     */
+    @TruffleBoundary
+    protected static void sort(SLContext context, SLBigIntegerArray array) {
+        long[] values = array.getValues();
+        BigInteger[] overflow = array.getOverflow();
+        if (overflow == null) {
+            sort(context, values);
+            return;
+        }
+        int negativeCount = 0;
+        int positiveCount = 0;
+        for (BigInteger value : overflow) {
+            if (value != null) {
+                if (value.signum() < 0) {
+                    negativeCount++;
+                } else {
+                    positiveCount++;
+                }
+            }
+        }
+        BigInteger[] negative = new BigInteger[negativeCount];
+        BigInteger[] positive = new BigInteger[positiveCount];
+        long[] dense = new long[values.length - negativeCount - positiveCount];
+        int n = 0;
+        int p = 0;
+        int d = 0;
+        for (int i = 0; i < values.length; i++) {
+            BigInteger value = overflow[i];
+            if (value == null) {
+                dense[d++] = values[i];
+            } else if (value.signum() < 0) {
+                negative[n++] = value;
+            } else {
+                positive[p++] = value;
+            }
+        }
+        Arrays.sort(negative);
+        Arrays.sort(positive);
+        sort(context, dense);
+        int index = 0;
+        for (BigInteger value : negative) {
+            array.set(index++, value);
+        }
+        for (long value : dense) {
+            array.set(index++, value);
+        }
+        for (BigInteger value : positive) {
+            array.set(index++, value);
+        }
+    }
+
+    /**
+     * Returns the indices that sort the elements, keeping equal elements in their order. The
+     * elements and their indices are packed into a single {@code long} each, so that a primitive
+     * sort orders them.
+     */
+    @TruffleBoundary
+    protected static int[] argsort(SLContext context, int[] values) {
+        long[] packed = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            packed[i] = ((long) values[i] << 32) | i;
+        }
+        sort(context, packed);
+        int[] result = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = (int) packed[i];
+        }
+        return result;
+    }
+
+    /**
+     * Same as {@link #argsort(SLContext, int[])} for elements stored like in a
+     * {@link SLBigIntegerArray}, which do not leave room for an index. The indices are sorted with
+     * a bottom-up merge sort that compares the elements they refer to.
+     */
+    @TruffleBoundary
+    protected static int[] argsort(long[] values, BigInteger[] overflow) {
+        int length = values.length;
+        int[] indices = new int[length];
+        for (int i = 0; i < length; i++) {
+            indices[i] = i;
+        }
+        int[] buffer = new int[length];
+        for (int width = 1; width < length; width *= 2) {
+            for (int from = 0; from < length - width; from += 2 * width) {
+                int middle = from + width;
+                int to = Math.min(from + 2 * width, length);
+                int left = from;
+                int right = middle;
+                int next = from;
+                while (left < middle && right < to) {
+                    if (compare(values, overflow, indices[right], indices[left]) < 0) {
+                        buffer[next++] = indices[right++];
+                    } else {
+                        buffer[next++] = indices[left++];
+                    }
+                }
+                System.arraycopy(indices, left, buffer, next, middle - left);
+                System.arraycopy(indices, right, buffer, next + middle - left, to - right);
+                System.arraycopy(buffer, from, indices, from, to - from);
+            }
+        }
+        return indices;
+    }
+
+    private static int compare(long[] values, BigInteger[] overflow, int i, int j) {
+        if (overflow == null || (overflow[i] == null && overflow[j] == null)) {
+            return Long.compare(values[i], values[j]);
+        } else if (overflow[i] != null && overflow[j] != null) {
+            return overflow[i].compareTo(overflow[j]);
+        } else if (overflow[i] != null) {
+            return overflow[i].signum();
+        }
+        return -overflow[j].signum();
+    }
+
+    /**
+     * Returns the sign of {@code element - key} for an element that is stored in the overflow
+     * side table, or in the dense storage if {@code overflow} is {@code null}.
+     */
+    protected static int compare(long element, BigInteger overflow, long key) {
+        if (overflow != null) {
+            return overflow.signum();
+        }
+        return Long.compare(element, key);
+    }
+
+    /**
+     * Encodes the result of a search like {@link Arrays#binarySearch(long[], long)}: the index of
+     * the key if it was found, and {@code -(insertion point) - 1} otherwise.
+     */
+    protected static long notFound(int insertionPoint) {
+        return -insertionPoint - 1L;
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.builtins;
+
+import java.math.BigInteger;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.sl.SLException;
+import com.oracle.truffle.sl.nodes.SLTypes;
+import com.oracle.truffle.sl.runtime.SLArrayView;
+import com.oracle.truffle.sl.runtime.SLBigInteger;
+
+/**
+ * Base class of the builtins that reduce arrays to a single number, or to their prefix sums. Sums
+ * are accumulated in a {@code long} and only spill into a {@link BigInteger} when the accumulator
+ * overflows, so the common case never allocates. The reduction kernels in this class work on index ranges so that
+ * they can also compute the partial results of a parallel reduction, see
+ * {@link com.oracle.truffle.sl.runtime.SLContext#reduceChunks}.
+ */
+public abstract class SLVecReductionBuiltin extends SLBuiltinNode {
+
+    /**
+     * Converts a result to an SL number: a {@code long} if it fits, an {@link SLBigInteger}
+     * otherwise.
+     */
+    @TruffleBoundary
+    protected static Object toNumber(BigInteger value) {
+        if (value.bitLength() < Long.SIZE) {
+            return value.longValue();
+        }
+        return new SLBigInteger(value);
+    }
+
+    /**
+     * Multiplies two numbers that are known to overflow a {@code long}.
+     */
+    @TruffleBoundary
+    protected static Object multiply(long left, long right) {
+        return toNumber(BigInteger.valueOf(left).multiply(BigInteger.valueOf(right)));
+    }
+
+    protected final void checkNotEmpty(int length) {
+        if (length == 0) {
+            throw new SLException("Cannot reduce an empty array.", this);
+        }
+    }
+
+    protected static boolean isView(Object value) {
+        return SLTypes.isSLArrayView(value);
+    }
+
+    protected static boolean isMixedWidth(Object left, Object right) {
+        return SLTypes.isMixedWidth(left, right);
+    }
+
+    protected final void checkSameSize(int leftLength, int rightLength) {
+        if (leftLength != rightLength) {
+            throw new SLException("Arrays not of same size!", this);
+        }
+    }
+
+    /**
+     * Sums the elements {@code [from, to)}. The result always fits into a {@code long} because an
+     * array has less than 2^31 elements.
+     */
+    protected static long sum(int[] values, int from, int to) {
+        long sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Adds the elements {@code [from, to)} to {@code start}. The elements are stored like in a
+     * {@link com.oracle.truffle.sl.runtime.SLBigIntegerArray}: {@code overflow} may be
+     * {@code null}, and otherwise holds the elements that do not fit into {@code values}.
+     */
+    @TruffleBoundary
+    protected static BigInteger sum(long[] values, BigInteger[] overflow, int from, int to, long start) {
+        BigInteger big = BigInteger.ZERO;
+        long sum = start;
+        for (int i = from; i < to; i++) {
+            if (overflow != null && overflow[i] != null) {
+                big = big.add(overflow[i]);
+                continue;
+            }
+            long value = values[i];
+            long result = sum + value;
+            if (((sum ^ result) & (value ^ result)) < 0) {
+                big = big.add(BigInteger.valueOf(sum));
+                result = value;
+            }
+            sum = result;
+        }
+        return big.add(BigInteger.valueOf(sum));
+    }
+
+    /**
+     * Adds the products of the elements {@code [from, to)} to {@code start}. A single product of
+     * two {@code int} values always fits into a {@code long}.
+     */
+    @TruffleBoundary
+    protected static BigInteger dot(int[] left, int[] right, int from, int to, long start) {
+        BigInteger big = BigInteger.ZERO;
+        long sum = start;
+        for (int i = from; i < to; i++) {
+            long product = (long) left[i] * right[i];
+            long result = sum + product;
+            if (((sum ^ result) & (product ^ result)) < 0) {
+                big = big.add(BigInteger.valueOf(sum));
+                result = product;
+            }
+            sum = result;
+        }
+        return big.add(BigInteger.valueOf(sum));
+    }
+
+    /**
+     * Adds the products of the elements {@code [from, to)} to {@code start}. The operands are
+     * stored like in {@link #sum(long[], BigInteger[], int, int, long)}.
+     */
+    @TruffleBoundary
+    protected static BigInteger dot(long[] left, BigInteger[] leftOverflow, long[] right, BigInteger[] rightOverflow, int from, int to, long start) {
+        BigInteger big = BigInteger.ZERO;
+        long sum = start;
+        for (int i = from; i < to; i++) {
+            boolean leftBig = leftOverflow != null && leftOverflow[i] != null;
+            boolean rightBig = rightOverflow != null && rightOverflow[i] != null;
+            long a = left[i];
+            long b = right[i];
+            long product = a * b;
+            if (leftBig || rightBig || Math.multiplyHigh(a, b) != (product >> 63)) {
+                BigInteger l = leftBig ? leftOverflow[i] : BigInteger.valueOf(a);
+                BigInteger r = rightBig ? rightOverflow[i] : BigInteger.valueOf(b);
+                big = big.add(l.multiply(r));
+                continue;
+            }
+            long result = sum + product;
+            if (((sum ^ result) & (product ^ result)) < 0) {
+                big = big.add(BigInteger.valueOf(sum));
+                result = product;
+            }
+            sum = result;
+        }
+        return big.add(BigInteger.valueOf(sum));
+    }
+
+    /**
+     * Adds the elements {@code [from, to)} of a view to {@code start}.
+     */
+    @TruffleBoundary
+    protected static BigInteger sum(SLArrayView view, int from, int to, long start) {
+        BigInteger big = BigInteger.ZERO;
+        long sum = start;
+        for (int i = from; i < to; i++) {
+            if (view.isOverflow(i)) {
+                big = big.add(view.getBigInteger(i));
+                continue;
+            }
+            long value = view.getLong(i);
+            long result = sum + value;
+            if (((sum ^ result) & (value ^ result)) < 0) {
+                big = big.add(BigInteger.valueOf(sum));
+                result = value;
+            }
+            sum = result;
+        }
+        return big.add(BigInteger.valueOf(sum));
+    }
+
+    /**
+     * Adds the products of the elements {@code [from, to)} of two views to {@code start}.
+     */
+    @TruffleBoundary
+    protected static BigInteger dot(SLArrayView left, SLArrayView right, int from, int to, long start) {
+        BigInteger big = BigInteger.ZERO;
+        long sum = start;
+        for (int i = from; i < to; i++) {
+            if (left.isOverflow(i) || right.isOverflow(i)) {
+                big = big.add(left.getBigInteger(i).multiply(right.getBigInteger(i)));
+                continue;
+            }
+            long a = left.getLong(i);
+            long b = right.getLong(i);
+            long product = a * b;
+            if (Math.multiplyHigh(a, b) != (product >> 63)) {
+                big = big.add(BigInteger.valueOf(a).multiply(BigInteger.valueOf(b)));
+                continue;
+            }
+            long result = sum + product;
+            if (((sum ^ result) & (product ^ result)) < 0) {
+                big = big.add(BigInteger.valueOf(sum));
+                result = product;
+            }
+            sum = result;
+        }
+        return big.add(BigInteger.valueOf(sum));
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.builtins;
+
+import java.math.BigInteger;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Cached.Shared;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.LoopNode;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import com.oracle.truffle.api.profiles.InlinedBranchProfile;
+import com.oracle.truffle.sl.runtime.SLArrayView;
+import com.oracle.truffle.sl.runtime.SLBigIntegerArray;
+import com.oracle.truffle.sl.runtime.SLContext;
+import com.oracle.truffle.sl.runtime.SLIntegerArray;
+import com.oracle.truffle.sl.runtime.SLLongArray;
+
+/**
+ * Builtin function that returns the inclusive prefix sums of an array: element {@code i} of the
+ * result is the sum of the elements {@code 0} to {@code i}. Like the vector operators, the result
+ * widens in place at the first sum that does not fit, and continues from there.
+ * <p>
+ * Arrays above the {@link SLContext#isParallel(int) parallel threshold} are scanned with
+ * {@link SLContext#scanChunks}: the chunks are summed up in parallel first, and then scanned in
+ * parallel starting from the sum of all chunks before them.
+ */
+@NodeInfo(shortName = "vec_scan")
+public abstract class SLVecScanBuiltin extends SLVecReductionBuiltin {
+
+    @Specialization
+    protected Object doSLIntegerArray(SLIntegerArray array,
+                    @Bind("this") Node node,
+                    @Shared("overflow") @Cached InlinedBranchProfile overflowProfile) {
+        int[] values = array.getValues();
+        SLContext context = SLContext.get(this);
+        if (context.isParallel(values.length)) {
+            long[] result = new long[values.length];
+            context.scanChunks(values.length, (from, to) -> sum(values, from, to), Long::sum, 0L, (from, to, prefix) -> scan(values, result, from, to, prefix));
+            return SLLongArray.narrow(result);
+        }
+        int[] result = new int[values.length];
+        long sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+            if ((int) sum != sum) {
+                overflowProfile.enter(node);
+                long[] longResult = new long[values.length];
+                for (int k = 0; k < i; k++) {
+                    longResult[k] = result[k];
+                }
+                scan(values, longResult, i, values.length, sum - values[i]);
+                return new SLLongArray(longResult);
+            }
+            result[i] = (int) sum;
+        }
+        LoopNode.reportLoopCount(this, values.length);
+        return new SLIntegerArray(result);
+    }
+
+    @Specialization
+    protected Object doSLLongArray(SLLongArray array,
+                    @Bind("this") Node node,
+                    @Shared("overflow") @Cached InlinedBranchProfile overflowProfile) {
+        return scanLanes(array.getValues(), null, node, overflowProfile);
+    }
+
+    @Specialization
+    protected Object doSLBigIntegerArray(SLBigIntegerArray array,
+                    @Bind("this") Node node,
+                    @Shared("overflow") @Cached InlinedBranchProfile overflowProfile) {
+        return scanLanes(array.getValues(), array.getOverflow(), node, overflowProfile);
+    }
+
+    @Specialization
+    protected Object doSLArrayView(SLArrayView view,
+                    @Bind("this") Node node,
+                    @Shared("overflow") @Cached InlinedBranchProfile overflowProfile) {
+        Object copy = view.copy();
+        if (copy instanceof SLIntegerArray) {
+            return doSLIntegerArray((SLIntegerArray) copy, node, overflowProfile);
+        } else if (copy instanceof SLLongArray) {
+            return doSLLongArray((SLLongArray) copy, node, overflowProfile);
+        }
+        return doSLBigIntegerArray((SLBigIntegerArray) copy, node, overflowProfile);
+    }
+
+    /**
+     * Scans elements stored like in a {@link SLBigIntegerArray}. The loop runs with a {@code long}
+     * sum until the first element or sum that does not fit, and continues with
+     * {@link BigInteger} arithmetic from there.
+     */
+    private Object scanLanes(long[] values, BigInteger[] overflow, Node node, InlinedBranchProfile overflowProfile) {
+        long[] result = new long[values.length];
+        SLBigIntegerArray.OverflowTable table = new SLBigIntegerArray.OverflowTable(values.length);
+        SLContext context = SLContext.get(this);
+        if (context.isParallel(values.length)) {
+            context.scanChunks(values.length, (from, to) -> sum(values, overflow, from, to, 0), BigInteger::add, BigInteger.ZERO,
+                            (from, to, prefix) -> scan(values, overflow, result, table, from, to, prefix));
+        } else {
+            long sum = 0;
+            int i = 0;
+            for (; i < values.length; i++) {
+                if (overflow != null && overflow[i] != null) {
+                    break;
+                }
+                long value = values[i];
+                long next = sum + value;
+                if (((sum ^ next) & (value ^ next)) < 0) {
+                    break;
+                }
+                result[i] = sum = next;
+            }
+            LoopNode.reportLoopCount(this, i);
+            if (i < values.length) {
+                overflowProfile.enter(node);
+                scan(values, overflow, result, table, i, values.length, sum);
+            }
+        }
+        if (table.getValues() == null) {
+            return new SLLongArray(result);
+        }
+        return new SLBigIntegerArray(result, table.getValues());
+    }
+
+    private static void scan(int[] values, long[] result, int from, int to, long start) {
+        long sum = start;
+        for (int i = from; i < to; i++) {
+            sum += values[i];
+            result[i] = sum;
+        }
+    }
+
+    @TruffleBoundary
+    private static void scan(long[] values, BigInteger[] overflow, long[] result, SLBigIntegerArray.OverflowTable table, int from, int to, long start) {
+        scan(values, overflow, result, table, from, to, BigInteger.valueOf(start));
+    }
+
+    /**
+     * Scans the elements {@code [from, to)} starting from the sum of all elements before them. The
+     * sum is kept in a {@code long} whenever it fits.
+     */
+    @TruffleBoundary
+    private static void scan(long[] values, BigInteger[] overflow, long[] result, SLBigIntegerArray.OverflowTable table, int from, int to, BigInteger start) {
+        BigInteger big = SLBigIntegerArray.fitsInDenseStorage(start) ? null : start;
+        long sum = big == null ? start.longValue() : 0;
+        for (int i = from; i < to; i++) {
+            boolean dense = overflow == null || overflow[i] == null;
+            if (big == null) {
+                if (dense) {
+                    long value = values[i];
+                    long next = sum + value;
+                    if (((sum ^ next) & (value ^ next)) >= 0) {
+                        result[i] = sum = next;
+                        continue;
+                    }
+                }
+                big = BigInteger.valueOf(sum);
+            }
+            big = big.add(dense ? BigInteger.valueOf(values[i]) : overflow[i]);
+            if (SLBigIntegerArray.fitsInDenseStorage(big)) {
+                result[i] = sum = big.longValue();
+                big = null;
+            } else {
+                table.set(i, big);
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.builtins;
+
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.LoopNode;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import com.oracle.truffle.sl.SLException;
+import com.oracle.truffle.sl.runtime.SLArrayView;
+import com.oracle.truffle.sl.runtime.SLBigInteger;
+import com.oracle.truffle.sl.runtime.SLBigIntegerArray;
+import com.oracle.truffle.sl.runtime.SLBitmaskArray;
+import com.oracle.truffle.sl.runtime.SLContext;
+import com.oracle.truffle.sl.runtime.SLIntegerArray;
+import com.oracle.truffle.sl.runtime.SLLongArray;
+import com.oracle.truffle.sl.runtime.SLUniformArray;
+
+/**
+ * Builtin function {@code vec_select(mask, a, b)} that returns an array with element {@code i} of
+ * {@code a} where element {@code i} of the {@link SLBitmaskArray mask} is {@code true}, and element
+ * {@code i} of {@code b} otherwise. Either operand may also be a number that is used for every
+ * element, e.g. {@code vec_select(a vec_lt 0, 0, a)}.
+ * <p>
+ * The loops go over the words of the mask and pick the lanes of a word from its bits, so the mask
+ * is never unpacked. Operands of different widths, {@link SLBigIntegerArray big integer arrays}
+ * and views are read through {@link SLArrayView views}.
+ */
+@NodeInfo(shortName = "vec_select")
+public abstract class SLVecSelectBuiltin extends SLVecReductionBuiltin {
+
+    @Specialization
+    protected SLIntegerArray doSLIntegerArray(SLBitmaskArray mask, SLIntegerArray a, SLIntegerArray b) {
+        int[] aValues = a.getValues();
+        int[] bValues = b.getValues();
+        checkSameSize(mask.size(), aValues.length);
+        checkSameSize(mask.size(), bValues.length);
+        long[] words = mask.getWords();
+        int[] result = new int[aValues.length];
+        SLContext context = SLContext.get(this);
+        if (context.isParallel(result.length)) {
+            context.forEachChunk(words.length, (from, to) -> select(words, aValues, bValues, result, from, to));
+        } else {
+            select(words, aValues, bValues, result, 0, words.length);
+            LoopNode.reportLoopCount(this, result.length);
+        }
+        return new SLIntegerArray(result);
+    }
+
+    @Specialization
+    protected SLLongArray doSLLongArray(SLBitmaskArray mask, SLLongArray a, SLLongArray b) {
+        long[] aValues = a.getValues();
+        long[] bValues = b.getValues();
+        checkSameSize(mask.size(), aValues.length);
+        checkSameSize(mask.size(), bValues.length);
+        long[] words = mask.getWords();
+        long[] result = new long[aValues.length];
+        SLContext context = SLContext.get(this);
+        if (context.isParallel(result.length)) {
+            context.forEachChunk(words.length, (from, to) -> select(words, aValues, bValues, result, from, to));
+        } else {
+            select(words, aValues, bValues, result, 0, words.length);
+            LoopNode.reportLoopCount(this, result.length);
+        }
+        return new SLLongArray(result);
+    }
+
+    @Specialization(guards = {"isOperand(a)", "isOperand(b)"})
+    protected Object doSLArrayView(SLBitmaskArray mask, Object a, Object b) {
+        int length = mask.size();
+        SLArrayView aView = view(mask, a, b);
+        SLArrayView bView = view(mask, b, a);
+        checkSameSize(length, aView.size());
+        checkSameSize(length, bView.size());
+        long[] words = mask.getWords();
+        long[] result = new long[length];
+        SLBigIntegerArray.OverflowTable overflow = new SLBigIntegerArray.OverflowTable(length);
+        SLContext context = SLContext.get(this);
+        if (context.isParallel(length)) {
+            context.forEachChunk(words.length, (from, to) -> select(words, aView, bView, result, overflow, from, to));
+        } else {
+            select(words, aView, bView, result, overflow, 0, words.length);
+            LoopNode.reportLoopCount(this, length);
+        }
+        if (overflow.getValues() != null) {
+            return new SLBigIntegerArray(result, overflow.getValues());
+        } else if (aView.getInts() != null && bView.getInts() != null) {
+            return SLLongArray.narrow(result);
+        }
+        return new SLLongArray(result);
+    }
+
+    protected static boolean isOperand(Object value) {
+        return value instanceof Long || value instanceof SLBigInteger || value instanceof SLIntegerArray || value instanceof SLLongArray || value instanceof SLBigIntegerArray ||
+                        value instanceof SLUniformArray || value instanceof SLArrayView;
+    }
+
+    /**
+     * Returns the view of an operand, which is broadcast to the length of the mask if it is a
+     * number.
+     */
+    private SLArrayView view(SLBitmaskArray mask, Object operand, Object other) {
+        SLArrayView view = SLArrayView.of(operand);
+        if (view == null) {
+            view = SLArrayView.broadcast(operand, mask.size());
+        }
+        if (view == null) {
+            throw SLException.typeError(this, mask, operand, other);
+        }
+        return view;
+    }
+
+    /**
+     * Selects the elements of the words {@code [fromWord, toWord)} of the mask.
+     */
+    private static void select(long[] words, int[] a, int[] b, int[] result, int fromWord, int toWord) {
+        for (int w = fromWord; w < toWord; w++) {
+            long bits = words[w];
+            int end = (int) Math.min((w + 1L) << 6, result.length);
+            for (int i = w << 6; i < end; i++) {
+                result[i] = (bits & (1L << i)) != 0 ? a[i] : b[i];
+            }
+        }
+    }
+
+    private static void select(long[] words, long[] a, long[] b, long[] result, int fromWord, int toWord) {
+        for (int w = fromWord; w < toWord; w++) {
+            long bits = words[w];
+            int end = (int) Math.min((w + 1L) << 6, result.length);
+            for (int i = w << 6; i < end; i++) {
+                result[i] = (bits & (1L << i)) != 0 ? a[i] : b[i];
+            }
+        }
+    }
+
+    private static void select(long[] words, SLArrayView a, SLArrayView b, long[] result, SLBigIntegerArray.OverflowTable overflow, int fromWord, int toWord) {
+        for (int w = fromWord; w < toWord; w++) {
+            long bits = words[w];
+            int end = (int) Math.min((w + 1L) << 6, result.length);
+            for (int i = w << 6; i < end; i++) {
+                SLArrayView source = (bits & (1L << i)) != 0 ? a : b;
+                if (CompilerDirectives.injectBranchProbability(CompilerDirectives.FASTPATH_PROBABILITY, !source.isOverflow(i))) {
+                    result[i] = source.getLong(i);
+                } else {
+                    selectOverflowingLane(source, overflow, i);
+                }
+            }
+        }
+    }
+
+    @TruffleBoundary
+    private static void selectOverflowingLane(SLArrayView source, SLBigIntegerArray.OverflowTable overflow, int i) {
+        overflow.set(i, source.getBigInteger(i));
+    }
+}
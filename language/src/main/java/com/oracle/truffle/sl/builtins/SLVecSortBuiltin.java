@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.builtins;
+
+import java.math.BigInteger;
+
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import com.oracle.truffle.sl.runtime.SLArrayView;
+import com.oracle.truffle.sl.runtime.SLBigIntegerArray;
+import com.oracle.truffle.sl.runtime.SLContext;
+import com.oracle.truffle.sl.runtime.SLIntegerArray;
+import com.oracle.truffle.sl.runtime.SLLongArray;
+import com.oracle.truffle.sl.runtime.SLUniformArray;
+
+/**
+ * Builtin function that returns a sorted copy of an array. The copy has the same storage as the
+ * array. See {@code vec_sort_in_place} for sorting without a copy.
+ */
+@NodeInfo(shortName = "vec_sort")
+public abstract class SLVecSortBuiltin extends SLVecOrderingBuiltin {
+
+    /**
+     * Uniform arrays are always sorted, the copy is again uniform.
+     */
+    @Specialization
+    protected SLUniformArray doSLUniformArray(SLUniformArray array) {
+        return new SLUniformArray(array.size(), array.getValue());
+    }
+
+    @Specialization
+    protected SLIntegerArray doSLIntegerArray(SLIntegerArray array) {
+        int[] values = array.getValues().clone();
+        sort(SLContext.get(this), values);
+        return new SLIntegerArray(values);
+    }
+
+    @Specialization
+    protected SLLongArray doSLLongArray(SLLongArray array) {
+        long[] values = array.getValues().clone();
+        sort(SLContext.get(this), values);
+        return new SLLongArray(values);
+    }
+
+    @Specialization
+    protected SLBigIntegerArray doSLBigIntegerArray(SLBigIntegerArray array) {
+        BigInteger[] overflow = array.getOverflow();
+        SLBigIntegerArray result = new SLBigIntegerArray(array.getValues().clone(), overflow == null ? null : overflow.clone());
+        sort(SLContext.get(this), result);
+        return result;
+    }
+
+    @Specialization
+    protected Object doSLArrayView(SLArrayView view) {
+        Object result = view.copy();
+        sort(SLContext.get(this), result);
+        return result;
+    }
+}
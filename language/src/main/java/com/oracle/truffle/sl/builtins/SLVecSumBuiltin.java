@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.builtins;
+
+import java.math.BigInteger;
+
+import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Cached.Shared;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.LoopNode;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import com.oracle.truffle.api.profiles.InlinedBranchProfile;
+import com.oracle.truffle.sl.runtime.SLArrayView;
+import com.oracle.truffle.sl.runtime.SLBigIntegerArray;
+import com.oracle.truffle.sl.runtime.SLContext;
+import com.oracle.truffle.sl.runtime.SLIntegerArray;
+import com.oracle.truffle.sl.runtime.SLLongArray;
+import com.oracle.truffle.sl.runtime.SLUniformArray;
+
+/**
+ * Builtin function that returns the sum of the elements of an array. The sum of an int array
+ * always fits into a {@code long}; sums of wider arrays are promoted to an arbitrary precision
+ * number when they overflow.
+ */
+@NodeInfo(shortName = "vec_sum")
+public abstract class SLVecSumBuiltin extends SLVecReductionBuiltin {
+
+    @Specialization
+    protected Object doSLUniformArray(SLUniformArray array) {
+        long value = array.getValue();
+        long length = array.size();
+        long sum = value * length;
+        if (Math.multiplyHigh(value, length) != (sum >> 63)) {
+            return multiply(value, length);
+        }
+        return sum;
+    }
+
+    @Specialization
+    protected long doSLIntegerArray(SLIntegerArray array) {
+        int[] values = array.getValues();
+        SLContext context = SLContext.get(this);
+        if (context.isParallel(values.length)) {
+            return context.reduceChunks(values.length, (from, to) -> sum(values, from, to), Long::sum);
+        }
+        LoopNode.reportLoopCount(this, values.length);
+        return sum(values, 0, values.length);
+    }
+
+    @Specialization
+    protected Object doSLLongArray(SLLongArray array,
+                    @Bind("this") Node node,
+                    @Shared("overflow") @Cached InlinedBranchProfile overflowProfile) {
+        return sumLanes(array.getValues(), null, node, overflowProfile);
+    }
+
+    @Specialization
+    protected Object doSLBigIntegerArray(SLBigIntegerArray array,
+                    @Bind("this") Node node,
+                    @Shared("overflow") @Cached InlinedBranchProfile overflowProfile) {
+        return sumLanes(array.getValues(), array.getOverflow(), node, overflowProfile);
+    }
+
+    @Specialization
+    protected Object doSLArrayView(SLArrayView view) {
+        int length = view.size();
+        SLContext context = SLContext.get(this);
+        if (context.isParallel(length)) {
+            return toNumber(context.reduceChunks(length, (from, to) -> sum(view, from, to, 0), BigInteger::add));
+        }
+        return toNumber(sum(view, 0, length, 0));
+    }
+
+    private Object sumLanes(long[] values, BigInteger[] overflow, Node node, InlinedBranchProfile overflowProfile) {
+        SLContext context = SLContext.get(this);
+        if (context.isParallel(values.length)) {
+            return toNumber(context.reduceChunks(values.length, (from, to) -> sum(values, overflow, from, to, 0), BigInteger::add));
+        }
+        if (overflow != null) {
+            return toNumber(sum(values, overflow, 0, values.length, 0));
+        }
+        long sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            long value = values[i];
+            long result = sum + value;
+            if (((sum ^ result) & (value ^ result)) < 0) {
+                overflowProfile.enter(node);
+                return toNumber(sum(values, null, i, values.length, sum));
+            }
+            sum = result;
+        }
+        LoopNode.reportLoopCount(this, values.length);
+        return sum;
+    }
+}
@@ -96,6 +96,14 @@ public abstract class SLExpressionNode extends SLStatementNode {
         hasExpressionTag = true;
     }
 
+    @Override
+    public void copySourceAndTags(SLStatementNode node) {
+        super.copySourceAndTags(node);
+        if (node instanceof SLExpressionNode) {
+            this.hasExpressionTag = ((SLExpressionNode) node).hasExpressionTag;
+        }
+    }
+
     /*
      * Execute methods for specialized types. They all follow the same pattern: they call the
      * generic execution method and then expect a result of their return type. Type-specialized
@@ -180,6 +180,16 @@ public abstract class SLStatementNode extends SLScopedNode implements Instrument
         hasRootTag = true;
     }
 
+    /**
+     * Copies the source section and the tags of {@code node} to this node, which replaces it.
+     */
+    public void copySourceAndTags(SLStatementNode node) {
+        this.sourceCharIndex = node.sourceCharIndex;
+        this.sourceLength = node.sourceLength;
+        this.hasStatementTag = node.hasStatementTag;
+        this.hasRootTag = node.hasRootTag;
+    }
+
     @Override
     public String toString() {
         return formatSourceSection(this);
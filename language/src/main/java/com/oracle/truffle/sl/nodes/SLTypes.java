@@ -41,7 +41,7 @@
 package com.oracle.truffle.sl.nodes;
 
 import java.math.BigInteger;
-import java.util.ArrayList;
+import java.util.Arrays;
 
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.ImplicitCast;
@@ -84,6 +84,71 @@ public abstract class SLTypes {
         return SLNull.SINGLETON;
     }
 
+    /**
+     * Arrays that were widened in place by a write forward to their wider storage, see
+     * {@link SLIntegerArray#widen()}, and so do {@link SLArrayView views} and
+     * {@link SLUniformArray uniform arrays} that were detached by a write. The type checks and casts of the array types look through the
+     * forwarding: an {@link SLIntegerArray} that was widened to a {@code long[]} is an
+     * {@link SLLongArray} for all specializations, and is cast to the array that holds its
+     * elements. This keeps the identity of the array visible to the program, while the nodes only
+     * ever see the current storage.
+     */
+    private static Object resolve(Object value) {
+        if (value instanceof SLIntegerArray) {
+            return ((SLIntegerArray) value).resolve();
+        } else if (value instanceof SLLongArray) {
+            return ((SLLongArray) value).resolve();
+        } else if (value instanceof SLArrayView) {
+            return ((SLArrayView) value).resolve();
+        } else if (value instanceof SLUniformArray) {
+            return ((SLUniformArray) value).resolve();
+        }
+        return value;
+    }
+
+    @TypeCheck(SLIntegerArray.class)
+    public static boolean isSLIntegerArray(Object value) {
+        return resolve(value) instanceof SLIntegerArray;
+    }
+
+    @TypeCast(SLIntegerArray.class)
+    public static SLIntegerArray asSLIntegerArray(Object value) {
+        assert isSLIntegerArray(value);
+        return (SLIntegerArray) resolve(value);
+    }
+
+    @TypeCheck(SLLongArray.class)
+    public static boolean isSLLongArray(Object value) {
+        return resolve(value) instanceof SLLongArray;
+    }
+
+    @TypeCast(SLLongArray.class)
+    public static SLLongArray asSLLongArray(Object value) {
+        assert isSLLongArray(value);
+        return (SLLongArray) resolve(value);
+    }
+
+    @TypeCheck(SLBigIntegerArray.class)
+    public static boolean isSLBigIntegerArray(Object value) {
+        return value instanceof SLBigIntegerArray || resolve(value) instanceof SLBigIntegerArray;
+    }
+
+    @TypeCast(SLBigIntegerArray.class)
+    public static SLBigIntegerArray asSLBigIntegerArray(Object value) {
+        assert isSLBigIntegerArray(value);
+        return (SLBigIntegerArray) resolve(value);
+    }
+
+    @TypeCheck(SLArrayView.class)
+    public static boolean isSLArrayView(Object value) {
+        return value instanceof SLArrayView && ((SLArrayView) value).resolve() == value;
+    }
+
+    @TypeCheck(SLUniformArray.class)
+    public static boolean isSLUniformArray(Object value) {
+        return value instanceof SLUniformArray && ((SLUniformArray) value).resolve() == value;
+    }
+
     /**
      * Informs the Truffle DSL that a primitive {@code long} value can be used in all
      * specializations where a {@link SLBigInteger} is expected. This models the semantic of SL: It
@@ -97,38 +162,42 @@ public abstract class SLTypes {
         return new SLBigInteger(BigInteger.valueOf(value));
     }
 
-    @ImplicitCast
-    @TruffleBoundary
-    public static SLLongArray castIntToLongArray(SLIntegerArray value) {
-//        System.out.println("Implicit cast Integer Array -> Long Array ");
-        ArrayList<Long> longValues = new ArrayList<>(value.size());
-        for(Integer val :value.getValues()){
-            longValues.add(Long.valueOf(val));
-        }
-        return new SLLongArray(longValues);
+    /**
+     * There are no implicit casts between the dense array types: a cast would copy the whole array
+     * every time a narrower array meets a wider specialization. Operands of different widths are
+     * read through {@link SLArrayView views} instead, which read the narrower storage directly and
+     * widen every element on access. Returns whether {@code left} and {@code right} are such
+     * operands.
+     */
+    public static boolean isMixedWidth(Object left, Object right) {
+        int leftWidth = width(left);
+        int rightWidth = width(right);
+        return leftWidth >= 0 && rightWidth >= 0 && leftWidth != rightWidth;
     }
 
-    @ImplicitCast
-    @TruffleBoundary
-    public static SLBigIntegerArray castLongToBigIntegerArray(SLLongArray value) {
-//        System.out.println("Implicit cast Long Array -> BigInteger Array ");
-        ArrayList<BigInteger> bigIntegers = new ArrayList<>(value.size());
-        for(Long val :value.getValues()){
-            bigIntegers.add(BigInteger.valueOf(val));
+    private static int width(Object value) {
+        Object array = resolve(value);
+        if (array instanceof SLIntegerArray) {
+            return SLAllocationSite.INT;
+        } else if (array instanceof SLLongArray || array instanceof SLUniformArray) {
+            return SLAllocationSite.LONG;
+        } else if (array instanceof SLBigIntegerArray) {
+            return SLAllocationSite.BIG_INTEGER;
         }
-        return new SLBigIntegerArray(bigIntegers);
+        return -1;
     }
 
+    /**
+     * A {@link SLUniformArray} can be used wherever a {@link SLLongArray} is expected, using its
+     * materialized elements. Specializations that can work on the value directly come first.
+     */
     @ImplicitCast
-    @TruffleBoundary
-    public static SLBigIntegerArray castIntToBigIntegerArray(SLIntegerArray value) {
-//        System.out.println("Implicit cast Integer Array -> BigInteger Array ");
-        ArrayList<BigInteger> longValues = new ArrayList<>(value.size());
-        for(Integer val :value.getValues()){
-            longValues.add(BigInteger.valueOf(val));
-        }
-        return new SLBigIntegerArray(longValues);
+    public static SLLongArray castUniformToLongArray(SLUniformArray value) {
+        return value.materialize();
     }
 
-
+    @ImplicitCast
+    public static SLBigIntegerArray castUniformToBigIntegerArray(SLUniformArray value) {
+        return new SLBigIntegerArray(Arrays.copyOf(value.materialize().getValues(), value.size()));
+    }
 }
@@ -40,33 +40,37 @@
  */
 package com.oracle.truffle.sl.nodes.expression;
 
-import java.math.BigInteger;
-import java.util.ArrayList;
-
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.NodeInfo;
+import com.oracle.truffle.sl.SLLanguage;
 import com.oracle.truffle.sl.nodes.SLExpressionNode;
-import com.oracle.truffle.sl.runtime.SLLongArray;
+import com.oracle.truffle.sl.runtime.SLContext;
+import com.oracle.truffle.sl.runtime.SLUniformArray;
 
 /**
- * Constant literal for an arbitrary-precision number that exceeds the range of
- * {@link SLLongLiteralNode}.
+ * Constant literal for the {@code BIG_ZERO_ARRAY} and {@code BIG_ONES_ARRAY} arrays. Their length
+ * is set by the {@link SLLanguage#BigArrayLength} option, and they are represented as a
+ * {@link SLUniformArray}, so no elements are allocated until an operation needs them. Every
+ * evaluation creates a new array: the first write to a uniform array forwards it to dense storage,
+ * which must not change the arrays of later evaluations.
  */
 @NodeInfo(shortName = "const")
 public final class SLArrayInternalNode extends SLExpressionNode {
 
-    private final SLLongArray value;
+    private final long value;
 
     public SLArrayInternalNode(String token) {
-        this.value = new SLLongArray(token);
+        switch(token) {
+            case "BIG_ONES_ARRAY":
+                this.value = 1;
+                break;
+            default:
+                this.value = 0;
+        }
     }
 
-    public int size() {return this.value.getValues().size();}
-
-    public Long get(int index) { return this.value.getValues().get(index);}
-
     @Override
-    public SLLongArray executeGeneric(VirtualFrame frame) {
-        return value;
+    public SLUniformArray executeGeneric(VirtualFrame frame) {
+        return new SLUniformArray(SLContext.get(this).getBigArrayLength(), value);
     }
 }
@@ -49,8 +49,7 @@ import com.oracle.truffle.sl.nodes.SLExpressionNode;
 import com.oracle.truffle.sl.runtime.SLBigIntegerArray;
 
 /**
- * Constant literal for an arbitrary-precision number that exceeds the range of
- * {@link SLLongLiteralNode}.
+ * Constant array literal with an element that does not fit into a {@code long}.
  */
 @NodeInfo(shortName = "const")
 public final class SLBigIntegerArrayNode extends SLExpressionNode {
@@ -61,12 +60,16 @@ public final class SLBigIntegerArrayNode extends SLExpressionNode {
         this.value = new SLBigIntegerArray(value);
     }
 
-    public int size() {return this.value.getValues().size();}
+    public int size() {return this.value.size();}
 
-    public BigInteger get(int index) { return this.value.getValues().get(index);}
+    public BigInteger get(int index) { return this.value.get(index);}
 
+    /**
+     * Arrays are mutable, so every evaluation of the literal creates a new array.
+     */
     @Override
     public SLBigIntegerArray executeGeneric(VirtualFrame frame) {
-        return value;
+        BigInteger[] overflow = value.getOverflow();
+        return new SLBigIntegerArray(value.getValues().clone(), overflow == null ? null : overflow.clone());
     }
 }
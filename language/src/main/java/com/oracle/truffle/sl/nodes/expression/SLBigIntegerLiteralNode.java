@@ -60,6 +60,10 @@ public final class SLBigIntegerLiteralNode extends SLExpressionNode {
         this.value = new SLBigInteger(value);
     }
 
+    public BigInteger getValue() {
+        return value.getValue();
+    }
+
     @Override
     public SLBigInteger executeGeneric(VirtualFrame frame) {
         return value;
@@ -0,0 +1,687 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.nodes.expression;
+
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.instrumentation.InstrumentableNode;
+import com.oracle.truffle.api.instrumentation.StandardTags;
+import com.oracle.truffle.api.instrumentation.Tag;
+import com.oracle.truffle.api.nodes.ExplodeLoop;
+import com.oracle.truffle.api.nodes.LoopNode;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import com.oracle.truffle.api.profiles.BranchProfile;
+import com.oracle.truffle.sl.SLException;
+import com.oracle.truffle.sl.nodes.SLExpressionNode;
+import com.oracle.truffle.sl.nodes.SLTypes;
+import com.oracle.truffle.sl.nodes.local.SLReadArgumentNode;
+import com.oracle.truffle.sl.nodes.local.SLReadLocalVariableNode;
+import com.oracle.truffle.sl.nodes.util.SLUnboxNodeGen;
+import com.oracle.truffle.sl.runtime.SLArrayView;
+import com.oracle.truffle.sl.runtime.SLBigIntegerArray;
+import com.oracle.truffle.sl.runtime.SLContext;
+import com.oracle.truffle.sl.runtime.SLIntegerArray;
+import com.oracle.truffle.sl.runtime.SLLongArray;
+import com.oracle.truffle.sl.runtime.SLSimd;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A chain of {@code vec_add} operations, e.g. {@code a vec_add b vec_add c vec_add d}. Evaluating
+ * the chain with nested {@link SLVecAddNode binary nodes} materializes every intermediate sum as a
+ * new array and reads it again in the next step. This node evaluates all operands first and then
+ * adds them lane by lane in a single loop, so no intermediate arrays are allocated.
+ * <p>
+ * The {@link com.oracle.truffle.sl.parser.SLNodeFactory parser} builds this node when the left
+ * operand of a {@code vec_add} is itself a {@code vec_add}, and the right operand
+ * {@link #canAppend has no side effects}. The nested evaluation computes a partial sum before it
+ * evaluates the next operand, so a call among the later operands would run after the size and type
+ * checks of the partial sum, and could not change the arrays that were already added. Evaluating
+ * the operands first is only unobservable if they neither fail nor write anything. The first two
+ * operands are evaluated before any addition in both cases. Addition is associative and the result
+ * of every lane is exact, so the fused evaluation produces the same values as the nested one. The
+ * nested evaluation requires an array among the first two operands, and reports a type error for
+ * the partial sum and the first operand that is neither an array nor a number; this node reports
+ * the same errors. If an instrument requests {@link StandardTags.ExpressionTag expressions}, the
+ * node {@link #materializeInstrumentableNodes materializes} the nested nodes with the source
+ * sections of the partial sums.
+ * <p>
+ * The kinds of the operands are profiled. As long as every operand is always an
+ * {@link SLIntegerArray}, always an {@link SLLongArray} or always a {@code long}, the operands are
+ * dispatched and their sizes checked in compiled code, with a loop that is exploded over the
+ * operands. The {@code long} operands are summed up once and added to every lane as an offset. The
+ * result is an {@link SLIntegerArray} if all array operands are {@code int} arrays and all lanes
+ * fit, an {@link SLLongArray} if all lanes fit into a {@code long}, and an
+ * {@link SLBigIntegerArray} otherwise. Like the binary nodes, short arrays of the same length are
+ * added in a fully unrolled loop, long arrays use the {@link SLSimd SIMD kernels} if
+ * {@link SLContext#isSimdEnabled() enabled} and are processed {@link SLContext#forEachChunk in
+ * parallel} above the threshold, and only the lanes that overflow a {@code long} are computed with
+ * {@link BigInteger} arithmetic behind a {@link TruffleBoundary}.
+ * <p>
+ * Any other combination of operands, e.g. {@link SLArrayView views}, {@link SLBigIntegerArray big
+ * arrays} or an operand whose kind changes, makes the node generic. All operands are then read
+ * through views, so the storage the views share with their parents is not copied.
+ */
+@NodeInfo(shortName = "vec_add")
+public final class SLFusedVecAddNode extends SLExpressionNode {
+
+    private static final byte INT_ARRAY = 0;
+    private static final byte LONG_ARRAY = 1;
+    private static final byte NUMBER = 2;
+
+    private static final int UNINITIALIZED_LENGTH = -1;
+    private static final int NO_SMALL_LENGTH = -2;
+
+    @Child private Operands chain;
+
+    /*
+     * Source sections and expression tags of the partial sums of the chain. The partial sum k adds
+     * the operands 0 to k + 1; the last sum is this node itself.
+     */
+    private final int[] partialSumCharIndex;
+    private final int[] partialSumLength;
+    private final boolean[] partialSumTagged;
+
+    /** The kinds of the operands, or {@code null} before the first execution. */
+    @CompilationFinal private Profile profile;
+
+    /** The length of the arrays the unrolled loop is compiled for. */
+    @CompilationFinal private int smallLength = UNINITIALIZED_LENGTH;
+
+    private boolean materialized;
+
+    private final BranchProfile sizeErrorTaken = BranchProfile.create();
+    private final BranchProfile overflowTaken = BranchProfile.create();
+
+    private SLFusedVecAddNode(SLExpressionNode[] operandNodes, int[] partialSumCharIndex, int[] partialSumLength, boolean[] partialSumTagged) {
+        this.chain = new Operands(operandNodes);
+        this.partialSumCharIndex = partialSumCharIndex;
+        this.partialSumLength = partialSumLength;
+        this.partialSumTagged = partialSumTagged;
+    }
+
+    /**
+     * Returns whether an operand can be evaluated before the partial sums of the operands to its
+     * left without any visible difference: local variables, arguments and literals.
+     */
+    public static boolean canAppend(SLExpressionNode operand) {
+        return operand instanceof SLReadLocalVariableNode || operand instanceof SLReadArgumentNode || operand instanceof SLLongLiteralNode || operand instanceof SLBigIntegerLiteralNode ||
+                        operand instanceof SLIntegerArrayNode || operand instanceof SLLongArrayNode || operand instanceof SLBigIntegerArrayNode || operand instanceof SLArrayInternalNode;
+    }
+
+    /**
+     * Appends the operand {@code right} to a chain, if {@link #canAppend} allows it. The chain {@code left} is either a binary
+     * {@link SLVecAddNode} or a fused node, and its source section and tags are kept for the
+     * partial sum it computes.
+     */
+    public static SLFusedVecAddNode append(SLExpressionNode left, SLExpressionNode right) {
+        SLExpressionNode[] previous;
+        int[] charIndex;
+        int[] length;
+        boolean[] tagged;
+        if (left instanceof SLFusedVecAddNode) {
+            SLFusedVecAddNode fused = (SLFusedVecAddNode) left;
+            previous = fused.chain.nodes;
+            charIndex = Arrays.copyOf(fused.partialSumCharIndex, previous.length - 1);
+            length = Arrays.copyOf(fused.partialSumLength, previous.length - 1);
+            tagged = Arrays.copyOf(fused.partialSumTagged, previous.length - 1);
+        } else {
+            SLVecAddNode binary = (SLVecAddNode) left;
+            previous = new SLExpressionNode[]{binary.getLeftNode(), binary.getRightNode()};
+            charIndex = new int[1];
+            length = new int[1];
+            tagged = new boolean[1];
+        }
+        int last = previous.length - 2;
+        charIndex[last] = left.hasSource() ? left.getSourceCharIndex() : -1;
+        length[last] = left.getSourceLength();
+        tagged[last] = left.hasTag(StandardTags.ExpressionTag.class);
+
+        SLExpressionNode[] operands = Arrays.copyOf(previous, previous.length + 1);
+        operands[previous.length] = right;
+        return new SLFusedVecAddNode(operands, charIndex, length, tagged);
+    }
+
+    @ExplodeLoop
+    @Override
+    public Object executeGeneric(VirtualFrame frame) {
+        SLExpressionNode[] operandNodes = chain.nodes;
+        Object[] operands = new Object[operandNodes.length];
+        for (int i = 0; i < operandNodes.length; i++) {
+            operands[i] = operandNodes[i].executeGeneric(frame);
+        }
+        Profile p = profile;
+        if (p == null || !p.matches(operands)) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            p = Profile.create(p, operands);
+            profile = p;
+        }
+        if (p.kinds == null) {
+            return addGeneric(operands);
+        }
+        return addTyped(p, operands);
+    }
+
+    /**
+     * Rebuilds the nested {@link SLVecAddNode binary nodes} of the chain, so that every partial sum
+     * is reported as an expression with its own source section. This node remains the last sum
+     * and adds the nested partial sum and the last operand. It is not replaced, because the source
+     * sections of SL nodes are only available once they are adopted.
+     */
+    @Override
+    public InstrumentableNode materializeInstrumentableNodes(Set<Class<? extends Tag>> materializedTags) {
+        if (materialized || !materializedTags.contains(StandardTags.ExpressionTag.class)) {
+            return this;
+        }
+        SLExpressionNode[] operandNodes = chain.nodes;
+        SLExpressionNode sum = operandNodes[0];
+        for (int k = 1; k < operandNodes.length - 1; k++) {
+            sum = SLVecAddNodeGen.create(k == 1 ? sum : SLUnboxNodeGen.create(sum), operandNodes[k]);
+            if (partialSumCharIndex[k - 1] >= 0) {
+                sum.setSourceSection(partialSumCharIndex[k - 1], partialSumLength[k - 1]);
+            }
+            if (partialSumTagged[k - 1]) {
+                sum.addExpressionTag();
+            }
+        }
+        profile = null;
+        smallLength = UNINITIALIZED_LENGTH;
+        chain = insert(new Operands(new SLExpressionNode[]{SLUnboxNodeGen.create(sum), operandNodes[operandNodes.length - 1]}));
+        materialized = true;
+        return this;
+    }
+
+    @ExplodeLoop
+    private Object addTyped(Profile p, Object[] operands) {
+        byte[] kinds = p.kinds;
+        if (kinds[0] == NUMBER && kinds[1] == NUMBER) {
+            throw typeError(operands, 1);
+        }
+        int[][] ints = new int[p.intCount][];
+        long[][] longs = new long[p.longCount][];
+        int nextInt = 0;
+        int nextLong = 0;
+        long offset = 0;
+        int length = -1;
+        for (int k = 0; k < kinds.length; k++) {
+            int size;
+            if (kinds[k] == INT_ARRAY) {
+                int[] values = SLTypes.asSLIntegerArray(operands[k]).getValues();
+                ints[nextInt++] = values;
+                size = values.length;
+            } else if (kinds[k] == LONG_ARRAY) {
+                long[] values = SLTypes.asSLLongArray(operands[k]).getValues();
+                longs[nextLong++] = values;
+                size = values.length;
+            } else {
+                long value = (long) operands[k];
+                long r = offset + value;
+                if (((offset ^ r) & (value ^ r)) < 0) {
+                    /* The numbers only have a BigInteger sum, which the views broadcast. */
+                    CompilerDirectives.transferToInterpreterAndInvalidate();
+                    profile = Profile.GENERIC;
+                    return addGeneric(operands);
+                }
+                offset = r;
+                continue;
+            }
+            if (length >= 0 && size != length) {
+                sizeErrorTaken.enter();
+                throw new SLException("Arrays not of same size!", this);
+            }
+            length = size;
+        }
+
+        int cachedLength = smallLength;
+        if (cachedLength != length && cachedLength != NO_SMALL_LENGTH) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            cachedLength = cachedLength == UNINITIALIZED_LENGTH && length <= SLVecBinaryNode.SMALL_ARRAY_LENGTH ? length : NO_SMALL_LENGTH;
+            smallLength = cachedLength;
+        }
+        if (cachedLength == length) {
+            return addSmall(ints, longs, offset, cachedLength);
+        }
+        SLContext context = SLContext.get(this);
+        if (longs.length == 0 && (int) offset == offset) {
+            return addInts(context, ints, (int) offset, length);
+        }
+        return addLongs(context, ints, longs, offset, length);
+    }
+
+    /**
+     * Adds arrays whose length is the same at every execution and at most
+     * {@link SLVecBinaryNode#SMALL_ARRAY_LENGTH}. The loop is fully unrolled during compilation, and
+     * the result array has a constant size that allows escape analysis to scalar-replace it.
+     */
+    @ExplodeLoop
+    private Object addSmall(int[][] ints, long[][] longs, long offset, int length) {
+        long[] result = new long[length];
+        boolean narrow = true;
+        for (int i = 0; i < length; i++) {
+            if (!addLane(ints, longs, offset, result, i)) {
+                overflowTaken.enter();
+                return addLongs(SLContext.get(this), ints, longs, offset, length);
+            }
+            narrow &= (int) result[i] == result[i];
+        }
+        if (longs.length == 0 && narrow) {
+            int[] intResult = new int[length];
+            for (int i = 0; i < length; i++) {
+                intResult[i] = (int) result[i];
+            }
+            return new SLIntegerArray(intResult);
+        }
+        return new SLLongArray(result);
+    }
+
+    /**
+     * Adds operands that are all {@link SLIntegerArray int arrays}, plus an {@code int} offset.
+     * The result stays an {@link SLIntegerArray} unless one of its lanes does not fit into an
+     * {@code int}.
+     */
+    private Object addInts(SLContext context, int[][] ints, int offset, int length) {
+        if (context.isParallel(length)) {
+            return addIntsParallel(context, ints, offset, length);
+        }
+        int[] result = new int[length];
+        int end = context.isSimdEnabled() ? SLSimd.add(ints, offset, result, 0, length) : 0;
+        end = addLanes(ints, offset, result, end, length);
+        LoopNode.reportLoopCount(this, end);
+        if (end == length) {
+            return new SLIntegerArray(result);
+        }
+        overflowTaken.enter();
+        long[] longResult = new long[length];
+        for (int i = 0; i < end; i++) {
+            longResult[i] = result[i];
+        }
+        addLanes(ints, offset, longResult, end, length);
+        return new SLLongArray(longResult);
+    }
+
+    @TruffleBoundary
+    private static Object addIntsParallel(SLContext context, int[][] ints, int offset, int length) {
+        int[] result = new int[length];
+        boolean simd = context.isSimdEnabled();
+        AtomicBoolean overflowed = new AtomicBoolean();
+        context.forEachChunk(length, (from, to) -> {
+            int start = simd ? SLSimd.add(ints, offset, result, from, to) : from;
+            if (addLanes(ints, offset, result, start, to) < to) {
+                overflowed.set(true);
+            }
+        });
+        if (!overflowed.get()) {
+            return new SLIntegerArray(result);
+        }
+        long[] longResult = new long[length];
+        context.forEachChunk(length, (from, to) -> addLanes(ints, offset, longResult, from, to));
+        return new SLLongArray(longResult);
+    }
+
+    /**
+     * Adds {@code int} and {@code long} operands, plus a {@code long} offset. The SIMD kernels are
+     * only used if all operands are {@code long} arrays.
+     */
+    private Object addLongs(SLContext context, int[][] ints, long[][] longs, long offset, int length) {
+        if (context.isParallel(length)) {
+            return addLongsParallel(context, ints, longs, offset, length);
+        }
+        long[] result = new long[length];
+        int end = ints.length == 0 && context.isSimdEnabled() ? SLSimd.add(longs, offset, result, 0, length) : 0;
+        end = addLanes(ints, longs, offset, result, end, length);
+        LoopNode.reportLoopCount(this, end);
+        if (end == length) {
+            return new SLLongArray(result);
+        }
+        overflowTaken.enter();
+        SLBigIntegerArray.OverflowTable overflow = new SLBigIntegerArray.OverflowTable(length);
+        addLanes(ints, longs, offset, result, overflow, end, length);
+        if (overflow.getValues() == null) {
+            return new SLLongArray(result);
+        }
+        return new SLBigIntegerArray(result, overflow.getValues());
+    }
+
+    @TruffleBoundary
+    private static Object addLongsParallel(SLContext context, int[][] ints, long[][] longs, long offset, int length) {
+        long[] result = new long[length];
+        boolean simd = ints.length == 0 && context.isSimdEnabled();
+        SLBigIntegerArray.OverflowTable overflow = new SLBigIntegerArray.OverflowTable(length);
+        context.forEachChunk(length, (from, to) -> {
+            int start = simd ? SLSimd.add(longs, offset, result, from, to) : from;
+            addLanes(ints, longs, offset, result, overflow, start, to);
+        });
+        if (overflow.getValues() == null) {
+            return new SLLongArray(result);
+        }
+        return new SLBigIntegerArray(result, overflow.getValues());
+    }
+
+    /**
+     * Adds the lanes {@code [from, to)} of {@code int} operands and returns the index of the first
+     * lane whose sum does not fit into an {@code int}, or {@code to} if there is none.
+     */
+    private static int addLanes(int[][] ints, int offset, int[] result, int from, int to) {
+        for (int i = from; i < to; i++) {
+            long sum = offset + sumLane(ints, i);
+            if ((int) sum != sum) {
+                return i;
+            }
+            result[i] = (int) sum;
+        }
+        return to;
+    }
+
+    private static void addLanes(int[][] ints, int offset, long[] result, int from, int to) {
+        for (int i = from; i < to; i++) {
+            result[i] = offset + sumLane(ints, i);
+        }
+    }
+
+    /**
+     * Sums a lane of {@code int} operands in a {@code long}, which cannot overflow.
+     */
+    @ExplodeLoop
+    private static long sumLane(int[][] ints, int i) {
+        long sum = 0;
+        for (int[] operand : ints) {
+            sum += operand[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Adds the lanes {@code [from, to)} and returns the index of the first lane whose sum
+     * overflows, or {@code to} if there is none.
+     */
+    private static int addLanes(int[][] ints, long[][] longs, long offset, long[] result, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!CompilerDirectives.injectBranchProbability(CompilerDirectives.FASTPATH_PROBABILITY, addLane(ints, longs, offset, result, i))) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    /**
+     * Adds the lanes {@code [from, to)}, and computes the lanes that overflow with
+     * {@link BigInteger} arithmetic.
+     */
+    private static void addLanes(int[][] ints, long[][] longs, long offset, long[] result, SLBigIntegerArray.OverflowTable overflow, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!CompilerDirectives.injectBranchProbability(CompilerDirectives.FASTPATH_PROBABILITY, addLane(ints, longs, offset, result, i))) {
+                addOverflowingLane(ints, longs, offset, result, overflow, i);
+            }
+        }
+    }
+
+    /**
+     * Adds a lane into {@code result} and returns {@code true}, or returns {@code false} if one of
+     * the partial sums of the lane overflows.
+     */
+    @ExplodeLoop
+    private static boolean addLane(int[][] ints, long[][] longs, long offset, long[] result, int i) {
+        long sum = offset;
+        for (int[] operand : ints) {
+            long b = operand[i];
+            long r = sum + b;
+            if (((sum ^ r) & (b ^ r)) < 0) {
+                return false;
+            }
+            sum = r;
+        }
+        for (long[] operand : longs) {
+            long b = operand[i];
+            long r = sum + b;
+            if (((sum ^ r) & (b ^ r)) < 0) {
+                return false;
+            }
+            sum = r;
+        }
+        result[i] = sum;
+        return true;
+    }
+
+    @TruffleBoundary
+    private static void addOverflowingLane(int[][] ints, long[][] longs, long offset, long[] result, SLBigIntegerArray.OverflowTable overflow, int i) {
+        BigInteger sum = BigInteger.valueOf(offset).add(BigInteger.valueOf(sumLane(ints, i)));
+        for (long[] operand : longs) {
+            sum = sum.add(BigInteger.valueOf(operand[i]));
+        }
+        if (SLBigIntegerArray.fitsInDenseStorage(sum)) {
+            result[i] = sum.longValue();
+        } else {
+            overflow.set(i, sum);
+        }
+    }
+
+    /**
+     * Adds operands of any kind through {@link SLArrayView views}, in the order of the nested
+     * evaluation: the length is taken from the first two operands, and every further operand must
+     * be an array of that length or a number.
+     */
+    @ExplodeLoop
+    private Object addGeneric(Object[] operands) {
+        SLArrayView first = SLArrayView.of(operands[0]);
+        if (first == null) {
+            first = SLArrayView.of(operands[1]);
+            if (first == null) {
+                throw typeError(operands, 1);
+            }
+        }
+        int length = first.size();
+        SLArrayView[] views = new SLArrayView[operands.length];
+        boolean ints = true;
+        for (int k = 0; k < operands.length; k++) {
+            SLArrayView view = SLArrayView.of(operands[k]);
+            if (view == null) {
+                view = SLArrayView.broadcast(operands[k], length);
+                if (view == null) {
+                    throw typeError(operands, k);
+                }
+            } else if (view.size() != length) {
+                sizeErrorTaken.enter();
+                throw new SLException("Arrays not of same size!", this);
+            }
+            views[k] = view;
+            ints &= view.getInts() != null;
+        }
+        long[] result = new long[length];
+        SLBigIntegerArray.OverflowTable overflow = new SLBigIntegerArray.OverflowTable(length);
+        SLContext context = SLContext.get(this);
+        if (context.isParallel(length)) {
+            addLanesParallel(context, views, result, overflow);
+        } else {
+            addLanes(views, result, overflow, 0, length);
+            LoopNode.reportLoopCount(this, length);
+        }
+        if (overflow.getValues() != null) {
+            return new SLBigIntegerArray(result, overflow.getValues());
+        } else if (ints) {
+            return SLLongArray.narrow(result);
+        }
+        return new SLLongArray(result);
+    }
+
+    @TruffleBoundary
+    private static void addLanesParallel(SLContext context, SLArrayView[] views, long[] result, SLBigIntegerArray.OverflowTable overflow) {
+        context.forEachChunk(result.length, (from, to) -> addLanes(views, result, overflow, from, to));
+    }
+
+    private static void addLanes(SLArrayView[] views, long[] result, SLBigIntegerArray.OverflowTable overflow, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!CompilerDirectives.injectBranchProbability(CompilerDirectives.FASTPATH_PROBABILITY, addLane(views, result, i))) {
+                addOverflowingLane(views, result, overflow, i);
+            }
+        }
+    }
+
+    @ExplodeLoop
+    private static boolean addLane(SLArrayView[] views, long[] result, int i) {
+        long sum = 0;
+        for (SLArrayView view : views) {
+            if (view.isOverflow(i)) {
+                return false;
+            }
+            long b = view.getLong(i);
+            long r = sum + b;
+            if (((sum ^ r) & (b ^ r)) < 0) {
+                return false;
+            }
+            sum = r;
+        }
+        result[i] = sum;
+        return true;
+    }
+
+    @TruffleBoundary
+    private static void addOverflowingLane(SLArrayView[] views, long[] result, SLBigIntegerArray.OverflowTable overflow, int i) {
+        BigInteger sum = BigInteger.ZERO;
+        for (SLArrayView view : views) {
+            sum = sum.add(view.getBigInteger(i));
+        }
+        if (SLBigIntegerArray.fitsInDenseStorage(sum)) {
+            result[i] = sum.longValue();
+        } else {
+            overflow.set(i, sum);
+        }
+    }
+
+    /**
+     * Creates the type error of the nested evaluation for the operand {@code k}. Its left operand
+     * is the sum of all operands before it, which the nested evaluation has already computed.
+     */
+    @TruffleBoundary
+    private SLException typeError(Object[] operands, int k) {
+        if (k <= 1) {
+            return SLException.typeError(this, operands[0], operands[1]);
+        }
+        return SLException.typeError(this, addGeneric(Arrays.copyOf(operands, k)), operands[k]);
+    }
+
+    /**
+     * The operand nodes of a chain. They are replaced as a whole when the chain is materialized, so
+     * an execution that has already started evaluates a consistent set of operands.
+     */
+    private static final class Operands extends Node {
+
+        @Children final SLExpressionNode[] nodes;
+
+        Operands(SLExpressionNode[] nodes) {
+            this.nodes = nodes;
+        }
+    }
+
+    /**
+     * The kinds of the operands seen by a node. A profile is never modified, so an execution
+     * always sees the kinds of a single profile, even if another thread replaces it.
+     */
+    private static final class Profile {
+
+        /** The profile of a node that adds all operands through views. */
+        static final Profile GENERIC = new Profile(null, 0, 0);
+
+        @CompilationFinal(dimensions = 1) final byte[] kinds;
+        final int intCount;
+        final int longCount;
+
+        private Profile(byte[] kinds, int intCount, int longCount) {
+            this.kinds = kinds;
+            this.intCount = intCount;
+            this.longCount = longCount;
+        }
+
+        /**
+         * Creates the profile for the first execution. Any later change of the kinds makes the
+         * node generic.
+         */
+        static Profile create(Profile previous, Object[] operands) {
+            if (previous != null) {
+                return GENERIC;
+            }
+            byte[] kinds = new byte[operands.length];
+            int intCount = 0;
+            int longCount = 0;
+            for (int k = 0; k < operands.length; k++) {
+                if (SLTypes.isSLIntegerArray(operands[k])) {
+                    kinds[k] = INT_ARRAY;
+                    intCount++;
+                } else if (SLTypes.isSLLongArray(operands[k])) {
+                    kinds[k] = LONG_ARRAY;
+                    longCount++;
+                } else if (operands[k] instanceof Long) {
+                    kinds[k] = NUMBER;
+                } else {
+                    return GENERIC;
+                }
+            }
+            return new Profile(kinds, intCount, longCount);
+        }
+
+        @ExplodeLoop
+        boolean matches(Object[] operands) {
+            if (kinds == null) {
+                return true;
+            } else if (kinds.length != operands.length) {
+                return false;
+            }
+            for (int k = 0; k < kinds.length; k++) {
+                boolean matches;
+                if (kinds[k] == INT_ARRAY) {
+                    matches = SLTypes.isSLIntegerArray(operands[k]);
+                } else if (kinds[k] == LONG_ARRAY) {
+                    matches = SLTypes.isSLLongArray(operands[k]);
+                } else {
+                    matches = operands[k] instanceof Long;
+                }
+                if (!matches) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -46,32 +46,51 @@ import java.util.ArrayList;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.NodeInfo;
 import com.oracle.truffle.sl.nodes.SLExpressionNode;
+import com.oracle.truffle.sl.runtime.SLAllocationSite;
+import com.oracle.truffle.sl.runtime.SLBigIntegerArray;
 import com.oracle.truffle.sl.runtime.SLIntegerArray;
 import com.oracle.truffle.sl.runtime.SLLongArray;
 
 /**
- * Constant literal for an arbitrary-precision number that exceeds the range of
- * {@link SLLongLiteralNode}.
+ * Constant array literal whose elements all fit into an {@code int}. The literal creates
+ * {@link SLIntegerArray int arrays} until one of them is widened, and from then on creates the
+ * wider storage directly, see {@link SLAllocationSite}.
  */
 @NodeInfo(shortName = "const")
 public final class SLIntegerArrayNode extends SLExpressionNode {
 
     private final SLIntegerArray value;
+    private final SLAllocationSite site = SLAllocationSite.create();
 
     public SLIntegerArrayNode(ArrayList<BigInteger> value) {
-        ArrayList<Integer> integerValues = new ArrayList<>();
-        for (BigInteger i : value) {
-            integerValues.add(i.intValue());
+        int[] integerValues = new int[value.size()];
+        for (int i = 0; i < integerValues.length; i++) {
+            integerValues[i] = value.get(i).intValue();
         }
         this.value = new SLIntegerArray(integerValues);
     }
 
-    public int size() {return this.value.getValues().size();}
+    public int size() {return this.value.size();}
 
-    public Integer get(int index) { return this.value.getValues().get(index);}
+    public int get(int index) { return this.value.get(index);}
 
+    /**
+     * Arrays are mutable, so every evaluation of the literal creates a new array.
+     */
     @Override
-    public SLIntegerArray executeGeneric(VirtualFrame frame) {
-        return value;
+    public Object executeGeneric(VirtualFrame frame) {
+        int[] values = value.getValues();
+        int width = site.getWidth();
+        if (width == SLAllocationSite.INT) {
+            return new SLIntegerArray(values.clone(), site);
+        }
+        long[] longValues = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            longValues[i] = values[i];
+        }
+        if (width == SLAllocationSite.LONG) {
+            return new SLLongArray(longValues, site);
+        }
+        return new SLBigIntegerArray(longValues);
     }
 }
@@ -46,31 +46,42 @@ import java.util.ArrayList;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.NodeInfo;
 import com.oracle.truffle.sl.nodes.SLExpressionNode;
+import com.oracle.truffle.sl.runtime.SLAllocationSite;
+import com.oracle.truffle.sl.runtime.SLBigIntegerArray;
 import com.oracle.truffle.sl.runtime.SLLongArray;
 
 /**
- * Constant literal for an arbitrary-precision number that exceeds the range of
- * {@link SLLongLiteralNode}.
+ * Constant array literal whose elements all fit into a {@code long}. Like
+ * {@link SLIntegerArrayNode}, the literal creates arrays with the storage its
+ * {@link SLAllocationSite allocation site} has recorded.
  */
 @NodeInfo(shortName = "const")
 public final class SLLongArrayNode extends SLExpressionNode {
 
     private final SLLongArray value;
+    private final SLAllocationSite site = SLAllocationSite.create();
 
     public SLLongArrayNode(ArrayList<BigInteger> value) {
-        ArrayList<Long> longValues = new ArrayList<>();
-        for (BigInteger i : value) {
-            longValues.add(i.longValue());
+        long[] longValues = new long[value.size()];
+        for (int i = 0; i < longValues.length; i++) {
+            longValues[i] = value.get(i).longValue();
         }
         this.value = new SLLongArray(longValues);
     }
 
-    public int size() {return this.value.getValues().size();}
+    public int size() {return this.value.size();}
 
-    public Long get(int index) { return this.value.getValues().get(index);}
+    public long get(int index) { return this.value.get(index);}
 
+    /**
+     * Arrays are mutable, so every evaluation of the literal creates a new array.
+     */
     @Override
-    public SLLongArray executeGeneric(VirtualFrame frame) {
-        return value;
+    public Object executeGeneric(VirtualFrame frame) {
+        long[] values = value.getValues().clone();
+        if (site.getWidth() == SLAllocationSite.BIG_INTEGER) {
+            return new SLBigIntegerArray(values);
+        }
+        return new SLLongArray(values, site);
     }
 }
@@ -42,6 +42,7 @@ package com.oracle.truffle.sl.nodes.expression;
 
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Cached.Shared;
 import com.oracle.truffle.api.dsl.NodeChild;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.interop.InteropLibrary;
@@ -52,12 +53,18 @@ import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.nodes.NodeInfo;
 import com.oracle.truffle.api.object.DynamicObjectLibrary;
+import com.oracle.truffle.api.profiles.InlinedBranchProfile;
 import com.oracle.truffle.api.strings.TruffleString;
 import com.oracle.truffle.sl.nodes.SLExpressionNode;
 import com.oracle.truffle.sl.nodes.util.SLToMemberNode;
 import com.oracle.truffle.sl.nodes.util.SLToTruffleStringNode;
+import com.oracle.truffle.sl.runtime.SLBigInteger;
+import com.oracle.truffle.sl.runtime.SLBigIntegerArray;
+import com.oracle.truffle.sl.runtime.SLIntegerArray;
+import com.oracle.truffle.sl.runtime.SLLongArray;
 import com.oracle.truffle.sl.runtime.SLObject;
 import com.oracle.truffle.sl.runtime.SLUndefinedNameException;
+import com.oracle.truffle.sl.runtime.SLUniformArray;
 
 /**
  * The node for reading a property of an object. When executed, this node:
@@ -74,6 +81,52 @@ public abstract class SLReadPropertyNode extends SLExpressionNode {
 
     static final int LIBRARY_LIMIT = 3;
 
+    /*
+     * Direct element reads of SL arrays. They do not go through the InteropLibrary, so an indexed
+     * loop compiles to a bounds check and a load from the storage array. The out-of-bounds case is
+     * profiled: it never occurs in a well-behaved loop, and the compiler can then merge the check
+     * with the bounds check of the storage array. Uniform arrays come first, so that they are not
+     * materialized by the implicit cast to SLLongArray.
+     */
+
+    @Specialization
+    protected static long readSLUniformArray(SLUniformArray receiver, long index,
+                    @Bind("this") Node node,
+                    @Shared("outOfBounds") @Cached InlinedBranchProfile outOfBounds) {
+        checkBounds(node, index, receiver.size(), outOfBounds);
+        return receiver.getValue();
+    }
+
+    @Specialization
+    protected static long readSLIntegerArray(SLIntegerArray receiver, long index,
+                    @Bind("this") Node node,
+                    @Shared("outOfBounds") @Cached InlinedBranchProfile outOfBounds) {
+        int[] values = receiver.getValues();
+        checkBounds(node, index, values.length, outOfBounds);
+        return values[(int) index];
+    }
+
+    @Specialization
+    protected static long readSLLongArray(SLLongArray receiver, long index,
+                    @Bind("this") Node node,
+                    @Shared("outOfBounds") @Cached InlinedBranchProfile outOfBounds) {
+        long[] values = receiver.getValues();
+        checkBounds(node, index, values.length, outOfBounds);
+        return values[(int) index];
+    }
+
+    @Specialization
+    protected static Object readSLBigIntegerArray(SLBigIntegerArray receiver, long index,
+                    @Bind("this") Node node,
+                    @Shared("outOfBounds") @Cached InlinedBranchProfile outOfBounds) {
+        long[] values = receiver.getValues();
+        checkBounds(node, index, values.length, outOfBounds);
+        if (receiver.isOverflow((int) index)) {
+            return new SLBigInteger(receiver.getOverflow()[(int) index]);
+        }
+        return values[(int) index];
+    }
+
     @Specialization(guards = "arrays.hasArrayElements(receiver)", limit = "LIBRARY_LIMIT")
     protected Object readArray(Object receiver, Object index,
                     @CachedLibrary("receiver") InteropLibrary arrays,
@@ -113,6 +166,14 @@ public abstract class SLReadPropertyNode extends SLExpressionNode {
         }
     }
 
+    private static void checkBounds(Node node, long index, int length, InlinedBranchProfile outOfBounds) {
+        if (Long.compareUnsigned(index, length) >= 0) {
+            outOfBounds.enter(node);
+            // read was not successful. In SL we only have basic support for errors.
+            throw SLUndefinedNameException.undefinedProperty(node, index);
+        }
+    }
+
     static boolean isSLObject(Object receiver) {
         return receiver instanceof SLObject;
     }
@@ -40,79 +40,61 @@
  */
 package com.oracle.truffle.sl.nodes.expression;
 
-import com.oracle.truffle.api.dsl.Fallback;
-import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.dsl.Introspectable;
+import com.oracle.truffle.api.dsl.TypeSystemReference;
 import com.oracle.truffle.api.nodes.NodeInfo;
-import com.oracle.truffle.sl.SLException;
-import com.oracle.truffle.sl.nodes.SLBinaryNode;
-import com.oracle.truffle.sl.runtime.SLBigIntegerArray;
-import com.oracle.truffle.sl.runtime.SLIntegerArray;
-import com.oracle.truffle.sl.runtime.SLLongArray;
-import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.sl.nodes.SLExpressionNode;
+import com.oracle.truffle.sl.nodes.SLTypes;
+import com.oracle.truffle.sl.runtime.SLSimd;
 import java.math.BigInteger;
-import java.util.ArrayList;
 
 /**
- * This class is similar to the extensively documented {@link SLAddNode}.
+ * Element-wise addition of two arrays. The specializations are inherited from
+ * {@link SLVecBinaryNode}, this class only defines the addition of two elements. An element of the
+ * sum overflows if both operands have a different sign than the result.
+ * <p>
+ * Chains of additions, e.g. {@code a vec_add b vec_add c}, are evaluated by a
+ * {@link SLFusedVecAddNode} instead.
  */
 
+@TypeSystemReference(SLTypes.class)
+@Introspectable
 @NodeInfo(shortName = "vec_add")
-public abstract class SLVecAddNode extends SLBinaryNode {
+public abstract class SLVecAddNode extends SLVecBinaryNode {
 
-    @Specialization(rewriteOn = ArithmeticException.class)
-    protected SLIntegerArray doSLIntegerArray(SLIntegerArray left,SLIntegerArray right) {
-//        System.out.println("Entering Integer Specialization");
-        if(left.size()!=right.size()) {
-            System.out.println("Arrays not of same size!");
-            System.exit(1);
-        }
-        ArrayList<Integer> result = new ArrayList<>();
-        for(int i = 0; i < left.size(); i++){
-            result.add(Math.addExact(left.get(i), right.get(i)));
-        }
-//        System.out.println("Integer Specialization!\n");
-        return new SLIntegerArray(result);
+    @Override
+    protected final long apply(int left, int right) {
+        return (long) left + right;
     }
 
-    @Specialization(rewriteOn = ArithmeticException.class, replaces = "doSLIntegerArray")
-    @TruffleBoundary
-    protected SLLongArray doSLLongArray(SLLongArray left, SLLongArray right) {
-//        System.out.println("Entering Long Specialization");
-        if(left.size()!=right.size()) {
-            System.out.println("Arrays not of same size!");
-            System.exit(1);
-        }
-        ArrayList<Long> result = new ArrayList<>();
-        for(int i = 0; i < left.size(); i++){
-            result.add(Math.addExact(left.get(i), right.get(i)));
-        }
-//        System.out.println("Long Specialization!\n");
-        return new SLLongArray(result);
+    @Override
+    protected final long apply(long left, long right) {
+        return left + right;
     }
 
+    @Override
+    protected final boolean overflows(long left, long right, long result) {
+        return ((left ^ result) & (right ^ result)) < 0;
+    }
+
+    @Override
+    protected final BigInteger apply(BigInteger left, BigInteger right) {
+        return left.add(right);
+    }
+
+    @Override
+    protected final SLVecBinaryNode createUninitialized(SLExpressionNode left, SLExpressionNode right) {
+        return SLVecAddNodeGen.create(left, right);
+    }
 
-    @Specialization(rewriteOn = ArithmeticException.class,replaces = "doSLLongArray")
-//    @Specialization(rewriteOn = ArithmeticException.class)
-    @TruffleBoundary
-    protected SLBigIntegerArray doSLBigIntegerArray(SLBigIntegerArray left, SLBigIntegerArray right) {
-//        System.out.println("Entering BigInteger Specialization");
-        if(left.size()!=right.size()) {
-            System.out.println("Arrays not of same size!");
-            System.exit(1);
-        }
-        ArrayList<BigInteger> result = new ArrayList<>();
-        for(int i = 0; i < left.size(); i++){
-            result.add(left.get(i).add(right.get(i)));
-        }
-//        System.out.println("Big Integer Specialization!\n");
-        return new SLBigIntegerArray(result);
+    @Override
+    protected final int applySimd(int[] left, int[] right, int[] result, int from, int to) {
+        return SLSimd.add(left, right, result, from, to);
     }
 
-    @Fallback
-    protected Object typeError(Object left, Object right) {
-        System.out.println("Entered fallback");
-        System.out.println(left.getClass()+" "+right.getClass());
-        throw SLException.typeError(this, left, right);
+    @Override
+    protected final int applySimd(long[] left, long[] right, long[] result, int from, int to) {
+        return SLSimd.add(left, right, result, from, to);
     }
 
     protected boolean areBigIntegers(Object a, Object b) {
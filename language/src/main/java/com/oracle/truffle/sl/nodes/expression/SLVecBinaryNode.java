@@ -0,0 +1,962 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.nodes.expression;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.oracle.truffle.api.CompilerAsserts;
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.GenerateCached;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.ExplodeLoop;
+import com.oracle.truffle.api.nodes.LoopNode;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.profiles.InlinedBranchProfile;
+import com.oracle.truffle.sl.SLException;
+import com.oracle.truffle.sl.nodes.SLBinaryNode;
+import com.oracle.truffle.sl.nodes.SLExpressionNode;
+import com.oracle.truffle.sl.nodes.SLTypes;
+import com.oracle.truffle.sl.runtime.SLAllocationSite;
+import com.oracle.truffle.sl.runtime.SLArrayView;
+import com.oracle.truffle.sl.runtime.SLBigInteger;
+import com.oracle.truffle.sl.runtime.SLBigIntegerArray;
+import com.oracle.truffle.sl.runtime.SLContext;
+import com.oracle.truffle.sl.runtime.SLIntegerArray;
+import com.oracle.truffle.sl.runtime.SLLongArray;
+import com.oracle.truffle.sl.runtime.SLSimd;
+import com.oracle.truffle.sl.runtime.SLUniformArray;
+
+/**
+ * Base class of the element-wise vector operators {@code vec_add}, {@code vec_sub},
+ * {@code vec_mul} and {@code vec_div}. The specializations and loops are shared by all operators;
+ * a subclass only defines the operation on a single pair of elements, for each element
+ * representation.
+ * <p>
+ * The specializations follow the same {@code int} &rarr; {@code long} &rarr; {@link BigInteger}
+ * ladder as the scalar arithmetic nodes, e.g. {@link SLAddNode}. Operands of different widths are
+ * not copied into the wider storage, but read through {@link SLArrayView views} that widen every
+ * element on access, see {@link #doSLArrayView}. Unlike the scalar
+ * nodes, the specializations do not use {@code rewriteOn} to handle overflows: restarting the
+ * operation in a wider specialization would throw away all lanes that were already computed and
+ * copy both operands before running the whole array again. Instead, the loops widen their result
+ * in place at the first overflowing lane and continue from there, so an overflow costs a single
+ * pass over the operands.
+ * <p>
+ * All specializations are partial-evaluation friendly: their loops only use primitive arithmetic
+ * and are compiled together with the node. Only the {@link BigInteger} arithmetic of lanes that do
+ * not fit into a {@code long}, and the SIMD and parallel kernels, run behind a
+ * {@link TruffleBoundary}.
+ * <p>
+ * If {@link SLContext#isSimdEnabled() enabled}, operators that have {@link SLSimd SIMD kernels}
+ * process the operands with them first. The kernels stop at the first vector that contains an
+ * overflowing lane, and the scalar loop continues from there.
+ * <p>
+ * Arrays above the {@link SLContext#isParallel(int) parallel threshold} are split into chunks that
+ * are processed {@link SLContext#forEachChunk in parallel}. Every chunk detects its own overflows,
+ * and the results of all chunks decide the representation of the whole result.
+ * <p>
+ * One of the operands may also be a number, which is applied to every element of the array
+ * operand, e.g. {@code a vec_add 5} or {@code 1 vec_sub a}. The number is broadcast lane by lane
+ * without materializing an array for it, and the result widens like for two arrays.
+ * <p>
+ * {@link SLArrayView Views} are processed through their element accessors without copying the
+ * storage they share with their parents.
+ * <p>
+ * The representation of a result is decided by the active specialization, not by its values: the
+ * {@code long} and {@link BigInteger} kernels return {@link SLLongArray long} and
+ * {@link SLBigIntegerArray BigInteger arrays} even if all values would fit into a narrower one, so
+ * that the consumers of a node see a single representation. Narrowing is a decision for the whole
+ * node instead. Once a wide specialization replaced a narrower one, e.g. because of an early
+ * outlier, the operands that the narrower specialization would take end up in
+ * {@link #doSLArrayView}. After {@link #RENARROW_THRESHOLD} of them in a row, the node replaces
+ * itself with an uninitialized copy that specializes to the narrow kernels again. The replacement
+ * invalidates the compiled code, so it is bounded by {@link #MAX_RENARROWINGS} for every node. A
+ * node whose operands were wide from the start never re-specializes.
+ * <p>
+ * This class is not generated itself ({@link GenerateCached}). The Truffle DSL only generates a
+ * node class if it carries a DSL annotation, so every operator repeats the
+ * {@link com.oracle.truffle.api.dsl.TypeSystemReference type system reference}. The operators are
+ * {@link com.oracle.truffle.api.dsl.Introspectable introspectable}, so tests can check which
+ * specializations are active.
+ */
+@GenerateCached(false)
+public abstract class SLVecBinaryNode extends SLBinaryNode {
+
+    /**
+     * Arrays up to this length are processed by the {@link ExplodeLoop exploded} specializations.
+     */
+    static final int SMALL_ARRAY_LENGTH = 16;
+
+    /**
+     * Number of narrow operands in a row after which a wide specialization re-specializes the node.
+     */
+    static final int RENARROW_THRESHOLD = 8;
+
+    /**
+     * Maximum number of times a node re-specializes, so that operands whose widths keep
+     * alternating cannot deoptimize the compiled code forever.
+     */
+    static final int MAX_RENARROWINGS = 4;
+
+    /*
+     * The specializations that a wider specialization replaces, as bits of
+     * replaceableSpecializations.
+     */
+    private static final int INT_ARRAY = 1;
+    private static final int LONG_ARRAY = 1 << 1;
+    private static final int INT_ARRAY_INT = 1 << 2;
+    private static final int INT_INT_ARRAY = 1 << 3;
+    private static final int LONG_ARRAY_LONG = 1 << 4;
+    private static final int LONG_LONG_ARRAY = 1 << 5;
+
+    /**
+     * The replaceable specializations that were active at some point. A specialization is first
+     * executed in the interpreter, so compiled code only reads this field as a constant.
+     */
+    @CompilationFinal private int replaceableSpecializations;
+
+    /*
+     * The counters are plain fields: they are updated in compiled code without deoptimizing it,
+     * and lost updates from concurrent executions only delay the re-specialization.
+     */
+    private int narrowOperands;
+    private int renarrowings;
+
+    public abstract SLExpressionNode getLeftNode();
+
+    public abstract SLExpressionNode getRightNode();
+
+    /**
+     * Applies the operation to two {@code int} elements. The result of all operators fits into a
+     * {@code long}, so it is computed without overflow check.
+     */
+    protected abstract long apply(int left, int right);
+
+    /**
+     * Applies the operation to two {@code long} elements. The result is only valid if
+     * {@link #overflows(long, long, long)} returns {@code false} for it.
+     */
+    protected abstract long apply(long left, long right);
+
+    protected abstract boolean overflows(long left, long right, long result);
+
+    /**
+     * Applies the operation to two arbitrary precision elements. Only called behind a
+     * {@link TruffleBoundary}.
+     */
+    protected abstract BigInteger apply(BigInteger left, BigInteger right);
+
+    /**
+     * Creates a node of the same operator without any active specialization, which replaces this
+     * node when it re-specializes to narrower kernels.
+     */
+    protected abstract SLVecBinaryNode createUninitialized(SLExpressionNode left, SLExpressionNode right);
+
+    /**
+     * Applies the operation to the elements {@code [from, to)} with the {@link SLSimd SIMD
+     * kernels}, and returns the index up to which the result was written. Operators without SIMD
+     * kernels return {@code from}.
+     */
+    protected int applySimd(@SuppressWarnings("unused") int[] left, @SuppressWarnings("unused") int[] right, @SuppressWarnings("unused") int[] result, int from, @SuppressWarnings("unused") int to) {
+        return from;
+    }
+
+    protected int applySimd(@SuppressWarnings("unused") long[] left, @SuppressWarnings("unused") long[] right, @SuppressWarnings("unused") long[] result, int from, @SuppressWarnings("unused") int to) {
+        return from;
+    }
+
+    /**
+     * The result of an operation on two {@link SLUniformArray uniform arrays} is again uniform,
+     * so it is computed in constant time. Only if the result does not fit into a {@code long} are
+     * the elements materialized.
+     */
+    @Specialization
+    protected Object doSLUniformArray(SLUniformArray left, SLUniformArray right,
+                    @Bind("this") Node node,
+                    @Cached InlinedBranchProfile sizeErrorProfile) {
+        checkSameSize(left.size(), right.size(), node, sizeErrorProfile);
+        long a = left.getValue();
+        long b = right.getValue();
+        long r = apply(a, b);
+        if(overflows(a, b, r)){
+            return uniformOverflow(left.size(), a, b);
+        }
+        return new SLUniformArray(left.size(), r);
+    }
+
+    @TruffleBoundary
+    private SLBigIntegerArray uniformOverflow(int length, long a, long b) {
+        BigInteger[] overflow = new BigInteger[length];
+        Arrays.fill(overflow, apply(BigInteger.valueOf(a), BigInteger.valueOf(b)));
+        return new SLBigIntegerArray(new long[length], overflow);
+    }
+
+    /**
+     * Specialization for short arrays whose length is the same at every execution, for example
+     * coordinates or small tuples built from array literals. The length is cached, so the loop is
+     * fully unrolled during compilation, and the result array has a constant size that allows
+     * escape analysis to scalar-replace it if it does not escape. Unlike the general
+     * specializations, these paths record nothing on the node or at allocation sites, so a result
+     * that is never used leaves no side effect behind and the whole operation can be removed.
+     * <p>
+     * Only one length is cached per node: a node that sees several short lengths uses the general
+     * loop instead of compiling an unrolled copy for each of them. The specializations are not
+     * static because the unrolled loop calls the operation of the subclass.
+     */
+    @SuppressWarnings("truffle-static-method")
+    @Specialization(guards = {"left.size() == cachedLength", "right.size() == cachedLength", "cachedLength <= SMALL_ARRAY_LENGTH"}, limit = "1")
+    protected Object doSmallSLIntegerArray(SLIntegerArray left, SLIntegerArray right,
+                    @Cached("left.size()") int cachedLength,
+                    @Bind("this") Node node,
+                    @Cached InlinedBranchProfile overflowProfile) {
+        int[] leftValues = left.getValues();
+        int[] rightValues = right.getValues();
+        int[] result = new int[cachedLength];
+        int end = applyExploded(leftValues, rightValues, result, cachedLength);
+        if(end < cachedLength){
+            overflowProfile.enter(node);
+            return continueAsLong(leftValues, rightValues, result, end);
+        }
+        return new SLIntegerArray(result);
+    }
+
+    @SuppressWarnings("truffle-static-method")
+    @Specialization(guards = {"left.size() == cachedLength", "right.size() == cachedLength", "cachedLength <= SMALL_ARRAY_LENGTH"}, limit = "1")
+    protected Object doSmallSLLongArray(SLLongArray left, SLLongArray right,
+                    @Cached("left.size()") int cachedLength,
+                    @Bind("this") Node node,
+                    @Cached InlinedBranchProfile overflowProfile) {
+        long[] leftValues = left.getValues();
+        long[] rightValues = right.getValues();
+        long[] result = new long[cachedLength];
+        int end = applyExploded(leftValues, rightValues, result, cachedLength);
+        if(end < cachedLength){
+            overflowProfile.enter(node);
+            SLBigIntegerArray.OverflowTable overflow = new SLBigIntegerArray.OverflowTable(cachedLength);
+            applyLanes(leftValues, null, rightValues, null, result, overflow, end, cachedLength);
+            return new SLBigIntegerArray(result, overflow.getValues());
+        }
+        return new SLLongArray(result);
+    }
+
+    @Specialization
+    protected Object doSLIntegerArray(SLIntegerArray left, SLIntegerArray right,
+                    @Bind("this") Node node,
+                    @Cached InlinedBranchProfile sizeErrorProfile,
+                    @Cached InlinedBranchProfile overflowProfile) {
+        checkSameSize(left.size(), right.size(), node, sizeErrorProfile);
+        activated(INT_ARRAY);
+        int[] leftValues = left.getValues();
+        int[] rightValues = right.getValues();
+        SLContext context = SLContext.get(node);
+        if(context.isParallel(leftValues.length)) {
+            return applyParallel(context, leftValues, rightValues);
+        }
+        int[] result = new int[leftValues.length];
+        int end = applyLanes(leftValues, rightValues, result, 0, result.length, context.isSimdEnabled());
+        LoopNode.reportLoopCount(node, end);
+        if(end < result.length){
+            overflowProfile.enter(node);
+            return continueAsLong(leftValues, rightValues, result, end);
+        }
+        return new SLIntegerArray(result);
+    }
+
+    @Specialization(replaces = "doSLIntegerArray")
+    protected Object doSLLongArray(SLLongArray left, SLLongArray right,
+                    @Bind("this") Node node,
+                    @Cached InlinedBranchProfile sizeErrorProfile,
+                    @Cached InlinedBranchProfile overflowProfile) {
+        checkSameSize(left.size(), right.size(), node, sizeErrorProfile);
+        activated(LONG_ARRAY);
+        long[] leftValues = left.getValues();
+        long[] rightValues = right.getValues();
+        SLContext context = SLContext.get(node);
+        if(context.isParallel(leftValues.length)) {
+            return applyParallel(context, leftValues, rightValues);
+        }
+        long[] result = new long[leftValues.length];
+        int end = applyLanes(leftValues, rightValues, result, 0, result.length, context.isSimdEnabled());
+        LoopNode.reportLoopCount(node, end);
+        if(end < result.length){
+            overflowProfile.enter(node);
+            SLBigIntegerArray.OverflowTable overflow = new SLBigIntegerArray.OverflowTable(result.length);
+            applyLanes(leftValues, null, rightValues, null, result, overflow, end, result.length);
+            return new SLBigIntegerArray(result, overflow.getValues());
+        }
+        resetNarrowOperands(INT_ARRAY);
+        return new SLLongArray(result);
+    }
+
+    @Specialization(replaces = "doSLLongArray")
+    protected Object doSLBigIntegerArray(SLBigIntegerArray left, SLBigIntegerArray right,
+                    @Bind("this") Node node,
+                    @Cached InlinedBranchProfile sizeErrorProfile) {
+        checkSameSize(left.size(), right.size(), node, sizeErrorProfile);
+        long[] leftValues = left.getValues();
+        long[] rightValues = right.getValues();
+        BigInteger[] leftOverflow = left.getOverflow();
+        BigInteger[] rightOverflow = right.getOverflow();
+        long[] result = new long[leftValues.length];
+        SLBigIntegerArray.OverflowTable overflow = new SLBigIntegerArray.OverflowTable(result.length);
+        SLContext context = SLContext.get(node);
+        if(context.isParallel(result.length)) {
+            context.forEachChunk(result.length, (from, to) -> applyLanes(leftValues, leftOverflow, rightValues, rightOverflow, result, overflow, from, to));
+        } else {
+            applyLanes(leftValues, leftOverflow, rightValues, rightOverflow, result, overflow, 0, result.length);
+            LoopNode.reportLoopCount(node, result.length);
+        }
+        resetNarrowOperands(INT_ARRAY | LONG_ARRAY);
+        return new SLBigIntegerArray(result, overflow.getValues());
+    }
+
+    /**
+     * Broadcasts a number to all elements of a {@link SLUniformArray}, which keeps the result
+     * uniform.
+     */
+    @Specialization
+    protected Object doSLUniformArrayLong(SLUniformArray left, long right) {
+        return broadcast(left, right, false);
+    }
+
+    @Specialization
+    protected Object doLongSLUniformArray(long left, SLUniformArray right) {
+        return broadcast(right, left, true);
+    }
+
+    @Specialization(guards = "isInt(right)")
+    protected Object doSLIntegerArrayInt(SLIntegerArray left, long right,
+                    @Bind("this") Node node,
+                    @Cached InlinedBranchProfile overflowProfile) {
+        return broadcast(left.getValues(), (int) right, false, node, overflowProfile);
+    }
+
+    @Specialization(guards = "isInt(left)")
+    protected Object doIntSLIntegerArray(long left, SLIntegerArray right,
+                    @Bind("this") Node node,
+                    @Cached InlinedBranchProfile overflowProfile) {
+        return broadcast(right.getValues(), (int) left, true, node, overflowProfile);
+    }
+
+    @Specialization(replaces = "doSLIntegerArrayInt")
+    protected Object doSLLongArrayLong(SLLongArray left, long right,
+                    @Bind("this") Node node,
+                    @Cached InlinedBranchProfile overflowProfile) {
+        return broadcast(left.getValues(), right, false, node, overflowProfile);
+    }
+
+    @Specialization(replaces = "doIntSLIntegerArray")
+    protected Object doLongSLLongArray(long left, SLLongArray right,
+                    @Bind("this") Node node,
+                    @Cached InlinedBranchProfile overflowProfile) {
+        return broadcast(right.getValues(), left, true, node, overflowProfile);
+    }
+
+    @Specialization(replaces = "doSLLongArrayLong")
+    protected Object doSLBigIntegerArrayLong(SLBigIntegerArray left, long right,
+                    @Bind("this") Node node) {
+        return broadcast(left.getValues(), left.getOverflow(), right, false, node);
+    }
+
+    @Specialization(replaces = "doLongSLLongArray")
+    protected Object doLongSLBigIntegerArray(long left, SLBigIntegerArray right,
+                    @Bind("this") Node node) {
+        return broadcast(right.getValues(), right.getOverflow(), left, true, node);
+    }
+
+    /**
+     * A number that does not fit into a {@code long} makes every lane an arbitrary precision
+     * operation, so the whole loop runs behind a boundary.
+     */
+    @Specialization
+    protected Object doSLBigIntegerArraySLBigInteger(SLBigIntegerArray left, SLBigInteger right) {
+        return broadcast(left.getValues(), left.getOverflow(), right.getValue(), false);
+    }
+
+    @Specialization
+    protected Object doSLBigIntegerSLBigIntegerArray(SLBigInteger left, SLBigIntegerArray right) {
+        return broadcast(right.getValues(), right.getOverflow(), left.getValue(), true);
+    }
+
+    /**
+     * Operations on {@link SLArrayView views} read the elements through the views, so the storage
+     * of their parents is never copied. The other operand may be an array or a number, which is
+     * read through a view as well.
+     * <p>
+     * This specialization also handles all operands that no specialization above takes as they
+     * are: arrays of different widths, e.g. an {@code int} and a {@code long} array, an array
+     * with a wider number, and arrays whose own specialization was replaced by a wider one. The
+     * narrower storage is read through a view that widens every element on access, instead of
+     * being copied into a wider array. The allocation sites of such arrays are told to create the
+     * wider storage directly, see {@link SLAllocationSite}. Operands that a replaced
+     * specialization would take count towards re-narrowing the node.
+     */
+    @Specialization(guards = "isArray(left) || isArray(right)")
+    protected Object doSLArrayView(Object left, Object right,
+                    @Bind("this") Node node,
+                    @Cached InlinedBranchProfile sizeErrorProfile,
+                    @Cached InlinedBranchProfile overflowProfile) {
+        SLArrayView leftView = SLArrayView.of(left);
+        SLArrayView rightView = SLArrayView.of(right);
+        if(leftView == null){
+            leftView = SLArrayView.broadcast(left, rightView.size());
+        } else if(rightView == null){
+            rightView = SLArrayView.broadcast(right, leftView.size());
+        }
+        if(leftView == null || rightView == null){
+            throw SLException.typeError(this, left, right);
+        }
+        int width = Math.max(leftView.getWidth(), rightView.getWidth());
+        SLAllocationSite.recordWidth(left, width);
+        SLAllocationSite.recordWidth(right, width);
+        checkSameSize(leftView.size(), rightView.size(), node, sizeErrorProfile);
+        SLArrayView a = leftView;
+        SLArrayView b = rightView;
+        long[] result = new long[a.size()];
+        SLBigIntegerArray.OverflowTable overflow = new SLBigIntegerArray.OverflowTable(result.length);
+        SLContext context = SLContext.get(node);
+        if(context.isParallel(result.length)) {
+            context.forEachChunk(result.length, (from, to) -> applyLanes(a, b, result, overflow, from, to));
+        } else {
+            applyLanes(a, b, result, overflow, 0, result.length);
+            LoopNode.reportLoopCount(node, result.length);
+        }
+        if(overflow.getValues() != null){
+            overflowProfile.enter(node);
+            return new SLBigIntegerArray(result, overflow.getValues());
+        }
+        if(replacedNarrower(narrowerSpecialization(left, right))){
+            reportNarrowOperands();
+        }
+        if(a.getInts() != null && b.getInts() != null){
+            return SLLongArray.narrow(result);
+        }
+        return new SLLongArray(result);
+    }
+
+    @Fallback
+    protected Object typeError(Object left, Object right) {
+        throw SLException.typeError(this, left, right);
+    }
+
+    protected static boolean isInt(long value) {
+        return (int) value == value;
+    }
+
+    protected static boolean isArray(Object value) {
+        return value instanceof SLIntegerArray || value instanceof SLLongArray || value instanceof SLBigIntegerArray || value instanceof SLUniformArray || value instanceof SLArrayView;
+    }
+
+    /**
+     * Records that one of the replaceable specializations is active.
+     */
+    private void activated(int specialization) {
+        if((replaceableSpecializations & specialization) == 0){
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            replaceableSpecializations |= specialization;
+        }
+    }
+
+    /**
+     * Returns whether one of the {@code replaced} specializations was active, i.e. whether the
+     * calling specialization replaced a narrower one of this node.
+     */
+    private boolean replacedNarrower(int replaced) {
+        return (replaceableSpecializations & replaced) != 0;
+    }
+
+    /**
+     * Returns the replaceable specialization that takes operands of these types, or {@code 0} if
+     * none does, e.g. for a view or for arrays of different widths.
+     */
+    private static int narrowerSpecialization(Object left, Object right) {
+        if(SLTypes.isSLIntegerArray(left)){
+            if(SLTypes.isSLIntegerArray(right)){
+                return INT_ARRAY;
+            }
+            return right instanceof Long && isInt((long) right) ? INT_ARRAY_INT : 0;
+        } else if(SLTypes.isSLIntegerArray(right)){
+            return left instanceof Long && isInt((long) left) ? INT_INT_ARRAY : 0;
+        } else if(SLTypes.isSLLongArray(left)){
+            if(SLTypes.isSLLongArray(right)){
+                return LONG_ARRAY;
+            }
+            return right instanceof Long ? LONG_ARRAY_LONG : 0;
+        } else if(SLTypes.isSLLongArray(right)){
+            return left instanceof Long ? LONG_LONG_ARRAY : 0;
+        }
+        return 0;
+    }
+
+    /**
+     * Records that a wide specialization executed, which ends a row of narrow operands if it
+     * replaced one of the narrower specializations {@code replaced}. A node that never replaced
+     * them does not touch the counter.
+     */
+    private void resetNarrowOperands(int replaced) {
+        if(replacedNarrower(replaced) && narrowOperands != 0){
+            narrowOperands = 0;
+        }
+    }
+
+    /**
+     * Records operands that a replaced narrower specialization would take, and re-specializes
+     * the node once {@link #RENARROW_THRESHOLD} of them arrived in a row.
+     */
+    private void reportNarrowOperands() {
+        if(++narrowOperands >= RENARROW_THRESHOLD && renarrowings < MAX_RENARROWINGS){
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            renarrow();
+        }
+    }
+
+    /**
+     * Replaces this node with an uninitialized copy. The copy starts with the narrowest
+     * specializations and only widens again if its operands do.
+     */
+    private void renarrow() {
+        SLVecBinaryNode narrow = createUninitialized(getLeftNode(), getRightNode());
+        narrow.renarrowings = renarrowings + 1;
+        narrow.copySourceAndTags(this);
+        /* This node finishes the current execution, but must not replace itself again. */
+        renarrowings = MAX_RENARROWINGS;
+        replace(narrow, "re-narrow after narrow results");
+        narrow.adoptChildren();
+    }
+
+    /**
+     * The error path is behind a profile, so compiled code only contains a deoptimization for it
+     * until it is taken. This does not make the general specializations free of side effects:
+     * they may still update the re-narrowing state of the node, and {@link #doSLArrayView}
+     * records widths at allocation sites. Only the small specializations, which check the size in
+     * their guards, leave nothing behind.
+     */
+    private void checkSameSize(int leftSize, int rightSize, Node node, InlinedBranchProfile sizeErrorProfile) {
+        if(leftSize != rightSize) {
+            sizeErrorProfile.enter(node);
+            throw new SLException("Arrays not of same size!", this);
+        }
+    }
+
+    /**
+     * Applies the operation to the lanes {@code [from, to)} and returns the index of the first lane
+     * whose result does not fit into an {@code int}, or {@code to} if there is none.
+     */
+    private int applyLanes(int[] left, int[] right, int[] result, int from, int to, boolean simd) {
+        int i = simd ? applySimd(left, right, result, from, to) : from;
+        for(; i < to; i++){
+            long r = apply(left[i], right[i]);
+            if((int) r != r){
+                return i;
+            }
+            result[i] = (int) r;
+        }
+        return to;
+    }
+
+    /**
+     * Same as {@link #applyLanes(int[], int[], int[], int, int, boolean)} for {@code long} lanes.
+     */
+    private int applyLanes(long[] left, long[] right, long[] result, int from, int to, boolean simd) {
+        int i = simd ? applySimd(left, right, result, from, to) : from;
+        for(; i < to; i++){
+            long a = left[i];
+            long b = right[i];
+            long r = apply(a, b);
+            if(overflows(a, b, r)){
+                return i;
+            }
+            result[i] = r;
+        }
+        return to;
+    }
+
+    /**
+     * Same as {@link #applyLanes(int[], int[], int[], int, int, boolean)} for a length that is a
+     * compilation constant.
+     */
+    @ExplodeLoop
+    private int applyExploded(int[] left, int[] right, int[] result, int length) {
+        CompilerAsserts.partialEvaluationConstant(length);
+        for(int i = 0; i < length; i++){
+            long r = apply(left[i], right[i]);
+            if((int) r != r){
+                return i;
+            }
+            result[i] = (int) r;
+        }
+        return length;
+    }
+
+    @ExplodeLoop
+    private int applyExploded(long[] left, long[] right, long[] result, int length) {
+        CompilerAsserts.partialEvaluationConstant(length);
+        for(int i = 0; i < length; i++){
+            long a = left[i];
+            long b = right[i];
+            long r = apply(a, b);
+            if(overflows(a, b, r)){
+                return i;
+            }
+            result[i] = r;
+        }
+        return length;
+    }
+
+    /**
+     * Finishes an {@code int} operation whose lane {@code from} overflowed. The lanes before
+     * {@code from} are already in {@code partial}; the result of an operation on two {@code int}
+     * values always fits into a {@code long}, so the remaining lanes need no further overflow
+     * check.
+     */
+    private SLLongArray continueAsLong(int[] left, int[] right, int[] partial, int from) {
+        long[] result = new long[partial.length];
+        for(int i = 0; i < from; i++){
+            result[i] = partial[i];
+        }
+        applyLanesAsLong(left, right, result, from, result.length);
+        return new SLLongArray(result);
+    }
+
+    private void applyLanesAsLong(int[] left, int[] right, long[] result, int from, int to) {
+        for(int i = from; i < to; i++){
+            result[i] = apply(left[i], right[i]);
+        }
+    }
+
+    /**
+     * Applies the operation to the lanes {@code [from, to)} and stores the results in the dense
+     * storage {@code result} of a {@link SLBigIntegerArray}. The lanes before {@code from} are not
+     * touched, so a {@code long} operation that overflowed can reuse its partial result as the
+     * dense storage.
+     * <p>
+     * The loop itself only does {@code long} arithmetic and is compiled with the rest of the node.
+     * Only the lanes that overflow or are already in one of the overflow side tables of the
+     * operands call {@link #applyOverflowingLane}, which uses {@link BigInteger} arithmetic behind
+     * a boundary.
+     */
+    private void applyLanes(long[] left, BigInteger[] leftOverflow, long[] right, BigInteger[] rightOverflow, long[] result, SLBigIntegerArray.OverflowTable overflow, int from, int to) {
+        for(int i = from; i < to; i++){
+            boolean leftDense = leftOverflow == null || leftOverflow[i] == null;
+            boolean rightDense = rightOverflow == null || rightOverflow[i] == null;
+            /* The dense entries of lanes that are in a side table are undefined. */
+            if(CompilerDirectives.injectBranchProbability(CompilerDirectives.FASTPATH_PROBABILITY, leftDense && rightDense)){
+                long a = left[i];
+                long b = right[i];
+                long r = apply(a, b);
+                if(CompilerDirectives.injectBranchProbability(CompilerDirectives.FASTPATH_PROBABILITY, !overflows(a, b, r))){
+                    result[i] = r;
+                    continue;
+                }
+            }
+            applyOverflowingLane(left, leftOverflow, right, rightOverflow, result, overflow, i);
+        }
+    }
+
+    /**
+     * Same as {@link #applyLanes(long[], BigInteger[], long[], BigInteger[], long[],
+     * SLBigIntegerArray.OverflowTable, int, int)} for operands that are read through views.
+     */
+    private void applyLanes(SLArrayView left, SLArrayView right, long[] result, SLBigIntegerArray.OverflowTable overflow, int from, int to) {
+        for(int i = from; i < to; i++){
+            if(CompilerDirectives.injectBranchProbability(CompilerDirectives.FASTPATH_PROBABILITY, !left.isOverflow(i) && !right.isOverflow(i))){
+                long a = left.getLong(i);
+                long b = right.getLong(i);
+                long r = apply(a, b);
+                if(CompilerDirectives.injectBranchProbability(CompilerDirectives.FASTPATH_PROBABILITY, !overflows(a, b, r))){
+                    result[i] = r;
+                    continue;
+                }
+            }
+            applyOverflowingLane(left, right, result, overflow, i);
+        }
+    }
+
+    @TruffleBoundary
+    private void applyOverflowingLane(SLArrayView left, SLArrayView right, long[] result, SLBigIntegerArray.OverflowTable overflow, int i) {
+        BigInteger r = apply(left.getBigInteger(i), right.getBigInteger(i));
+        if(SLBigIntegerArray.fitsInDenseStorage(r)){
+            result[i] = r.longValue();
+        } else {
+            overflow.set(i, r);
+        }
+    }
+
+    @TruffleBoundary
+    private void applyOverflowingLane(long[] left, BigInteger[] leftOverflow, long[] right, BigInteger[] rightOverflow, long[] result, SLBigIntegerArray.OverflowTable overflow, int i) {
+        BigInteger a = leftOverflow != null && leftOverflow[i] != null ? leftOverflow[i] : BigInteger.valueOf(left[i]);
+        BigInteger b = rightOverflow != null && rightOverflow[i] != null ? rightOverflow[i] : BigInteger.valueOf(right[i]);
+        BigInteger r = apply(a, b);
+        if(SLBigIntegerArray.fitsInDenseStorage(r)){
+            result[i] = r.longValue();
+        } else {
+            overflow.set(i, r);
+        }
+    }
+
+    @TruffleBoundary
+    private Object applyParallel(SLContext context, int[] left, int[] right) {
+        int[] result = new int[left.length];
+        boolean simd = context.isSimdEnabled();
+        AtomicBoolean overflowed = new AtomicBoolean();
+        context.forEachChunk(result.length, (from, to) -> {
+            if(applyLanes(left, right, result, from, to, simd) < to){
+                overflowed.set(true);
+            }
+        });
+        if(!overflowed.get()){
+            return new SLIntegerArray(result);
+        }
+        long[] longResult = new long[result.length];
+        context.forEachChunk(result.length, (from, to) -> applyLanesAsLong(left, right, longResult, from, to));
+        return new SLLongArray(longResult);
+    }
+
+    @TruffleBoundary
+    private Object applyParallel(SLContext context, long[] left, long[] right) {
+        long[] result = new long[left.length];
+        boolean simd = context.isSimdEnabled();
+        SLBigIntegerArray.OverflowTable overflow = new SLBigIntegerArray.OverflowTable(result.length);
+        context.forEachChunk(result.length, (from, to) -> {
+            int end = applyLanes(left, right, result, from, to, simd);
+            if(end < to){
+                applyLanes(left, null, right, null, result, overflow, end, to);
+            }
+        });
+        resetNarrowOperands(INT_ARRAY);
+        if(overflow.getValues() == null){
+            return new SLLongArray(result);
+        }
+        return new SLBigIntegerArray(result, overflow.getValues());
+    }
+
+    private Object broadcast(SLUniformArray array, long scalar, boolean scalarLeft) {
+        long a = scalarLeft ? scalar : array.getValue();
+        long b = scalarLeft ? array.getValue() : scalar;
+        long r = apply(a, b);
+        if(overflows(a, b, r)){
+            return uniformOverflow(array.size(), a, b);
+        }
+        return new SLUniformArray(array.size(), r);
+    }
+
+    private Object broadcast(int[] values, int scalar, boolean scalarLeft, Node node, InlinedBranchProfile overflowProfile) {
+        activated(scalarLeft ? INT_INT_ARRAY : INT_ARRAY_INT);
+        SLContext context = SLContext.get(node);
+        if(context.isParallel(values.length)) {
+            return broadcastParallel(context, values, scalar, scalarLeft);
+        }
+        int[] result = new int[values.length];
+        int end = broadcastLanes(values, scalar, scalarLeft, result, 0, result.length);
+        LoopNode.reportLoopCount(node, end);
+        if(end < result.length){
+            overflowProfile.enter(node);
+            long[] longResult = new long[result.length];
+            for(int i = 0; i < end; i++){
+                longResult[i] = result[i];
+            }
+            broadcastLanesAsLong(values, scalar, scalarLeft, longResult, end, result.length);
+            return new SLLongArray(longResult);
+        }
+        return new SLIntegerArray(result);
+    }
+
+    private Object broadcast(long[] values, long scalar, boolean scalarLeft, Node node, InlinedBranchProfile overflowProfile) {
+        activated(scalarLeft ? LONG_LONG_ARRAY : LONG_ARRAY_LONG);
+        SLContext context = SLContext.get(node);
+        if(context.isParallel(values.length)) {
+            return broadcastParallel(context, values, scalar, scalarLeft);
+        }
+        long[] result = new long[values.length];
+        int end = broadcastLanes(values, scalar, scalarLeft, result, 0, result.length);
+        LoopNode.reportLoopCount(node, end);
+        if(end < result.length){
+            overflowProfile.enter(node);
+            SLBigIntegerArray.OverflowTable overflow = new SLBigIntegerArray.OverflowTable(result.length);
+            broadcastLanes(values, null, scalar, scalarLeft, result, overflow, end, result.length);
+            return new SLBigIntegerArray(result, overflow.getValues());
+        }
+        resetNarrowOperands(scalarLeft ? INT_INT_ARRAY : INT_ARRAY_INT);
+        return new SLLongArray(result);
+    }
+
+    private Object broadcast(long[] values, BigInteger[] valuesOverflow, long scalar, boolean scalarLeft, Node node) {
+        long[] result = new long[values.length];
+        SLBigIntegerArray.OverflowTable overflow = new SLBigIntegerArray.OverflowTable(result.length);
+        SLContext context = SLContext.get(node);
+        if(context.isParallel(result.length)) {
+            context.forEachChunk(result.length, (from, to) -> broadcastLanes(values, valuesOverflow, scalar, scalarLeft, result, overflow, from, to));
+        } else {
+            broadcastLanes(values, valuesOverflow, scalar, scalarLeft, result, overflow, 0, result.length);
+            LoopNode.reportLoopCount(node, result.length);
+        }
+        resetNarrowOperands(scalarLeft ? INT_INT_ARRAY | LONG_LONG_ARRAY : INT_ARRAY_INT | LONG_ARRAY_LONG);
+        return new SLBigIntegerArray(result, overflow.getValues());
+    }
+
+    @TruffleBoundary
+    private Object broadcast(long[] values, BigInteger[] valuesOverflow, BigInteger scalar, boolean scalarLeft) {
+        long[] result = new long[values.length];
+        SLBigIntegerArray.OverflowTable overflow = new SLBigIntegerArray.OverflowTable(result.length);
+        SLContext context = SLContext.get(this);
+        if(context.isParallel(result.length)) {
+            context.forEachChunk(result.length, (from, to) -> broadcastLanes(values, valuesOverflow, scalar, scalarLeft, result, overflow, from, to));
+        } else {
+            broadcastLanes(values, valuesOverflow, scalar, scalarLeft, result, overflow, 0, result.length);
+        }
+        return new SLBigIntegerArray(result, overflow.getValues());
+    }
+
+    /**
+     * Same as {@link #applyLanes(int[], int[], int[], int, int, boolean)} with a broadcast right
+     * operand, or left operand if {@code scalarLeft} is set.
+     */
+    private int broadcastLanes(int[] values, int scalar, boolean scalarLeft, int[] result, int from, int to) {
+        for(int i = from; i < to; i++){
+            long r = scalarLeft ? apply(scalar, values[i]) : apply(values[i], scalar);
+            if((int) r != r){
+                return i;
+            }
+            result[i] = (int) r;
+        }
+        return to;
+    }
+
+    private void broadcastLanesAsLong(int[] values, int scalar, boolean scalarLeft, long[] result, int from, int to) {
+        for(int i = from; i < to; i++){
+            result[i] = scalarLeft ? apply(scalar, values[i]) : apply(values[i], scalar);
+        }
+    }
+
+    private int broadcastLanes(long[] values, long scalar, boolean scalarLeft, long[] result, int from, int to) {
+        for(int i = from; i < to; i++){
+            long a = scalarLeft ? scalar : values[i];
+            long b = scalarLeft ? values[i] : scalar;
+            long r = apply(a, b);
+            if(overflows(a, b, r)){
+                return i;
+            }
+            result[i] = r;
+        }
+        return to;
+    }
+
+    /**
+     * Same as {@link #applyLanes(long[], BigInteger[], long[], BigInteger[], long[], SLBigIntegerArray.OverflowTable, int, int)}
+     * with a broadcast {@code long} operand.
+     */
+    private void broadcastLanes(long[] values, BigInteger[] valuesOverflow, long scalar, boolean scalarLeft, long[] result, SLBigIntegerArray.OverflowTable overflow, int from, int to) {
+        for(int i = from; i < to; i++){
+            if(CompilerDirectives.injectBranchProbability(CompilerDirectives.FASTPATH_PROBABILITY, valuesOverflow == null || valuesOverflow[i] == null)){
+                long a = scalarLeft ? scalar : values[i];
+                long b = scalarLeft ? values[i] : scalar;
+                long r = apply(a, b);
+                if(CompilerDirectives.injectBranchProbability(CompilerDirectives.FASTPATH_PROBABILITY, !overflows(a, b, r))){
+                    result[i] = r;
+                    continue;
+                }
+            }
+            broadcastOverflowingLane(values, valuesOverflow, scalar, scalarLeft, result, overflow, i);
+        }
+    }
+
+    @TruffleBoundary
+    private void broadcastOverflowingLane(long[] values, BigInteger[] valuesOverflow, long scalar, boolean scalarLeft, long[] result, SLBigIntegerArray.OverflowTable overflow, int i) {
+        broadcastLane(values, valuesOverflow, BigInteger.valueOf(scalar), scalarLeft, result, overflow, i);
+    }
+
+    private void broadcastLanes(long[] values, BigInteger[] valuesOverflow, BigInteger scalar, boolean scalarLeft, long[] result, SLBigIntegerArray.OverflowTable overflow, int from, int to) {
+        for(int i = from; i < to; i++){
+            broadcastLane(values, valuesOverflow, scalar, scalarLeft, result, overflow, i);
+        }
+    }
+
+    private void broadcastLane(long[] values, BigInteger[] valuesOverflow, BigInteger scalar, boolean scalarLeft, long[] result, SLBigIntegerArray.OverflowTable overflow, int i) {
+        BigInteger value = valuesOverflow != null && valuesOverflow[i] != null ? valuesOverflow[i] : BigInteger.valueOf(values[i]);
+        BigInteger r = scalarLeft ? apply(scalar, value) : apply(value, scalar);
+        if(SLBigIntegerArray.fitsInDenseStorage(r)){
+            result[i] = r.longValue();
+        } else {
+            overflow.set(i, r);
+        }
+    }
+
+    @TruffleBoundary
+    private Object broadcastParallel(SLContext context, int[] values, int scalar, boolean scalarLeft) {
+        int[] result = new int[values.length];
+        AtomicBoolean overflowed = new AtomicBoolean();
+        context.forEachChunk(result.length, (from, to) -> {
+            if(broadcastLanes(values, scalar, scalarLeft, result, from, to) < to){
+                overflowed.set(true);
+            }
+        });
+        if(!overflowed.get()){
+            return new SLIntegerArray(result);
+        }
+        long[] longResult = new long[result.length];
+        context.forEachChunk(result.length, (from, to) -> broadcastLanesAsLong(values, scalar, scalarLeft, longResult, from, to));
+        return new SLLongArray(longResult);
+    }
+
+    @TruffleBoundary
+    private Object broadcastParallel(SLContext context, long[] values, long scalar, boolean scalarLeft) {
+        long[] result = new long[values.length];
+        SLBigIntegerArray.OverflowTable overflow = new SLBigIntegerArray.OverflowTable(result.length);
+        context.forEachChunk(result.length, (from, to) -> {
+            int end = broadcastLanes(values, scalar, scalarLeft, result, from, to);
+            if(end < to){
+                broadcastLanes(values, null, scalar, scalarLeft, result, overflow, end, to);
+            }
+        });
+        resetNarrowOperands(scalarLeft ? INT_INT_ARRAY : INT_ARRAY_INT);
+        if(overflow.getValues() == null){
+            return new SLLongArray(result);
+        }
+        return new SLBigIntegerArray(result, overflow.getValues());
+    }
+}
@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.nodes.expression;
+
+import java.math.BigInteger;
+
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.GenerateCached;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.LoopNode;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.profiles.InlinedBranchProfile;
+import com.oracle.truffle.sl.SLException;
+import com.oracle.truffle.sl.nodes.SLBinaryNode;
+import com.oracle.truffle.sl.runtime.SLArrayView;
+import com.oracle.truffle.sl.runtime.SLBigIntegerArray;
+import com.oracle.truffle.sl.runtime.SLBitmaskArray;
+import com.oracle.truffle.sl.runtime.SLContext;
+import com.oracle.truffle.sl.runtime.SLIntegerArray;
+import com.oracle.truffle.sl.runtime.SLLongArray;
+import com.oracle.truffle.sl.runtime.SLUniformArray;
+
+/**
+ * Base class of the element-wise comparisons {@code vec_lt}, {@code vec_le}, {@code vec_gt},
+ * {@code vec_ge}, {@code vec_eq} and {@code vec_ne}. The operands are handled like by
+ * {@link SLVecBinaryNode}: two arrays of the same width are compared on their primitive storage,
+ * a number is broadcast to every element of the other operand, and all other combinations of
+ * arrays and {@link SLArrayView views} are read through views. A comparison cannot overflow, so
+ * there is no widening.
+ * <p>
+ * The result is a {@link SLBitmaskArray} with one bit per element. Every word of the result is
+ * computed by one loop over its 64 lanes that collects the bits in a local and stores the word
+ * once. Java shifts only use the low six bits of the distance, so {@code 1L << i} is the bit of
+ * element {@code i} in its word. Arrays above the {@link SLContext#isParallel(int) parallel
+ * threshold} are split into chunks of whole words, so no two threads write the same word.
+ * <p>
+ * Like {@link SLVecBinaryNode}, this class is not generated itself ({@link GenerateCached}), and
+ * every comparison repeats the {@link com.oracle.truffle.api.dsl.TypeSystemReference type system
+ * reference}.
+ */
+@GenerateCached(false)
+public abstract class SLVecCompareNode extends SLBinaryNode {
+
+    /**
+     * Compares two elements that fit into a {@code long}.
+     */
+    protected abstract boolean compare(long left, long right);
+
+    /**
+     * Compares two elements of which at least one does not fit into a {@code long}. Only called
+     * behind a {@link TruffleBoundary}.
+     */
+    protected abstract boolean compare(BigInteger left, BigInteger right);
+
+    @Specialization
+    protected SLBitmaskArray doSLIntegerArray(SLIntegerArray left, SLIntegerArray right,
+                    @Bind("this") Node node,
+                    @Cached InlinedBranchProfile sizeErrorProfile) {
+        checkSameSize(left.size(), right.size(), node, sizeErrorProfile);
+        int[] leftValues = left.getValues();
+        int[] rightValues = right.getValues();
+        int length = leftValues.length;
+        long[] words = new long[SLBitmaskArray.wordCount(length)];
+        SLContext context = SLContext.get(node);
+        if(context.isParallel(length)) {
+            context.forEachChunk(words.length, (from, to) -> compareWords(leftValues, rightValues, words, length, from, to));
+        } else {
+            compareWords(leftValues, rightValues, words, length, 0, words.length);
+            LoopNode.reportLoopCount(node, length);
+        }
+        return new SLBitmaskArray(words, length);
+    }
+
+    @Specialization
+    protected SLBitmaskArray doSLLongArray(SLLongArray left, SLLongArray right,
+                    @Bind("this") Node node,
+                    @Cached InlinedBranchProfile sizeErrorProfile) {
+        checkSameSize(left.size(), right.size(), node, sizeErrorProfile);
+        long[] leftValues = left.getValues();
+        long[] rightValues = right.getValues();
+        int length = leftValues.length;
+        long[] words = new long[SLBitmaskArray.wordCount(length)];
+        SLContext context = SLContext.get(node);
+        if(context.isParallel(length)) {
+            context.forEachChunk(words.length, (from, to) -> compareWords(leftValues, rightValues, words, length, from, to));
+        } else {
+            compareWords(leftValues, rightValues, words, length, 0, words.length);
+            LoopNode.reportLoopCount(node, length);
+        }
+        return new SLBitmaskArray(words, length);
+    }
+
+    /**
+     * Compares every element with a number, e.g. {@code a vec_lt 5} or {@code 0 vec_le a}. Any
+     * {@code long} can be compared with an {@code int} element, so there is no guard on the number.
+     */
+    @Specialization
+    protected SLBitmaskArray doSLIntegerArrayLong(SLIntegerArray left, long right,
+                    @Bind("this") Node node) {
+        return broadcast(left.getValues(), right, false, node);
+    }
+
+    @Specialization
+    protected SLBitmaskArray doLongSLIntegerArray(long left, SLIntegerArray right,
+                    @Bind("this") Node node) {
+        return broadcast(right.getValues(), left, true, node);
+    }
+
+    @Specialization
+    protected SLBitmaskArray doSLLongArrayLong(SLLongArray left, long right,
+                    @Bind("this") Node node) {
+        return broadcast(left.getValues(), right, false, node);
+    }
+
+    @Specialization
+    protected SLBitmaskArray doLongSLLongArray(long left, SLLongArray right,
+                    @Bind("this") Node node) {
+        return broadcast(right.getValues(), left, true, node);
+    }
+
+    /**
+     * All other combinations of arrays and numbers, e.g. arrays of different widths,
+     * {@link SLBigIntegerArray big integer arrays}, {@link SLUniformArray uniform arrays} and
+     * views, are read through {@link SLArrayView views} without copying their storage.
+     */
+    @Specialization(guards = "isArray(left) || isArray(right)")
+    protected SLBitmaskArray doSLArrayView(Object left, Object right,
+                    @Bind("this") Node node,
+                    @Cached InlinedBranchProfile sizeErrorProfile) {
+        SLArrayView leftView = SLArrayView.of(left);
+        SLArrayView rightView = SLArrayView.of(right);
+        if(leftView == null){
+            leftView = SLArrayView.broadcast(left, rightView.size());
+        } else if(rightView == null){
+            rightView = SLArrayView.broadcast(right, leftView.size());
+        }
+        if(leftView == null || rightView == null){
+            throw SLException.typeError(this, left, right);
+        }
+        checkSameSize(leftView.size(), rightView.size(), node, sizeErrorProfile);
+        SLArrayView a = leftView;
+        SLArrayView b = rightView;
+        int length = a.size();
+        long[] words = new long[SLBitmaskArray.wordCount(length)];
+        SLContext context = SLContext.get(node);
+        if(context.isParallel(length)) {
+            context.forEachChunk(words.length, (from, to) -> compareWords(a, b, words, length, from, to));
+        } else {
+            compareWords(a, b, words, length, 0, words.length);
+            LoopNode.reportLoopCount(node, length);
+        }
+        return new SLBitmaskArray(words, length);
+    }
+
+    @Fallback
+    protected Object typeError(Object left, Object right) {
+        throw SLException.typeError(this, left, right);
+    }
+
+    protected static boolean isArray(Object value) {
+        return SLVecBinaryNode.isArray(value);
+    }
+
+    private void checkSameSize(int leftSize, int rightSize, Node node, InlinedBranchProfile sizeErrorProfile) {
+        if(leftSize != rightSize) {
+            sizeErrorProfile.enter(node);
+            throw new SLException("Arrays not of same size!", this);
+        }
+    }
+
+    private SLBitmaskArray broadcast(int[] values, long scalar, boolean scalarLeft, Node node) {
+        int length = values.length;
+        long[] words = new long[SLBitmaskArray.wordCount(length)];
+        SLContext context = SLContext.get(node);
+        if(context.isParallel(length)) {
+            context.forEachChunk(words.length, (from, to) -> broadcastWords(values, scalar, scalarLeft, words, length, from, to));
+        } else {
+            broadcastWords(values, scalar, scalarLeft, words, length, 0, words.length);
+            LoopNode.reportLoopCount(node, length);
+        }
+        return new SLBitmaskArray(words, length);
+    }
+
+    private SLBitmaskArray broadcast(long[] values, long scalar, boolean scalarLeft, Node node) {
+        int length = values.length;
+        long[] words = new long[SLBitmaskArray.wordCount(length)];
+        SLContext context = SLContext.get(node);
+        if(context.isParallel(length)) {
+            context.forEachChunk(words.length, (from, to) -> broadcastWords(values, scalar, scalarLeft, words, length, from, to));
+        } else {
+            broadcastWords(values, scalar, scalarLeft, words, length, 0, words.length);
+            LoopNode.reportLoopCount(node, length);
+        }
+        return new SLBitmaskArray(words, length);
+    }
+
+    /**
+     * Computes the words {@code [fromWord, toWord)} of the result.
+     */
+    private void compareWords(int[] left, int[] right, long[] words, int length, int fromWord, int toWord) {
+        for(int w = fromWord; w < toWord; w++){
+            int end = (int) Math.min((w + 1L) << 6, length);
+            long bits = 0;
+            for(int i = w << 6; i < end; i++){
+                if(compare(left[i], right[i])){
+                    bits |= 1L << i;
+                }
+            }
+            words[w] = bits;
+        }
+    }
+
+    private void compareWords(long[] left, long[] right, long[] words, int length, int fromWord, int toWord) {
+        for(int w = fromWord; w < toWord; w++){
+            int end = (int) Math.min((w + 1L) << 6, length);
+            long bits = 0;
+            for(int i = w << 6; i < end; i++){
+                if(compare(left[i], right[i])){
+                    bits |= 1L << i;
+                }
+            }
+            words[w] = bits;
+        }
+    }
+
+    private void compareWords(SLArrayView left, SLArrayView right, long[] words, int length, int fromWord, int toWord) {
+        for(int w = fromWord; w < toWord; w++){
+            int end = (int) Math.min((w + 1L) << 6, length);
+            long bits = 0;
+            for(int i = w << 6; i < end; i++){
+                boolean r;
+                if(CompilerDirectives.injectBranchProbability(CompilerDirectives.FASTPATH_PROBABILITY, !left.isOverflow(i) && !right.isOverflow(i))){
+                    r = compare(left.getLong(i), right.getLong(i));
+                } else {
+                    r = compareOverflowingLane(left, right, i);
+                }
+                if(r){
+                    bits |= 1L << i;
+                }
+            }
+            words[w] = bits;
+        }
+    }
+
+    @TruffleBoundary
+    private boolean compareOverflowingLane(SLArrayView left, SLArrayView right, int i) {
+        return compare(left.getBigInteger(i), right.getBigInteger(i));
+    }
+
+    private void broadcastWords(int[] values, long scalar, boolean scalarLeft, long[] words, int length, int fromWord, int toWord) {
+        for(int w = fromWord; w < toWord; w++){
+            int end = (int) Math.min((w + 1L) << 6, length);
+            long bits = 0;
+            for(int i = w << 6; i < end; i++){
+                if(scalarLeft ? compare(scalar, values[i]) : compare(values[i], scalar)){
+                    bits |= 1L << i;
+                }
+            }
+            words[w] = bits;
+        }
+    }
+
+    private void broadcastWords(long[] values, long scalar, boolean scalarLeft, long[] words, int length, int fromWord, int toWord) {
+        for(int w = fromWord; w < toWord; w++){
+            int end = (int) Math.min((w + 1L) << 6, length);
+            long bits = 0;
+            for(int i = w << 6; i < end; i++){
+                if(scalarLeft ? compare(scalar, values[i]) : compare(values[i], scalar)){
+                    bits |= 1L << i;
+                }
+            }
+            words[w] = bits;
+        }
+    }
+}
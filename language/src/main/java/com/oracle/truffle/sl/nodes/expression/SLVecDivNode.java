@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.nodes.expression;
+
+import java.math.BigInteger;
+
+import com.oracle.truffle.api.dsl.Introspectable;
+import com.oracle.truffle.api.dsl.TypeSystemReference;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import com.oracle.truffle.sl.nodes.SLExpressionNode;
+import com.oracle.truffle.sl.nodes.SLTypes;
+
+/**
+ * Element-wise division of two arrays, see {@link SLVecBinaryNode}. Like {@link SLDivNode}, the
+ * division truncates towards zero, and a division by 0 throws the same {@link ArithmeticException
+ * exception} as in Java. The only division that overflows is {@code Long.MIN_VALUE / -1}.
+ */
+@TypeSystemReference(SLTypes.class)
+@Introspectable
+@NodeInfo(shortName = "vec_div")
+public abstract class SLVecDivNode extends SLVecBinaryNode {
+
+    @Override
+    protected final long apply(int left, int right) {
+        return (long) left / right;
+    }
+
+    @Override
+    protected final long apply(long left, long right) {
+        return left / right;
+    }
+
+    @Override
+    protected final boolean overflows(long left, long right, long result) {
+        return (left & right & result) < 0;
+    }
+
+    @Override
+    protected final BigInteger apply(BigInteger left, BigInteger right) {
+        return left.divide(right);
+    }
+
+    @Override
+    protected final SLVecBinaryNode createUninitialized(SLExpressionNode left, SLExpressionNode right) {
+        return SLVecDivNodeGen.create(left, right);
+    }
+}
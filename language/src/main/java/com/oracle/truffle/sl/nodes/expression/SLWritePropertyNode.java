@@ -42,6 +42,7 @@ package com.oracle.truffle.sl.nodes.expression;
 
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Cached.Shared;
 import com.oracle.truffle.api.dsl.NodeChild;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.interop.InteropLibrary;
@@ -53,11 +54,17 @@ import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.nodes.NodeInfo;
 import com.oracle.truffle.api.object.DynamicObjectLibrary;
+import com.oracle.truffle.api.profiles.InlinedBranchProfile;
 import com.oracle.truffle.sl.nodes.SLExpressionNode;
 import com.oracle.truffle.sl.nodes.util.SLToMemberNode;
 import com.oracle.truffle.sl.nodes.util.SLToTruffleStringNode;
+import com.oracle.truffle.sl.runtime.SLBigInteger;
+import com.oracle.truffle.sl.runtime.SLBigIntegerArray;
+import com.oracle.truffle.sl.runtime.SLIntegerArray;
+import com.oracle.truffle.sl.runtime.SLLongArray;
 import com.oracle.truffle.sl.runtime.SLObject;
 import com.oracle.truffle.sl.runtime.SLUndefinedNameException;
+import com.oracle.truffle.sl.runtime.SLUniformArray;
 
 /**
  * The node for writing a property of an object. When executed, this node:
@@ -77,6 +84,79 @@ public abstract class SLWritePropertyNode extends SLExpressionNode {
 
     static final int LIBRARY_LIMIT = 3;
 
+    /*
+     * Direct element writes of SL arrays. A value that fits into the storage of the array is
+     * stored in place. The first value that does not fit widens the storage, which happens in the
+     * separate widening specializations: the transition is recorded in the specialization state,
+     * so a write site that never widens only contains the fitting store, and a site that widened
+     * once continues with the wider specialization, because the type system sees the array as
+     * its wider storage from then on. The widening specializations come before the wider ones, so
+     * that the receiver is never copied by an implicit cast.
+     */
+
+    /**
+     * The first write to a uniform array {@link SLUniformArray#detach() detaches} it to a dense
+     * array. Later writes see the dense array and use its direct specializations.
+     */
+    @Specialization
+    protected static Object writeSLUniformArray(SLUniformArray receiver, long index, Object value,
+                    @Bind("this") Node node,
+                    @Shared("arrays") @CachedLibrary(limit = "LIBRARY_LIMIT") InteropLibrary arrays) {
+        return writeWidening(node, arrays, receiver, index, value);
+    }
+
+    @Specialization(guards = "isInt(value)")
+    protected static long writeSLIntegerArray(SLIntegerArray receiver, long index, long value,
+                    @Bind("this") Node node,
+                    @Shared("outOfBounds") @Cached InlinedBranchProfile outOfBounds) {
+        int[] values = receiver.getValues();
+        checkBounds(node, index, values.length, outOfBounds);
+        values[(int) index] = (int) value;
+        return value;
+    }
+
+    @Specialization
+    protected static Object writeWideningSLIntegerArray(SLIntegerArray receiver, long index, Object value,
+                    @Bind("this") Node node,
+                    @Shared("arrays") @CachedLibrary(limit = "LIBRARY_LIMIT") InteropLibrary arrays) {
+        return writeWidening(node, arrays, receiver, index, value);
+    }
+
+    @Specialization
+    protected static long writeSLLongArray(SLLongArray receiver, long index, long value,
+                    @Bind("this") Node node,
+                    @Shared("outOfBounds") @Cached InlinedBranchProfile outOfBounds) {
+        long[] values = receiver.getValues();
+        checkBounds(node, index, values.length, outOfBounds);
+        values[(int) index] = value;
+        return value;
+    }
+
+    @Specialization
+    protected static Object writeWideningSLLongArray(SLLongArray receiver, long index, Object value,
+                    @Bind("this") Node node,
+                    @Shared("arrays") @CachedLibrary(limit = "LIBRARY_LIMIT") InteropLibrary arrays) {
+        return writeWidening(node, arrays, receiver, index, value);
+    }
+
+    @Specialization
+    protected static long writeSLBigIntegerArray(SLBigIntegerArray receiver, long index, long value,
+                    @Bind("this") Node node,
+                    @Shared("outOfBounds") @Cached InlinedBranchProfile outOfBounds) {
+        checkBounds(node, index, receiver.size(), outOfBounds);
+        receiver.set((int) index, value);
+        return value;
+    }
+
+    @Specialization
+    protected static SLBigInteger writeSLBigIntegerArray(SLBigIntegerArray receiver, long index, SLBigInteger value,
+                    @Bind("this") Node node,
+                    @Shared("outOfBounds") @Cached InlinedBranchProfile outOfBounds) {
+        checkBounds(node, index, receiver.size(), outOfBounds);
+        receiver.set((int) index, value.getValue());
+        return value;
+    }
+
     @Specialization(guards = "arrays.hasArrayElements(receiver)", limit = "LIBRARY_LIMIT")
     protected Object writeArray(Object receiver, Object index, Object value,
                     @CachedLibrary("receiver") InteropLibrary arrays,
@@ -113,6 +193,28 @@ public abstract class SLWritePropertyNode extends SLExpressionNode {
         return value;
     }
 
+    private static Object writeWidening(Node node, InteropLibrary arrays, Object receiver, long index, Object value) {
+        try {
+            arrays.writeArrayElement(receiver, index, value);
+        } catch (UnsupportedMessageException | UnsupportedTypeException | InvalidArrayIndexException e) {
+            // write was not successful. In SL we only have basic support for errors.
+            throw SLUndefinedNameException.undefinedProperty(node, index);
+        }
+        return value;
+    }
+
+    private static void checkBounds(Node node, long index, int length, InlinedBranchProfile outOfBounds) {
+        if (Long.compareUnsigned(index, length) >= 0) {
+            outOfBounds.enter(node);
+            // write was not successful. In SL we only have basic support for errors.
+            throw SLUndefinedNameException.undefinedProperty(node, index);
+        }
+    }
+
+    static boolean isInt(long value) {
+        return (int) value == value;
+    }
+
     static boolean isSLObject(Object receiver) {
         return receiver instanceof SLObject;
     }
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.nodes.util;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.sl.runtime.SLAllocationSite;
+import com.oracle.truffle.sl.runtime.SLBigInteger;
+import com.oracle.truffle.sl.runtime.SLBigIntegerArray;
+import com.oracle.truffle.sl.runtime.SLIntegerArray;
+import com.oracle.truffle.sl.runtime.SLLongArray;
+
+/**
+ * Buffer that collects the elements of a new array directly into primitive storage. The buffer
+ * starts with the storage recorded by the {@link SLAllocationSite allocation site} of the node
+ * using it, and is widened when an element does not fit. The site records the widest storage seen,
+ * including later widenings of the arrays it created, so that in compiled code the buffer is
+ * allocated with its final width and never copied.
+ */
+public final class SLArrayBuilder {
+
+    private final SLAllocationSite site;
+    private int[] ints;
+    private long[] longs;
+    private BigInteger[] overflow;
+
+    public SLArrayBuilder(SLAllocationSite site, int capacity) {
+        this.site = site;
+        if (site.getWidth() != SLAllocationSite.INT) {
+            this.longs = new long[capacity];
+        } else {
+            this.ints = new int[capacity];
+        }
+    }
+
+    /**
+     * Stores an element, and returns {@code false} if the value is not a number.
+     */
+    public boolean set(int index, Object value) {
+        if (ints != null) {
+            if (value instanceof Long && (int) (long) value == (long) value) {
+                ints[index] = (int) (long) value;
+                return true;
+            } else if (!(value instanceof Long || value instanceof SLBigInteger)) {
+                return false;
+            }
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            site.recordWidth(SLAllocationSite.LONG);
+            longs = widen(ints);
+            ints = null;
+        }
+        if (value instanceof Long) {
+            longs[index] = (long) value;
+            return true;
+        } else if (value instanceof SLBigInteger) {
+            if (site.getWidth() != SLAllocationSite.BIG_INTEGER) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                site.recordWidth(SLAllocationSite.BIG_INTEGER);
+            }
+            store(index, ((SLBigInteger) value).getValue());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns an array with the first {@code length} elements of the buffer.
+     */
+    public Object build(int length) {
+        if (ints != null) {
+            return new SLIntegerArray(length == ints.length ? ints : Arrays.copyOf(ints, length), site);
+        }
+        long[] values = length == longs.length ? longs : Arrays.copyOf(longs, length);
+        if (overflow == null && site.getWidth() != SLAllocationSite.BIG_INTEGER) {
+            return new SLLongArray(values, site);
+        } else if (overflow == null) {
+            return new SLBigIntegerArray(values);
+        }
+        return new SLBigIntegerArray(values, length == overflow.length ? overflow : Arrays.copyOf(overflow, length));
+    }
+
+    private static long[] widen(int[] values) {
+        long[] result = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[i];
+        }
+        return result;
+    }
+
+    @TruffleBoundary
+    private void store(int index, BigInteger value) {
+        if (SLBigIntegerArray.fitsInDenseStorage(value)) {
+            longs[index] = value.longValue();
+            if (overflow != null) {
+                overflow[index] = null;
+            }
+            return;
+        }
+        if (overflow == null) {
+            overflow = new BigInteger[longs.length];
+        }
+        overflow[index] = value;
+    }
+}
@@ -332,7 +332,37 @@ public class SLNodeFactory {
 
 
 
-    public SLExpressionNode createArray(ArrayList<BigInteger> values,Token s,Token e) {
+    /**
+     * Returns the node for an array literal. A literal that only consists of numeric literals is a
+     * constant with the narrowest storage that holds all elements; other literals evaluate their
+     * elements on every execution.
+     */
+    public SLExpressionNode createArray(List<SLExpressionNode> elements, Token s, Token e) {
+        ArrayList<BigInteger> values = new ArrayList<>(elements.size());
+        for (SLExpressionNode element : elements) {
+            if (element == null) {
+                return null;
+            } else if (element instanceof SLLongLiteralNode) {
+                values.add(BigInteger.valueOf(((SLLongLiteralNode) element).getValue()));
+            } else if (element instanceof SLBigIntegerLiteralNode) {
+                values.add(((SLBigIntegerLiteralNode) element).getValue());
+            } else {
+                values = null;
+                break;
+            }
+        }
+        if (values != null) {
+            return createConstantArray(values, s, e);
+        }
+
+        final SLArrayLiteralNode result = new SLArrayLiteralNode(elements.toArray(new SLExpressionNode[elements.size()]));
+        final int startPos = s.getStartIndex();
+        result.setSourceSection(startPos, e.getStopIndex() - startPos + 1);
+        result.addExpressionTag();
+        return result;
+    }
+
+    private static SLExpressionNode createConstantArray(ArrayList<BigInteger> values,Token s,Token e) {
         int max_bit_length = 0;
         for( BigInteger val : values){
             if(val.bitLength() > max_bit_length){
@@ -367,6 +397,18 @@ public class SLNodeFactory {
     }
 
 
+    /**
+     * Returns the node for a {@code vec_add}. If the left operand is itself a {@code vec_add} and
+     * the right operand has no side effects, the chain is flattened into a single
+     * {@link SLFusedVecAddNode} that adds all operands in one loop.
+     */
+    private static SLExpressionNode createVecAdd(SLExpressionNode leftNode, SLExpressionNode leftUnboxed, SLExpressionNode rightNode, SLExpressionNode rightUnboxed) {
+        if ((leftNode instanceof SLVecAddNode || leftNode instanceof SLFusedVecAddNode) && SLFusedVecAddNode.canAppend(rightNode)) {
+            return SLFusedVecAddNode.append(leftNode, rightUnboxed);
+        }
+        return SLVecAddNodeGen.create(leftUnboxed, rightUnboxed);
+    }
+
     /**
      * Returns the corresponding subclass of {@link SLExpressionNode} for binary expressions. </br>
      * These nodes are currently not instrumented.
@@ -387,7 +429,34 @@ public class SLNodeFactory {
         final SLExpressionNode result;
         switch (opToken.getText()) {
             case "vec_add":
-                result = SLVecAddNodeGen.create(leftUnboxed, rightUnboxed);
+                result = createVecAdd(leftNode, leftUnboxed, rightNode, rightUnboxed);
+                break;
+            case "vec_sub":
+                result = SLVecSubNodeGen.create(leftUnboxed, rightUnboxed);
+                break;
+            case "vec_mul":
+                result = SLVecMulNodeGen.create(leftUnboxed, rightUnboxed);
+                break;
+            case "vec_div":
+                result = SLVecDivNodeGen.create(leftUnboxed, rightUnboxed);
+                break;
+            case "vec_lt":
+                result = SLVecLessThanNodeGen.create(leftUnboxed, rightUnboxed);
+                break;
+            case "vec_le":
+                result = SLVecLessOrEqualNodeGen.create(leftUnboxed, rightUnboxed);
+                break;
+            case "vec_gt":
+                result = SLVecGreaterThanNodeGen.create(leftUnboxed, rightUnboxed);
+                break;
+            case "vec_ge":
+                result = SLVecGreaterOrEqualNodeGen.create(leftUnboxed, rightUnboxed);
+                break;
+            case "vec_eq":
+                result = SLVecEqualNodeGen.create(leftUnboxed, rightUnboxed);
+                break;
+            case "vec_ne":
+                result = SLVecNotEqualNodeGen.create(leftUnboxed, rightUnboxed);
                 break;
             case "+":
                 result = SLAddNodeGen.create(leftUnboxed, rightUnboxed);
@@ -53,7 +53,6 @@ grammar SimpleLanguage;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.math.BigInteger;
 
 
 import com.oracle.truffle.api.RootCallTarget;
@@ -251,7 +250,7 @@ arithmetic returns [SLExpressionNode result]
 |
     array                                          { $result = $array.result; }
     (
-        op='vec_add'
+        op=('vec_add' | 'vec_sub' | 'vec_mul' | 'vec_div' | 'vec_lt' | 'vec_le' | 'vec_gt' | 'vec_ge' | 'vec_eq' | 'vec_ne')
         array                                      { $result = factory.createBinary($op, $result, $array.result); }
     )*
 ;
@@ -338,15 +337,15 @@ member_expression [SLExpressionNode r, SLExpressionNode assignmentReceiver, SLEx
 
 array returns [SLExpressionNode result]
 :(
-s='['                                       {   ArrayList<BigInteger> values = new ArrayList<>();  }
+s='['                                       {   List<SLExpressionNode> elements = new ArrayList<>();  }
     (
-        NUMERIC_LITERAL                     {   values.add(new BigInteger($NUMERIC_LITERAL.getText())); }
+        expression                          {   elements.add($expression.result); }
         (
             ','
-            NUMERIC_LITERAL                 {   values.add(new BigInteger($NUMERIC_LITERAL.getText())); }
+            expression                      {   elements.add($expression.result); }
         )*
     )?
-e=']'                                       {   $result = factory.createArray(values,$s,$e); }
+e=']'                                       {   $result = factory.createArray(elements,$s,$e); }
 |
     IDENTIFIER                              {   SLExpressionNode assignmentName = factory.createStringLiteral($IDENTIFIER, false); }
     (
@@ -356,6 +355,12 @@ e=']'                                       {   $result = factory.createArray(va
     )
 |
      ARRAY_LITERAL_INTERNAL              {   $result = factory.createArrayInternal($ARRAY_LITERAL_INTERNAL);   }
+|
+    NUMERIC_LITERAL                         {   $result = factory.createNumericLiteral($NUMERIC_LITERAL); }
+|
+    s='('
+    expr=expression
+    e=')'                                   {   $result = factory.createParenExpression($expr.result, $s.getStartIndex(), $e.getStopIndex() - $s.getStartIndex() + 1); }
 );
 
 
@@ -24,8 +24,9 @@ public class SimpleLanguageLexer extends Lexer {
 		T__9=10, T__10=11, T__11=12, T__12=13, T__13=14, T__14=15, T__15=16, T__16=17, 
 		T__17=18, T__18=19, T__19=20, T__20=21, T__21=22, T__22=23, T__23=24, 
 		T__24=25, T__25=26, T__26=27, T__27=28, T__28=29, T__29=30, T__30=31, 
-		WS=32, COMMENT=33, LINE_COMMENT=34, ARRAY_LITERAL_INTERNAL=35, IDENTIFIER=36, 
-		STRING_LITERAL=37, NUMERIC_LITERAL=38;
+		T__31=32, T__32=33, T__33=34, T__34=35, T__35=36, T__36=37, T__37=38, 
+		T__38=39, T__39=40, WS=41, COMMENT=42, LINE_COMMENT=43, ARRAY_LITERAL_INTERNAL=44, 
+		IDENTIFIER=45, STRING_LITERAL=46, NUMERIC_LITERAL=47;
 	public static String[] channelNames = {
 		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
 	};
@@ -39,10 +40,12 @@ public class SimpleLanguageLexer extends Lexer {
 			"T__0", "T__1", "T__2", "T__3", "T__4", "T__5", "T__6", "T__7", "T__8", 
 			"T__9", "T__10", "T__11", "T__12", "T__13", "T__14", "T__15", "T__16", 
 			"T__17", "T__18", "T__19", "T__20", "T__21", "T__22", "T__23", "T__24", 
-			"T__25", "T__26", "T__27", "T__28", "T__29", "T__30", "WS", "COMMENT", 
-			"LINE_COMMENT", "LETTER", "NON_ZERO_DIGIT", "DIGIT", "HEX_DIGIT", "OCT_DIGIT", 
-			"BINARY_DIGIT", "TAB", "STRING_CHAR", "BIG_ZERO_ARRAY_LITERAL", "BIG_ONES_ARRAY_LITERAL", 
-			"ARRAY_LITERAL_INTERNAL", "IDENTIFIER", "STRING_LITERAL", "NUMERIC_LITERAL"
+			"T__25", "T__26", "T__27", "T__28", "T__29", "T__30", "T__31", "T__32", 
+			"T__33", "T__34", "T__35", "T__36", "T__37", "T__38", "T__39", "WS", 
+			"COMMENT", "LINE_COMMENT", "LETTER", "NON_ZERO_DIGIT", "DIGIT", "HEX_DIGIT", 
+			"OCT_DIGIT", "BINARY_DIGIT", "TAB", "STRING_CHAR", "BIG_ZERO_ARRAY_LITERAL", 
+			"BIG_ONES_ARRAY_LITERAL", "ARRAY_LITERAL_INTERNAL", "IDENTIFIER", "STRING_LITERAL", 
+			"NUMERIC_LITERAL"
 		};
 	}
 	public static final String[] ruleNames = makeRuleNames();
@@ -52,7 +55,9 @@ public class SimpleLanguageLexer extends Lexer {
 			null, "'function'", "'('", "','", "')'", "'{'", "'}'", "'break'", "';'", 
 			"'continue'", "'debugger'", "'while'", "'if'", "'else'", "'return'", 
 			"'||'", "'&&'", "'<'", "'<='", "'>'", "'>='", "'=='", "'!='", "'+'", 
-			"'-'", "'vec_add'", "'*'", "'/'", "'='", "'.'", "'['", "']'"
+			"'-'", "'vec_add'", "'vec_sub'", "'vec_mul'", "'vec_div'", "'vec_lt'", 
+			"'vec_le'", "'vec_gt'", "'vec_ge'", "'vec_eq'", "'vec_ne'", "'*'", "'/'", 
+			"'='", "'.'", "'['", "']'"
 		};
 	}
 	private static final String[] _LITERAL_NAMES = makeLiteralNames();
@@ -60,8 +65,9 @@ public class SimpleLanguageLexer extends Lexer {
 		return new String[] {
 			null, null, null, null, null, null, null, null, null, null, null, null, 
 			null, null, null, null, null, null, null, null, null, null, null, null, 
-			null, null, null, null, null, null, null, null, "WS", "COMMENT", "LINE_COMMENT", 
-			"ARRAY_LITERAL_INTERNAL", "IDENTIFIER", "STRING_LITERAL", "NUMERIC_LITERAL"
+			null, null, null, null, null, null, null, null, null, null, null, null, 
+			null, null, null, null, null, "WS", "COMMENT", "LINE_COMMENT", "ARRAY_LITERAL_INTERNAL", 
+			"IDENTIFIER", "STRING_LITERAL", "NUMERIC_LITERAL"
 		};
 	}
 	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
@@ -123,7 +129,7 @@ public class SimpleLanguageLexer extends Lexer {
 	public ATN getATN() { return _ATN; }
 
 	public static final String _serializedATN =
-		"\u0004\u0000&\u0140\u0006\uffff\uffff\u0002\u0000\u0007\u0000\u0002\u0001"+
+		"\u0004\u0000/\u0194\u0006\uffff\uffff\u0002\u0000\u0007\u0000\u0002\u0001"+
 		"\u0007\u0001\u0002\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004"+
 		"\u0007\u0004\u0002\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007"+
 		"\u0007\u0007\u0002\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b"+
@@ -136,183 +142,232 @@ public class SimpleLanguageLexer extends Lexer {
 		"\u001e\u0007\u001e\u0002\u001f\u0007\u001f\u0002 \u0007 \u0002!\u0007"+
 		"!\u0002\"\u0007\"\u0002#\u0007#\u0002$\u0007$\u0002%\u0007%\u0002&\u0007"+
 		"&\u0002\'\u0007\'\u0002(\u0007(\u0002)\u0007)\u0002*\u0007*\u0002+\u0007"+
-		"+\u0002,\u0007,\u0002-\u0007-\u0002.\u0007.\u0002/\u0007/\u0001\u0000"+
-		"\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"+
-		"\u0001\u0000\u0001\u0000\u0001\u0001\u0001\u0001\u0001\u0002\u0001\u0002"+
-		"\u0001\u0003\u0001\u0003\u0001\u0004\u0001\u0004\u0001\u0005\u0001\u0005"+
-		"\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006"+
-		"\u0001\u0007\u0001\u0007\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001"+
-		"\b\u0001\b\u0001\b\u0001\b\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001"+
-		"\t\u0001\t\u0001\t\u0001\t\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001"+
-		"\n\u0001\u000b\u0001\u000b\u0001\u000b\u0001\f\u0001\f\u0001\f\u0001\f"+
-		"\u0001\f\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001"+
-		"\u000e\u0001\u000e\u0001\u000e\u0001\u000f\u0001\u000f\u0001\u000f\u0001"+
-		"\u0010\u0001\u0010\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0012\u0001"+
-		"\u0012\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0014\u0001\u0014\u0001"+
-		"\u0014\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0016\u0001\u0016\u0001"+
-		"\u0017\u0001\u0017\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001"+
-		"\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0019\u0001\u0019\u0001"+
-		"\u001a\u0001\u001a\u0001\u001b\u0001\u001b\u0001\u001c\u0001\u001c\u0001"+
-		"\u001d\u0001\u001d\u0001\u001e\u0001\u001e\u0001\u001f\u0004\u001f\u00d3"+
-		"\b\u001f\u000b\u001f\f\u001f\u00d4\u0001\u001f\u0001\u001f\u0001 \u0001"+
-		" \u0001 \u0001 \u0005 \u00dd\b \n \f \u00e0\t \u0001 \u0001 \u0001 \u0001"+
-		" \u0001 \u0001!\u0001!\u0001!\u0001!\u0005!\u00eb\b!\n!\f!\u00ee\t!\u0001"+
-		"!\u0001!\u0001\"\u0003\"\u00f3\b\"\u0001#\u0001#\u0001$\u0001$\u0001%"+
-		"\u0003%\u00fa\b%\u0001&\u0001&\u0001\'\u0001\'\u0001(\u0001(\u0001)\u0001"+
-		")\u0001*\u0001*\u0001*\u0001*\u0001*\u0001*\u0001*\u0001*\u0001*\u0001"+
-		"*\u0001*\u0001*\u0001*\u0001*\u0001*\u0001+\u0001+\u0001+\u0001+\u0001"+
-		"+\u0001+\u0001+\u0001+\u0001+\u0001+\u0001+\u0001+\u0001+\u0001+\u0001"+
-		"+\u0001,\u0001,\u0003,\u0124\b,\u0001-\u0001-\u0001-\u0005-\u0129\b-\n"+
-		"-\f-\u012c\t-\u0001.\u0001.\u0005.\u0130\b.\n.\f.\u0133\t.\u0001.\u0001"+
-		".\u0001/\u0001/\u0001/\u0005/\u013a\b/\n/\f/\u013d\t/\u0003/\u013f\b/"+
-		"\u0001\u00de\u00000\u0001\u0001\u0003\u0002\u0005\u0003\u0007\u0004\t"+
-		"\u0005\u000b\u0006\r\u0007\u000f\b\u0011\t\u0013\n\u0015\u000b\u0017\f"+
-		"\u0019\r\u001b\u000e\u001d\u000f\u001f\u0010!\u0011#\u0012%\u0013\'\u0014"+
-		")\u0015+\u0016-\u0017/\u00181\u00193\u001a5\u001b7\u001c9\u001d;\u001e"+
-		"=\u001f? A!C\"E\u0000G\u0000I\u0000K\u0000M\u0000O\u0000Q\u0000S\u0000"+
-		"U\u0000W\u0000Y#[$]%_&\u0001\u0000\b\u0003\u0000\t\n\f\r  \u0002\u0000"+
-		"\n\n\r\r\u0004\u0000$$AZ__az\u0001\u000019\u0001\u000009\u0003\u00000"+
-		"9AFaf\u0001\u000007\u0003\u0000\n\n\r\r\"\"\u013e\u0000\u0001\u0001\u0000"+
-		"\u0000\u0000\u0000\u0003\u0001\u0000\u0000\u0000\u0000\u0005\u0001\u0000"+
-		"\u0000\u0000\u0000\u0007\u0001\u0000\u0000\u0000\u0000\t\u0001\u0000\u0000"+
-		"\u0000\u0000\u000b\u0001\u0000\u0000\u0000\u0000\r\u0001\u0000\u0000\u0000"+
-		"\u0000\u000f\u0001\u0000\u0000\u0000\u0000\u0011\u0001\u0000\u0000\u0000"+
-		"\u0000\u0013\u0001\u0000\u0000\u0000\u0000\u0015\u0001\u0000\u0000\u0000"+
-		"\u0000\u0017\u0001\u0000\u0000\u0000\u0000\u0019\u0001\u0000\u0000\u0000"+
-		"\u0000\u001b\u0001\u0000\u0000\u0000\u0000\u001d\u0001\u0000\u0000\u0000"+
-		"\u0000\u001f\u0001\u0000\u0000\u0000\u0000!\u0001\u0000\u0000\u0000\u0000"+
-		"#\u0001\u0000\u0000\u0000\u0000%\u0001\u0000\u0000\u0000\u0000\'\u0001"+
-		"\u0000\u0000\u0000\u0000)\u0001\u0000\u0000\u0000\u0000+\u0001\u0000\u0000"+
-		"\u0000\u0000-\u0001\u0000\u0000\u0000\u0000/\u0001\u0000\u0000\u0000\u0000"+
-		"1\u0001\u0000\u0000\u0000\u00003\u0001\u0000\u0000\u0000\u00005\u0001"+
-		"\u0000\u0000\u0000\u00007\u0001\u0000\u0000\u0000\u00009\u0001\u0000\u0000"+
-		"\u0000\u0000;\u0001\u0000\u0000\u0000\u0000=\u0001\u0000\u0000\u0000\u0000"+
-		"?\u0001\u0000\u0000\u0000\u0000A\u0001\u0000\u0000\u0000\u0000C\u0001"+
-		"\u0000\u0000\u0000\u0000Y\u0001\u0000\u0000\u0000\u0000[\u0001\u0000\u0000"+
-		"\u0000\u0000]\u0001\u0000\u0000\u0000\u0000_\u0001\u0000\u0000\u0000\u0001"+
-		"a\u0001\u0000\u0000\u0000\u0003j\u0001\u0000\u0000\u0000\u0005l\u0001"+
-		"\u0000\u0000\u0000\u0007n\u0001\u0000\u0000\u0000\tp\u0001\u0000\u0000"+
-		"\u0000\u000br\u0001\u0000\u0000\u0000\rt\u0001\u0000\u0000\u0000\u000f"+
-		"z\u0001\u0000\u0000\u0000\u0011|\u0001\u0000\u0000\u0000\u0013\u0085\u0001"+
-		"\u0000\u0000\u0000\u0015\u008e\u0001\u0000\u0000\u0000\u0017\u0094\u0001"+
-		"\u0000\u0000\u0000\u0019\u0097\u0001\u0000\u0000\u0000\u001b\u009c\u0001"+
-		"\u0000\u0000\u0000\u001d\u00a3\u0001\u0000\u0000\u0000\u001f\u00a6\u0001"+
-		"\u0000\u0000\u0000!\u00a9\u0001\u0000\u0000\u0000#\u00ab\u0001\u0000\u0000"+
-		"\u0000%\u00ae\u0001\u0000\u0000\u0000\'\u00b0\u0001\u0000\u0000\u0000"+
-		")\u00b3\u0001\u0000\u0000\u0000+\u00b6\u0001\u0000\u0000\u0000-\u00b9"+
-		"\u0001\u0000\u0000\u0000/\u00bb\u0001\u0000\u0000\u00001\u00bd\u0001\u0000"+
-		"\u0000\u00003\u00c5\u0001\u0000\u0000\u00005\u00c7\u0001\u0000\u0000\u0000"+
-		"7\u00c9\u0001\u0000\u0000\u00009\u00cb\u0001\u0000\u0000\u0000;\u00cd"+
-		"\u0001\u0000\u0000\u0000=\u00cf\u0001\u0000\u0000\u0000?\u00d2\u0001\u0000"+
-		"\u0000\u0000A\u00d8\u0001\u0000\u0000\u0000C\u00e6\u0001\u0000\u0000\u0000"+
-		"E\u00f2\u0001\u0000\u0000\u0000G\u00f4\u0001\u0000\u0000\u0000I\u00f6"+
-		"\u0001\u0000\u0000\u0000K\u00f9\u0001\u0000\u0000\u0000M\u00fb\u0001\u0000"+
-		"\u0000\u0000O\u00fd\u0001\u0000\u0000\u0000Q\u00ff\u0001\u0000\u0000\u0000"+
-		"S\u0101\u0001\u0000\u0000\u0000U\u0103\u0001\u0000\u0000\u0000W\u0112"+
-		"\u0001\u0000\u0000\u0000Y\u0123\u0001\u0000\u0000\u0000[\u0125\u0001\u0000"+
-		"\u0000\u0000]\u012d\u0001\u0000\u0000\u0000_\u013e\u0001\u0000\u0000\u0000"+
-		"ab\u0005f\u0000\u0000bc\u0005u\u0000\u0000cd\u0005n\u0000\u0000de\u0005"+
-		"c\u0000\u0000ef\u0005t\u0000\u0000fg\u0005i\u0000\u0000gh\u0005o\u0000"+
-		"\u0000hi\u0005n\u0000\u0000i\u0002\u0001\u0000\u0000\u0000jk\u0005(\u0000"+
-		"\u0000k\u0004\u0001\u0000\u0000\u0000lm\u0005,\u0000\u0000m\u0006\u0001"+
-		"\u0000\u0000\u0000no\u0005)\u0000\u0000o\b\u0001\u0000\u0000\u0000pq\u0005"+
-		"{\u0000\u0000q\n\u0001\u0000\u0000\u0000rs\u0005}\u0000\u0000s\f\u0001"+
-		"\u0000\u0000\u0000tu\u0005b\u0000\u0000uv\u0005r\u0000\u0000vw\u0005e"+
-		"\u0000\u0000wx\u0005a\u0000\u0000xy\u0005k\u0000\u0000y\u000e\u0001\u0000"+
-		"\u0000\u0000z{\u0005;\u0000\u0000{\u0010\u0001\u0000\u0000\u0000|}\u0005"+
-		"c\u0000\u0000}~\u0005o\u0000\u0000~\u007f\u0005n\u0000\u0000\u007f\u0080"+
-		"\u0005t\u0000\u0000\u0080\u0081\u0005i\u0000\u0000\u0081\u0082\u0005n"+
-		"\u0000\u0000\u0082\u0083\u0005u\u0000\u0000\u0083\u0084\u0005e\u0000\u0000"+
-		"\u0084\u0012\u0001\u0000\u0000\u0000\u0085\u0086\u0005d\u0000\u0000\u0086"+
-		"\u0087\u0005e\u0000\u0000\u0087\u0088\u0005b\u0000\u0000\u0088\u0089\u0005"+
-		"u\u0000\u0000\u0089\u008a\u0005g\u0000\u0000\u008a\u008b\u0005g\u0000"+
-		"\u0000\u008b\u008c\u0005e\u0000\u0000\u008c\u008d\u0005r\u0000\u0000\u008d"+
-		"\u0014\u0001\u0000\u0000\u0000\u008e\u008f\u0005w\u0000\u0000\u008f\u0090"+
-		"\u0005h\u0000\u0000\u0090\u0091\u0005i\u0000\u0000\u0091\u0092\u0005l"+
-		"\u0000\u0000\u0092\u0093\u0005e\u0000\u0000\u0093\u0016\u0001\u0000\u0000"+
-		"\u0000\u0094\u0095\u0005i\u0000\u0000\u0095\u0096\u0005f\u0000\u0000\u0096"+
-		"\u0018\u0001\u0000\u0000\u0000\u0097\u0098\u0005e\u0000\u0000\u0098\u0099"+
-		"\u0005l\u0000\u0000\u0099\u009a\u0005s\u0000\u0000\u009a\u009b\u0005e"+
-		"\u0000\u0000\u009b\u001a\u0001\u0000\u0000\u0000\u009c\u009d\u0005r\u0000"+
-		"\u0000\u009d\u009e\u0005e\u0000\u0000\u009e\u009f\u0005t\u0000\u0000\u009f"+
-		"\u00a0\u0005u\u0000\u0000\u00a0\u00a1\u0005r\u0000\u0000\u00a1\u00a2\u0005"+
-		"n\u0000\u0000\u00a2\u001c\u0001\u0000\u0000\u0000\u00a3\u00a4\u0005|\u0000"+
-		"\u0000\u00a4\u00a5\u0005|\u0000\u0000\u00a5\u001e\u0001\u0000\u0000\u0000"+
-		"\u00a6\u00a7\u0005&\u0000\u0000\u00a7\u00a8\u0005&\u0000\u0000\u00a8 "+
-		"\u0001\u0000\u0000\u0000\u00a9\u00aa\u0005<\u0000\u0000\u00aa\"\u0001"+
-		"\u0000\u0000\u0000\u00ab\u00ac\u0005<\u0000\u0000\u00ac\u00ad\u0005=\u0000"+
-		"\u0000\u00ad$\u0001\u0000\u0000\u0000\u00ae\u00af\u0005>\u0000\u0000\u00af"+
-		"&\u0001\u0000\u0000\u0000\u00b0\u00b1\u0005>\u0000\u0000\u00b1\u00b2\u0005"+
-		"=\u0000\u0000\u00b2(\u0001\u0000\u0000\u0000\u00b3\u00b4\u0005=\u0000"+
-		"\u0000\u00b4\u00b5\u0005=\u0000\u0000\u00b5*\u0001\u0000\u0000\u0000\u00b6"+
-		"\u00b7\u0005!\u0000\u0000\u00b7\u00b8\u0005=\u0000\u0000\u00b8,\u0001"+
-		"\u0000\u0000\u0000\u00b9\u00ba\u0005+\u0000\u0000\u00ba.\u0001\u0000\u0000"+
-		"\u0000\u00bb\u00bc\u0005-\u0000\u0000\u00bc0\u0001\u0000\u0000\u0000\u00bd"+
-		"\u00be\u0005v\u0000\u0000\u00be\u00bf\u0005e\u0000\u0000\u00bf\u00c0\u0005"+
-		"c\u0000\u0000\u00c0\u00c1\u0005_\u0000\u0000\u00c1\u00c2\u0005a\u0000"+
-		"\u0000\u00c2\u00c3\u0005d\u0000\u0000\u00c3\u00c4\u0005d\u0000\u0000\u00c4"+
-		"2\u0001\u0000\u0000\u0000\u00c5\u00c6\u0005*\u0000\u0000\u00c64\u0001"+
-		"\u0000\u0000\u0000\u00c7\u00c8\u0005/\u0000\u0000\u00c86\u0001\u0000\u0000"+
-		"\u0000\u00c9\u00ca\u0005=\u0000\u0000\u00ca8\u0001\u0000\u0000\u0000\u00cb"+
-		"\u00cc\u0005.\u0000\u0000\u00cc:\u0001\u0000\u0000\u0000\u00cd\u00ce\u0005"+
-		"[\u0000\u0000\u00ce<\u0001\u0000\u0000\u0000\u00cf\u00d0\u0005]\u0000"+
-		"\u0000\u00d0>\u0001\u0000\u0000\u0000\u00d1\u00d3\u0007\u0000\u0000\u0000"+
-		"\u00d2\u00d1\u0001\u0000\u0000\u0000\u00d3\u00d4\u0001\u0000\u0000\u0000"+
-		"\u00d4\u00d2\u0001\u0000\u0000\u0000\u00d4\u00d5\u0001\u0000\u0000\u0000"+
-		"\u00d5\u00d6\u0001\u0000\u0000\u0000\u00d6\u00d7\u0006\u001f\u0000\u0000"+
-		"\u00d7@\u0001\u0000\u0000\u0000\u00d8\u00d9\u0005/\u0000\u0000\u00d9\u00da"+
-		"\u0005*\u0000\u0000\u00da\u00de\u0001\u0000\u0000\u0000\u00db\u00dd\t"+
-		"\u0000\u0000\u0000\u00dc\u00db\u0001\u0000\u0000\u0000\u00dd\u00e0\u0001"+
-		"\u0000\u0000\u0000\u00de\u00df\u0001\u0000\u0000\u0000\u00de\u00dc\u0001"+
-		"\u0000\u0000\u0000\u00df\u00e1\u0001\u0000\u0000\u0000\u00e0\u00de\u0001"+
-		"\u0000\u0000\u0000\u00e1\u00e2\u0005*\u0000\u0000\u00e2\u00e3\u0005/\u0000"+
-		"\u0000\u00e3\u00e4\u0001\u0000\u0000\u0000\u00e4\u00e5\u0006 \u0000\u0000"+
-		"\u00e5B\u0001\u0000\u0000\u0000\u00e6\u00e7\u0005/\u0000\u0000\u00e7\u00e8"+
-		"\u0005/\u0000\u0000\u00e8\u00ec\u0001\u0000\u0000\u0000\u00e9\u00eb\b"+
-		"\u0001\u0000\u0000\u00ea\u00e9\u0001\u0000\u0000\u0000\u00eb\u00ee\u0001"+
-		"\u0000\u0000\u0000\u00ec\u00ea\u0001\u0000\u0000\u0000\u00ec\u00ed\u0001"+
-		"\u0000\u0000\u0000\u00ed\u00ef\u0001\u0000\u0000\u0000\u00ee\u00ec\u0001"+
-		"\u0000\u0000\u0000\u00ef\u00f0\u0006!\u0000\u0000\u00f0D\u0001\u0000\u0000"+
-		"\u0000\u00f1\u00f3\u0007\u0002\u0000\u0000\u00f2\u00f1\u0001\u0000\u0000"+
-		"\u0000\u00f3F\u0001\u0000\u0000\u0000\u00f4\u00f5\u0007\u0003\u0000\u0000"+
-		"\u00f5H\u0001\u0000\u0000\u0000\u00f6\u00f7\u0007\u0004\u0000\u0000\u00f7"+
-		"J\u0001\u0000\u0000\u0000\u00f8\u00fa\u0007\u0005\u0000\u0000\u00f9\u00f8"+
-		"\u0001\u0000\u0000\u0000\u00faL\u0001\u0000\u0000\u0000\u00fb\u00fc\u0007"+
-		"\u0006\u0000\u0000\u00fcN\u0001\u0000\u0000\u0000\u00fd\u00fe\u000201"+
-		"\u0000\u00feP\u0001\u0000\u0000\u0000\u00ff\u0100\u0005\t\u0000\u0000"+
-		"\u0100R\u0001\u0000\u0000\u0000\u0101\u0102\b\u0007\u0000\u0000\u0102"+
-		"T\u0001\u0000\u0000\u0000\u0103\u0104\u0005B\u0000\u0000\u0104\u0105\u0005"+
-		"I\u0000\u0000\u0105\u0106\u0005G\u0000\u0000\u0106\u0107\u0005_\u0000"+
-		"\u0000\u0107\u0108\u0005Z\u0000\u0000\u0108\u0109\u0005E\u0000\u0000\u0109"+
-		"\u010a\u0005R\u0000\u0000\u010a\u010b\u0005O\u0000\u0000\u010b\u010c\u0005"+
-		"_\u0000\u0000\u010c\u010d\u0005A\u0000\u0000\u010d\u010e\u0005R\u0000"+
-		"\u0000\u010e\u010f\u0005R\u0000\u0000\u010f\u0110\u0005A\u0000\u0000\u0110"+
-		"\u0111\u0005Y\u0000\u0000\u0111V\u0001\u0000\u0000\u0000\u0112\u0113\u0005"+
-		"B\u0000\u0000\u0113\u0114\u0005I\u0000\u0000\u0114\u0115\u0005G\u0000"+
-		"\u0000\u0115\u0116\u0005_\u0000\u0000\u0116\u0117\u0005O\u0000\u0000\u0117"+
-		"\u0118\u0005N\u0000\u0000\u0118\u0119\u0005E\u0000\u0000\u0119\u011a\u0005"+
-		"S\u0000\u0000\u011a\u011b\u0005_\u0000\u0000\u011b\u011c\u0005A\u0000"+
-		"\u0000\u011c\u011d\u0005R\u0000\u0000\u011d\u011e\u0005R\u0000\u0000\u011e"+
-		"\u011f\u0005A\u0000\u0000\u011f\u0120\u0005Y\u0000\u0000\u0120X\u0001"+
-		"\u0000\u0000\u0000\u0121\u0124\u0003U*\u0000\u0122\u0124\u0003W+\u0000"+
-		"\u0123\u0121\u0001\u0000\u0000\u0000\u0123\u0122\u0001\u0000\u0000\u0000"+
-		"\u0124Z\u0001\u0000\u0000\u0000\u0125\u012a\u0003E\"\u0000\u0126\u0129"+
-		"\u0003E\"\u0000\u0127\u0129\u0003I$\u0000\u0128\u0126\u0001\u0000\u0000"+
-		"\u0000\u0128\u0127\u0001\u0000\u0000\u0000\u0129\u012c\u0001\u0000\u0000"+
-		"\u0000\u012a\u0128\u0001\u0000\u0000\u0000\u012a\u012b\u0001\u0000\u0000"+
-		"\u0000\u012b\\\u0001\u0000\u0000\u0000\u012c\u012a\u0001\u0000\u0000\u0000"+
-		"\u012d\u0131\u0005\"\u0000\u0000\u012e\u0130\u0003S)\u0000\u012f\u012e"+
-		"\u0001\u0000\u0000\u0000\u0130\u0133\u0001\u0000\u0000\u0000\u0131\u012f"+
-		"\u0001\u0000\u0000\u0000\u0131\u0132\u0001\u0000\u0000\u0000\u0132\u0134"+
-		"\u0001\u0000\u0000\u0000\u0133\u0131\u0001\u0000\u0000\u0000\u0134\u0135"+
-		"\u0005\"\u0000\u0000\u0135^\u0001\u0000\u0000\u0000\u0136\u013f\u0005"+
-		"0\u0000\u0000\u0137\u013b\u0003G#\u0000\u0138\u013a\u0003I$\u0000\u0139"+
-		"\u0138\u0001\u0000\u0000\u0000\u013a\u013d\u0001\u0000\u0000\u0000\u013b"+
-		"\u0139\u0001\u0000\u0000\u0000\u013b\u013c\u0001\u0000\u0000\u0000\u013c"+
-		"\u013f\u0001\u0000\u0000\u0000\u013d\u013b\u0001\u0000\u0000\u0000\u013e"+
-		"\u0136\u0001\u0000\u0000\u0000\u013e\u0137\u0001\u0000\u0000\u0000\u013f"+
-		"`\u0001\u0000\u0000\u0000\f\u0000\u00d4\u00de\u00ec\u00f2\u00f9\u0123"+
-		"\u0128\u012a\u0131\u013b\u013e\u0001\u0006\u0000\u0000";
+		"+\u0002,\u0007,\u0002-\u0007-\u0002.\u0007.\u0002/\u0007/\u00020\u0007"+
+		"0\u00021\u00071\u00022\u00072\u00023\u00073\u00024\u00074\u00025\u0007"+
+		"5\u00026\u00076\u00027\u00077\u00028\u00078\u0001\u0000\u0001\u0000\u0001"+
+		"\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001"+
+		"\u0000\u0001\u0001\u0001\u0001\u0001\u0002\u0001\u0002\u0001\u0003\u0001"+
+		"\u0003\u0001\u0004\u0001\u0004\u0001\u0005\u0001\u0005\u0001\u0006\u0001"+
+		"\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0007\u0001"+
+		"\u0007\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b"+
+		"\u0001\b\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001"+
+		"\t\u0001\t\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\u000b"+
+		"\u0001\u000b\u0001\u000b\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001"+
+		"\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\u000e\u0001\u000e"+
+		"\u0001\u000e\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u0010\u0001\u0010"+
+		"\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0012\u0001\u0012\u0001\u0013"+
+		"\u0001\u0013\u0001\u0013\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0015"+
+		"\u0001\u0015\u0001\u0015\u0001\u0016\u0001\u0016\u0001\u0017\u0001\u0017"+
+		"\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018"+
+		"\u0001\u0018\u0001\u0018\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019"+
+		"\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u001a\u0001\u001a"+
+		"\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a"+
+		"\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b"+
+		"\u0001\u001b\u0001\u001b\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c"+
+		"\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001d\u0001\u001d\u0001\u001d"+
+		"\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001e\u0001\u001e"+
+		"\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001f"+
+		"\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f"+
+		"\u0001 \u0001 \u0001 \u0001 \u0001 \u0001 \u0001 \u0001!\u0001!\u0001"+
+		"!\u0001!\u0001!\u0001!\u0001!\u0001\"\u0001\"\u0001#\u0001#\u0001$\u0001"+
+		"$\u0001%\u0001%\u0001&\u0001&\u0001\'\u0001\'\u0001(\u0004(\u0127\b(\u000b"+
+		"(\f(\u0128\u0001(\u0001(\u0001)\u0001)\u0001)\u0001)\u0005)\u0131\b)\n"+
+		")\f)\u0134\t)\u0001)\u0001)\u0001)\u0001)\u0001)\u0001*\u0001*\u0001*"+
+		"\u0001*\u0005*\u013f\b*\n*\f*\u0142\t*\u0001*\u0001*\u0001+\u0003+\u0147"+
+		"\b+\u0001,\u0001,\u0001-\u0001-\u0001.\u0003.\u014e\b.\u0001/\u0001/\u0001"+
+		"0\u00010\u00011\u00011\u00012\u00012\u00013\u00013\u00013\u00013\u0001"+
+		"3\u00013\u00013\u00013\u00013\u00013\u00013\u00013\u00013\u00013\u0001"+
+		"3\u00014\u00014\u00014\u00014\u00014\u00014\u00014\u00014\u00014\u0001"+
+		"4\u00014\u00014\u00014\u00014\u00014\u00015\u00015\u00035\u0178\b5\u0001"+
+		"6\u00016\u00016\u00056\u017d\b6\n6\f6\u0180\t6\u00017\u00017\u00057\u0184"+
+		"\b7\n7\f7\u0187\t7\u00017\u00017\u00018\u00018\u00018\u00058\u018e\b8"+
+		"\n8\f8\u0191\t8\u00038\u0193\b8\u0001\u0132\u00009\u0001\u0001\u0003\u0002"+
+		"\u0005\u0003\u0007\u0004\t\u0005\u000b\u0006\r\u0007\u000f\b\u0011\t\u0013"+
+		"\n\u0015\u000b\u0017\f\u0019\r\u001b\u000e\u001d\u000f\u001f\u0010!\u0011"+
+		"#\u0012%\u0013\'\u0014)\u0015+\u0016-\u0017/\u00181\u00193\u001a5\u001b"+
+		"7\u001c9\u001d;\u001e=\u001f? A!C\"E#G$I%K&M\'O(Q)S*U+W\u0000Y\u0000["+
+		"\u0000]\u0000_\u0000a\u0000c\u0000e\u0000g\u0000i\u0000k,m-o.q/\u0001"+
+		"\u0000\b\u0003\u0000\t\n\f\r  \u0002\u0000\n\n\r\r\u0004\u0000$$AZ__a"+
+		"z\u0001\u000019\u0001\u000009\u0003\u000009AFaf\u0001\u000007\u0003\u0000"+
+		"\n\n\r\r\"\"\u0192\u0000\u0001\u0001\u0000\u0000\u0000\u0000\u0003\u0001"+
+		"\u0000\u0000\u0000\u0000\u0005\u0001\u0000\u0000\u0000\u0000\u0007\u0001"+
+		"\u0000\u0000\u0000\u0000\t\u0001\u0000\u0000\u0000\u0000\u000b\u0001\u0000"+
+		"\u0000\u0000\u0000\r\u0001\u0000\u0000\u0000\u0000\u000f\u0001\u0000\u0000"+
+		"\u0000\u0000\u0011\u0001\u0000\u0000\u0000\u0000\u0013\u0001\u0000\u0000"+
+		"\u0000\u0000\u0015\u0001\u0000\u0000\u0000\u0000\u0017\u0001\u0000\u0000"+
+		"\u0000\u0000\u0019\u0001\u0000\u0000\u0000\u0000\u001b\u0001\u0000\u0000"+
+		"\u0000\u0000\u001d\u0001\u0000\u0000\u0000\u0000\u001f\u0001\u0000\u0000"+
+		"\u0000\u0000!\u0001\u0000\u0000\u0000\u0000#\u0001\u0000\u0000\u0000\u0000"+
+		"%\u0001\u0000\u0000\u0000\u0000\'\u0001\u0000\u0000\u0000\u0000)\u0001"+
+		"\u0000\u0000\u0000\u0000+\u0001\u0000\u0000\u0000\u0000-\u0001\u0000\u0000"+
+		"\u0000\u0000/\u0001\u0000\u0000\u0000\u00001\u0001\u0000\u0000\u0000\u0000"+
+		"3\u0001\u0000\u0000\u0000\u00005\u0001\u0000\u0000\u0000\u00007\u0001"+
+		"\u0000\u0000\u0000\u00009\u0001\u0000\u0000\u0000\u0000;\u0001\u0000\u0000"+
+		"\u0000\u0000=\u0001\u0000\u0000\u0000\u0000?\u0001\u0000\u0000\u0000\u0000"+
+		"A\u0001\u0000\u0000\u0000\u0000C\u0001\u0000\u0000\u0000\u0000E\u0001"+
+		"\u0000\u0000\u0000\u0000G\u0001\u0000\u0000\u0000\u0000I\u0001\u0000\u0000"+
+		"\u0000\u0000K\u0001\u0000\u0000\u0000\u0000M\u0001\u0000\u0000\u0000\u0000"+
+		"O\u0001\u0000\u0000\u0000\u0000Q\u0001\u0000\u0000\u0000\u0000S\u0001"+
+		"\u0000\u0000\u0000\u0000U\u0001\u0000\u0000\u0000\u0000k\u0001\u0000\u0000"+
+		"\u0000\u0000m\u0001\u0000\u0000\u0000\u0000o\u0001\u0000\u0000\u0000\u0000"+
+		"q\u0001\u0000\u0000\u0000\u0001s\u0001\u0000\u0000\u0000\u0003|\u0001"+
+		"\u0000\u0000\u0000\u0005~\u0001\u0000\u0000\u0000\u0007\u0080\u0001\u0000"+
+		"\u0000\u0000\t\u0082\u0001\u0000\u0000\u0000\u000b\u0084\u0001\u0000\u0000"+
+		"\u0000\r\u0086\u0001\u0000\u0000\u0000\u000f\u008c\u0001\u0000\u0000\u0000"+
+		"\u0011\u008e\u0001\u0000\u0000\u0000\u0013\u0097\u0001\u0000\u0000\u0000"+
+		"\u0015\u00a0\u0001\u0000\u0000\u0000\u0017\u00a6\u0001\u0000\u0000\u0000"+
+		"\u0019\u00a9\u0001\u0000\u0000\u0000\u001b\u00ae\u0001\u0000\u0000\u0000"+
+		"\u001d\u00b5\u0001\u0000\u0000\u0000\u001f\u00b8\u0001\u0000\u0000\u0000"+
+		"!\u00bb\u0001\u0000\u0000\u0000#\u00bd\u0001\u0000\u0000\u0000%\u00c0"+
+		"\u0001\u0000\u0000\u0000\'\u00c2\u0001\u0000\u0000\u0000)\u00c5\u0001"+
+		"\u0000\u0000\u0000+\u00c8\u0001\u0000\u0000\u0000-\u00cb\u0001\u0000\u0000"+
+		"\u0000/\u00cd\u0001\u0000\u0000\u00001\u00cf\u0001\u0000\u0000\u00003"+
+		"\u00d7\u0001\u0000\u0000\u00005\u00df\u0001\u0000\u0000\u00007\u00e7\u0001"+
+		"\u0000\u0000\u00009\u00ef\u0001\u0000\u0000\u0000;\u00f6\u0001\u0000\u0000"+
+		"\u0000=\u00fd\u0001\u0000\u0000\u0000?\u0104\u0001\u0000\u0000\u0000A"+
+		"\u010b\u0001\u0000\u0000\u0000C\u0112\u0001\u0000\u0000\u0000E\u0119\u0001"+
+		"\u0000\u0000\u0000G\u011b\u0001\u0000\u0000\u0000I\u011d\u0001\u0000\u0000"+
+		"\u0000K\u011f\u0001\u0000\u0000\u0000M\u0121\u0001\u0000\u0000\u0000O"+
+		"\u0123\u0001\u0000\u0000\u0000Q\u0126\u0001\u0000\u0000\u0000S\u012c\u0001"+
+		"\u0000\u0000\u0000U\u013a\u0001\u0000\u0000\u0000W\u0146\u0001\u0000\u0000"+
+		"\u0000Y\u0148\u0001\u0000\u0000\u0000[\u014a\u0001\u0000\u0000\u0000]"+
+		"\u014d\u0001\u0000\u0000\u0000_\u014f\u0001\u0000\u0000\u0000a\u0151\u0001"+
+		"\u0000\u0000\u0000c\u0153\u0001\u0000\u0000\u0000e\u0155\u0001\u0000\u0000"+
+		"\u0000g\u0157\u0001\u0000\u0000\u0000i\u0166\u0001\u0000\u0000\u0000k"+
+		"\u0177\u0001\u0000\u0000\u0000m\u0179\u0001\u0000\u0000\u0000o\u0181\u0001"+
+		"\u0000\u0000\u0000q\u0192\u0001\u0000\u0000\u0000st\u0005f\u0000\u0000"+
+		"tu\u0005u\u0000\u0000uv\u0005n\u0000\u0000vw\u0005c\u0000\u0000wx\u0005"+
+		"t\u0000\u0000xy\u0005i\u0000\u0000yz\u0005o\u0000\u0000z{\u0005n\u0000"+
+		"\u0000{\u0002\u0001\u0000\u0000\u0000|}\u0005(\u0000\u0000}\u0004\u0001"+
+		"\u0000\u0000\u0000~\u007f\u0005,\u0000\u0000\u007f\u0006\u0001\u0000\u0000"+
+		"\u0000\u0080\u0081\u0005)\u0000\u0000\u0081\b\u0001\u0000\u0000\u0000"+
+		"\u0082\u0083\u0005{\u0000\u0000\u0083\n\u0001\u0000\u0000\u0000\u0084"+
+		"\u0085\u0005}\u0000\u0000\u0085\f\u0001\u0000\u0000\u0000\u0086\u0087"+
+		"\u0005b\u0000\u0000\u0087\u0088\u0005r\u0000\u0000\u0088\u0089\u0005e"+
+		"\u0000\u0000\u0089\u008a\u0005a\u0000\u0000\u008a\u008b\u0005k\u0000\u0000"+
+		"\u008b\u000e\u0001\u0000\u0000\u0000\u008c\u008d\u0005;\u0000\u0000\u008d"+
+		"\u0010\u0001\u0000\u0000\u0000\u008e\u008f\u0005c\u0000\u0000\u008f\u0090"+
+		"\u0005o\u0000\u0000\u0090\u0091\u0005n\u0000\u0000\u0091\u0092\u0005t"+
+		"\u0000\u0000\u0092\u0093\u0005i\u0000\u0000\u0093\u0094\u0005n\u0000\u0000"+
+		"\u0094\u0095\u0005u\u0000\u0000\u0095\u0096\u0005e\u0000\u0000\u0096\u0012"+
+		"\u0001\u0000\u0000\u0000\u0097\u0098\u0005d\u0000\u0000\u0098\u0099\u0005"+
+		"e\u0000\u0000\u0099\u009a\u0005b\u0000\u0000\u009a\u009b\u0005u\u0000"+
+		"\u0000\u009b\u009c\u0005g\u0000\u0000\u009c\u009d\u0005g\u0000\u0000\u009d"+
+		"\u009e\u0005e\u0000\u0000\u009e\u009f\u0005r\u0000\u0000\u009f\u0014\u0001"+
+		"\u0000\u0000\u0000\u00a0\u00a1\u0005w\u0000\u0000\u00a1\u00a2\u0005h\u0000"+
+		"\u0000\u00a2\u00a3\u0005i\u0000\u0000\u00a3\u00a4\u0005l\u0000\u0000\u00a4"+
+		"\u00a5\u0005e\u0000\u0000\u00a5\u0016\u0001\u0000\u0000\u0000\u00a6\u00a7"+
+		"\u0005i\u0000\u0000\u00a7\u00a8\u0005f\u0000\u0000\u00a8\u0018\u0001\u0000"+
+		"\u0000\u0000\u00a9\u00aa\u0005e\u0000\u0000\u00aa\u00ab\u0005l\u0000\u0000"+
+		"\u00ab\u00ac\u0005s\u0000\u0000\u00ac\u00ad\u0005e\u0000\u0000\u00ad\u001a"+
+		"\u0001\u0000\u0000\u0000\u00ae\u00af\u0005r\u0000\u0000\u00af\u00b0\u0005"+
+		"e\u0000\u0000\u00b0\u00b1\u0005t\u0000\u0000\u00b1\u00b2\u0005u\u0000"+
+		"\u0000\u00b2\u00b3\u0005r\u0000\u0000\u00b3\u00b4\u0005n\u0000\u0000\u00b4"+
+		"\u001c\u0001\u0000\u0000\u0000\u00b5\u00b6\u0005|\u0000\u0000\u00b6\u00b7"+
+		"\u0005|\u0000\u0000\u00b7\u001e\u0001\u0000\u0000\u0000\u00b8\u00b9\u0005"+
+		"&\u0000\u0000\u00b9\u00ba\u0005&\u0000\u0000\u00ba \u0001\u0000\u0000"+
+		"\u0000\u00bb\u00bc\u0005<\u0000\u0000\u00bc\"\u0001\u0000\u0000\u0000"+
+		"\u00bd\u00be\u0005<\u0000\u0000\u00be\u00bf\u0005=\u0000\u0000\u00bf$"+
+		"\u0001\u0000\u0000\u0000\u00c0\u00c1\u0005>\u0000\u0000\u00c1&\u0001\u0000"+
+		"\u0000\u0000\u00c2\u00c3\u0005>\u0000\u0000\u00c3\u00c4\u0005=\u0000\u0000"+
+		"\u00c4(\u0001\u0000\u0000\u0000\u00c5\u00c6\u0005=\u0000\u0000\u00c6\u00c7"+
+		"\u0005=\u0000\u0000\u00c7*\u0001\u0000\u0000\u0000\u00c8\u00c9\u0005!"+
+		"\u0000\u0000\u00c9\u00ca\u0005=\u0000\u0000\u00ca,\u0001\u0000\u0000\u0000"+
+		"\u00cb\u00cc\u0005+\u0000\u0000\u00cc.\u0001\u0000\u0000\u0000\u00cd\u00ce"+
+		"\u0005-\u0000\u0000\u00ce0\u0001\u0000\u0000\u0000\u00cf\u00d0\u0005v"+
+		"\u0000\u0000\u00d0\u00d1\u0005e\u0000\u0000\u00d1\u00d2\u0005c\u0000\u0000"+
+		"\u00d2\u00d3\u0005_\u0000\u0000\u00d3\u00d4\u0005a\u0000\u0000\u00d4\u00d5"+
+		"\u0005d\u0000\u0000\u00d5\u00d6\u0005d\u0000\u0000\u00d62\u0001\u0000"+
+		"\u0000\u0000\u00d7\u00d8\u0005v\u0000\u0000\u00d8\u00d9\u0005e\u0000\u0000"+
+		"\u00d9\u00da\u0005c\u0000\u0000\u00da\u00db\u0005_\u0000\u0000\u00db\u00dc"+
+		"\u0005s\u0000\u0000\u00dc\u00dd\u0005u\u0000\u0000\u00dd\u00de\u0005b"+
+		"\u0000\u0000\u00de4\u0001\u0000\u0000\u0000\u00df\u00e0\u0005v\u0000\u0000"+
+		"\u00e0\u00e1\u0005e\u0000\u0000\u00e1\u00e2\u0005c\u0000\u0000\u00e2\u00e3"+
+		"\u0005_\u0000\u0000\u00e3\u00e4\u0005m\u0000\u0000\u00e4\u00e5\u0005u"+
+		"\u0000\u0000\u00e5\u00e6\u0005l\u0000\u0000\u00e66\u0001\u0000\u0000\u0000"+
+		"\u00e7\u00e8\u0005v\u0000\u0000\u00e8\u00e9\u0005e\u0000\u0000\u00e9\u00ea"+
+		"\u0005c\u0000\u0000\u00ea\u00eb\u0005_\u0000\u0000\u00eb\u00ec\u0005d"+
+		"\u0000\u0000\u00ec\u00ed\u0005i\u0000\u0000\u00ed\u00ee\u0005v\u0000\u0000"+
+		"\u00ee8\u0001\u0000\u0000\u0000\u00ef\u00f0\u0005v\u0000\u0000\u00f0\u00f1"+
+		"\u0005e\u0000\u0000\u00f1\u00f2\u0005c\u0000\u0000\u00f2\u00f3\u0005_"+
+		"\u0000\u0000\u00f3\u00f4\u0005l\u0000\u0000\u00f4\u00f5\u0005t\u0000\u0000"+
+		"\u00f5:\u0001\u0000\u0000\u0000\u00f6\u00f7\u0005v\u0000\u0000\u00f7\u00f8"+
+		"\u0005e\u0000\u0000\u00f8\u00f9\u0005c\u0000\u0000\u00f9\u00fa\u0005_"+
+		"\u0000\u0000\u00fa\u00fb\u0005l\u0000\u0000\u00fb\u00fc\u0005e\u0000\u0000"+
+		"\u00fc<\u0001\u0000\u0000\u0000\u00fd\u00fe\u0005v\u0000\u0000\u00fe\u00ff"+
+		"\u0005e\u0000\u0000\u00ff\u0100\u0005c\u0000\u0000\u0100\u0101\u0005_"+
+		"\u0000\u0000\u0101\u0102\u0005g\u0000\u0000\u0102\u0103\u0005t\u0000\u0000"+
+		"\u0103>\u0001\u0000\u0000\u0000\u0104\u0105\u0005v\u0000\u0000\u0105\u0106"+
+		"\u0005e\u0000\u0000\u0106\u0107\u0005c\u0000\u0000\u0107\u0108\u0005_"+
+		"\u0000\u0000\u0108\u0109\u0005g\u0000\u0000\u0109\u010a\u0005e\u0000\u0000"+
+		"\u010a@\u0001\u0000\u0000\u0000\u010b\u010c\u0005v\u0000\u0000\u010c\u010d"+
+		"\u0005e\u0000\u0000\u010d\u010e\u0005c\u0000\u0000\u010e\u010f\u0005_"+
+		"\u0000\u0000\u010f\u0110\u0005e\u0000\u0000\u0110\u0111\u0005q\u0000\u0000"+
+		"\u0111B\u0001\u0000\u0000\u0000\u0112\u0113\u0005v\u0000\u0000\u0113\u0114"+
+		"\u0005e\u0000\u0000\u0114\u0115\u0005c\u0000\u0000\u0115\u0116\u0005_"+
+		"\u0000\u0000\u0116\u0117\u0005n\u0000\u0000\u0117\u0118\u0005e\u0000\u0000"+
+		"\u0118D\u0001\u0000\u0000\u0000\u0119\u011a\u0005*\u0000\u0000\u011aF"+
+		"\u0001\u0000\u0000\u0000\u011b\u011c\u0005/\u0000\u0000\u011cH\u0001\u0000"+
+		"\u0000\u0000\u011d\u011e\u0005=\u0000\u0000\u011eJ\u0001\u0000\u0000\u0000"+
+		"\u011f\u0120\u0005.\u0000\u0000\u0120L\u0001\u0000\u0000\u0000\u0121\u0122"+
+		"\u0005[\u0000\u0000\u0122N\u0001\u0000\u0000\u0000\u0123\u0124\u0005]"+
+		"\u0000\u0000\u0124P\u0001\u0000\u0000\u0000\u0125\u0127\u0007\u0000\u0000"+
+		"\u0000\u0126\u0125\u0001\u0000\u0000\u0000\u0127\u0128\u0001\u0000\u0000"+
+		"\u0000\u0128\u0126\u0001\u0000\u0000\u0000\u0128\u0129\u0001\u0000\u0000"+
+		"\u0000\u0129\u012a\u0001\u0000\u0000\u0000\u012a\u012b\u0006(\u0000\u0000"+
+		"\u012bR\u0001\u0000\u0000\u0000\u012c\u012d\u0005/\u0000\u0000\u012d\u012e"+
+		"\u0005*\u0000\u0000\u012e\u0132\u0001\u0000\u0000\u0000\u012f\u0131\t"+
+		"\u0000\u0000\u0000\u0130\u012f\u0001\u0000\u0000\u0000\u0131\u0134\u0001"+
+		"\u0000\u0000\u0000\u0132\u0133\u0001\u0000\u0000\u0000\u0132\u0130\u0001"+
+		"\u0000\u0000\u0000\u0133\u0135\u0001\u0000\u0000\u0000\u0134\u0132\u0001"+
+		"\u0000\u0000\u0000\u0135\u0136\u0005*\u0000\u0000\u0136\u0137\u0005/\u0000"+
+		"\u0000\u0137\u0138\u0001\u0000\u0000\u0000\u0138\u0139\u0006)\u0000\u0000"+
+		"\u0139T\u0001\u0000\u0000\u0000\u013a\u013b\u0005/\u0000\u0000\u013b\u013c"+
+		"\u0005/\u0000\u0000\u013c\u0140\u0001\u0000\u0000\u0000\u013d\u013f\b"+
+		"\u0001\u0000\u0000\u013e\u013d\u0001\u0000\u0000\u0000\u013f\u0142\u0001"+
+		"\u0000\u0000\u0000\u0140\u013e\u0001\u0000\u0000\u0000\u0140\u0141\u0001"+
+		"\u0000\u0000\u0000\u0141\u0143\u0001\u0000\u0000\u0000\u0142\u0140\u0001"+
+		"\u0000\u0000\u0000\u0143\u0144\u0006*\u0000\u0000\u0144V\u0001\u0000\u0000"+
+		"\u0000\u0145\u0147\u0007\u0002\u0000\u0000\u0146\u0145\u0001\u0000\u0000"+
+		"\u0000\u0147X\u0001\u0000\u0000\u0000\u0148\u0149\u0007\u0003\u0000\u0000"+
+		"\u0149Z\u0001\u0000\u0000\u0000\u014a\u014b\u0007\u0004\u0000\u0000\u014b"+
+		"\\\u0001\u0000\u0000\u0000\u014c\u014e\u0007\u0005\u0000\u0000\u014d\u014c"+
+		"\u0001\u0000\u0000\u0000\u014e^\u0001\u0000\u0000\u0000\u014f\u0150\u0007"+
+		"\u0006\u0000\u0000\u0150`\u0001\u0000\u0000\u0000\u0151\u0152\u000201"+
+		"\u0000\u0152b\u0001\u0000\u0000\u0000\u0153\u0154\u0005\t\u0000\u0000"+
+		"\u0154d\u0001\u0000\u0000\u0000\u0155\u0156\b\u0007\u0000\u0000\u0156"+
+		"f\u0001\u0000\u0000\u0000\u0157\u0158\u0005B\u0000\u0000\u0158\u0159\u0005"+
+		"I\u0000\u0000\u0159\u015a\u0005G\u0000\u0000\u015a\u015b\u0005_\u0000"+
+		"\u0000\u015b\u015c\u0005Z\u0000\u0000\u015c\u015d\u0005E\u0000\u0000\u015d"+
+		"\u015e\u0005R\u0000\u0000\u015e\u015f\u0005O\u0000\u0000\u015f\u0160\u0005"+
+		"_\u0000\u0000\u0160\u0161\u0005A\u0000\u0000\u0161\u0162\u0005R\u0000"+
+		"\u0000\u0162\u0163\u0005R\u0000\u0000\u0163\u0164\u0005A\u0000\u0000\u0164"+
+		"\u0165\u0005Y\u0000\u0000\u0165h\u0001\u0000\u0000\u0000\u0166\u0167\u0005"+
+		"B\u0000\u0000\u0167\u0168\u0005I\u0000\u0000\u0168\u0169\u0005G\u0000"+
+		"\u0000\u0169\u016a\u0005_\u0000\u0000\u016a\u016b\u0005O\u0000\u0000\u016b"+
+		"\u016c\u0005N\u0000\u0000\u016c\u016d\u0005E\u0000\u0000\u016d\u016e\u0005"+
+		"S\u0000\u0000\u016e\u016f\u0005_\u0000\u0000\u016f\u0170\u0005A\u0000"+
+		"\u0000\u0170\u0171\u0005R\u0000\u0000\u0171\u0172\u0005R\u0000\u0000\u0172"+
+		"\u0173\u0005A\u0000\u0000\u0173\u0174\u0005Y\u0000\u0000\u0174j\u0001"+
+		"\u0000\u0000\u0000\u0175\u0178\u0003g3\u0000\u0176\u0178\u0003i4\u0000"+
+		"\u0177\u0175\u0001\u0000\u0000\u0000\u0177\u0176\u0001\u0000\u0000\u0000"+
+		"\u0178l\u0001\u0000\u0000\u0000\u0179\u017e\u0003W+\u0000\u017a\u017d"+
+		"\u0003W+\u0000\u017b\u017d\u0003[-\u0000\u017c\u017a\u0001\u0000\u0000"+
+		"\u0000\u017c\u017b\u0001\u0000\u0000\u0000\u017d\u0180\u0001\u0000\u0000"+
+		"\u0000\u017e\u017c\u0001\u0000\u0000\u0000\u017e\u017f\u0001\u0000\u0000"+
+		"\u0000\u017fn\u0001\u0000\u0000\u0000\u0180\u017e\u0001\u0000\u0000\u0000"+
+		"\u0181\u0185\u0005\"\u0000\u0000\u0182\u0184\u0003e2\u0000\u0183\u0182"+
+		"\u0001\u0000\u0000\u0000\u0184\u0187\u0001\u0000\u0000\u0000\u0185\u0183"+
+		"\u0001\u0000\u0000\u0000\u0185\u0186\u0001\u0000\u0000\u0000\u0186\u0188"+
+		"\u0001\u0000\u0000\u0000\u0187\u0185\u0001\u0000\u0000\u0000\u0188\u0189"+
+		"\u0005\"\u0000\u0000\u0189p\u0001\u0000\u0000\u0000\u018a\u0193\u0005"+
+		"0\u0000\u0000\u018b\u018f\u0003Y,\u0000\u018c\u018e\u0003[-\u0000\u018d"+
+		"\u018c\u0001\u0000\u0000\u0000\u018e\u0191\u0001\u0000\u0000\u0000\u018f"+
+		"\u018d\u0001\u0000\u0000\u0000\u018f\u0190\u0001\u0000\u0000\u0000\u0190"+
+		"\u0193\u0001\u0000\u0000\u0000\u0191\u018f\u0001\u0000\u0000\u0000\u0192"+
+		"\u018a\u0001\u0000\u0000\u0000\u0192\u018b\u0001\u0000\u0000\u0000\u0193"+
+		"r\u0001\u0000\u0000\u0000\f\u0000\u0128\u0132\u0140\u0146\u014d\u0177"+
+		"\u017c\u017e\u0185\u018f\u0192\u0001\u0006\u0000\u0000";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
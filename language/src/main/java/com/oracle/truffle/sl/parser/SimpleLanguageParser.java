@@ -7,7 +7,6 @@ package com.oracle.truffle.sl.parser;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.math.BigInteger;
 
 
 import com.oracle.truffle.api.RootCallTarget;
@@ -38,8 +37,9 @@ public class SimpleLanguageParser extends Parser {
 		T__9=10, T__10=11, T__11=12, T__12=13, T__13=14, T__14=15, T__15=16, T__16=17, 
 		T__17=18, T__18=19, T__19=20, T__20=21, T__21=22, T__22=23, T__23=24, 
 		T__24=25, T__25=26, T__26=27, T__27=28, T__28=29, T__29=30, T__30=31, 
-		WS=32, COMMENT=33, LINE_COMMENT=34, ARRAY_LITERAL_INTERNAL=35, IDENTIFIER=36, 
-		STRING_LITERAL=37, NUMERIC_LITERAL=38;
+		T__31=32, T__32=33, T__33=34, T__34=35, T__35=36, T__36=37, T__37=38, 
+		T__38=39, T__39=40, WS=41, COMMENT=42, LINE_COMMENT=43, ARRAY_LITERAL_INTERNAL=44, 
+		IDENTIFIER=45, STRING_LITERAL=46, NUMERIC_LITERAL=47;
 	public static final int
 		RULE_simplelanguage = 0, RULE_function = 1, RULE_block = 2, RULE_statement = 3, 
 		RULE_while_statement = 4, RULE_if_statement = 5, RULE_return_statement = 6, 
@@ -59,7 +59,9 @@ public class SimpleLanguageParser extends Parser {
 			null, "'function'", "'('", "','", "')'", "'{'", "'}'", "'break'", "';'", 
 			"'continue'", "'debugger'", "'while'", "'if'", "'else'", "'return'", 
 			"'||'", "'&&'", "'<'", "'<='", "'>'", "'>='", "'=='", "'!='", "'+'", 
-			"'-'", "'vec_add'", "'*'", "'/'", "'='", "'.'", "'['", "']'"
+			"'-'", "'vec_add'", "'vec_sub'", "'vec_mul'", "'vec_div'", "'vec_lt'", 
+			"'vec_le'", "'vec_gt'", "'vec_ge'", "'vec_eq'", "'vec_ne'", "'*'", "'/'", 
+			"'='", "'.'", "'['", "']'"
 		};
 	}
 	private static final String[] _LITERAL_NAMES = makeLiteralNames();
@@ -67,8 +69,9 @@ public class SimpleLanguageParser extends Parser {
 		return new String[] {
 			null, null, null, null, null, null, null, null, null, null, null, null, 
 			null, null, null, null, null, null, null, null, null, null, null, null, 
-			null, null, null, null, null, null, null, null, "WS", "COMMENT", "LINE_COMMENT", 
-			"ARRAY_LITERAL_INTERNAL", "IDENTIFIER", "STRING_LITERAL", "NUMERIC_LITERAL"
+			null, null, null, null, null, null, null, null, null, null, null, null, 
+			null, null, null, null, null, "WS", "COMMENT", "LINE_COMMENT", "ARRAY_LITERAL_INTERNAL", 
+			"IDENTIFIER", "STRING_LITERAL", "NUMERIC_LITERAL"
 		};
 	}
 	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
@@ -329,7 +332,7 @@ public class SimpleLanguageParser extends Parser {
 			setState(66);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 516469841540L) != 0)) {
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 264432546504324L) != 0)) {
 				{
 				{
 				setState(61);
@@ -437,7 +440,7 @@ public class SimpleLanguageParser extends Parser {
 				}
 				break;
 			case T__1:
-			case T__29:
+			case T__38:
 			case ARRAY_LITERAL_INTERNAL:
 			case IDENTIFIER:
 			case STRING_LITERAL:
@@ -620,7 +623,7 @@ public class SimpleLanguageParser extends Parser {
 			setState(122);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 516469817348L) != 0)) {
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 264432546480132L) != 0)) {
 				{
 				setState(119);
 				((Return_statementContext)_localctx).expression = expression();
@@ -907,7 +910,16 @@ public class SimpleLanguageParser extends Parser {
 						{
 						{
 						setState(170);
-						((ArithmeticContext)_localctx).op = match(T__24);
+						((ArithmeticContext)_localctx).op = _input.LT(1);
+						_la = _input.LA(1);
+						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 34326183936L) != 0)) ) {
+							((ArithmeticContext)_localctx).op = (Token)_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
 						setState(171);
 						((ArithmeticContext)_localctx).array = array();
 						 ((ArithmeticContext)_localctx).result =  factory.createBinary(((ArithmeticContext)_localctx).op, _localctx.result, ((ArithmeticContext)_localctx).array.result); 
@@ -971,7 +983,7 @@ public class SimpleLanguageParser extends Parser {
 					setState(183);
 					((TermContext)_localctx).op = _input.LT(1);
 					_la = _input.LA(1);
-					if ( !(_la==T__25 || _la==T__26) ) {
+					if ( !(_la==T__34 || _la==T__35) ) {
 						((TermContext)_localctx).op = (Token)_errHandler.recoverInline(this);
 					}
 					else {
@@ -1153,7 +1165,7 @@ public class SimpleLanguageParser extends Parser {
 				setState(225);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 516469817348L) != 0)) {
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 264432546480132L) != 0)) {
 					{
 					setState(214);
 					((Member_expressionContext)_localctx).expression = expression();
@@ -1183,10 +1195,10 @@ public class SimpleLanguageParser extends Parser {
 				 ((Member_expressionContext)_localctx).result =  factory.createCall(receiver, parameters, ((Member_expressionContext)_localctx).e); 
 				}
 				break;
-			case T__27:
+			case T__36:
 				{
 				setState(229);
-				match(T__27);
+				match(T__36);
 				setState(230);
 				((Member_expressionContext)_localctx).expression = expression();
 				 if (assignmentName == null) {
@@ -1198,10 +1210,10 @@ public class SimpleLanguageParser extends Parser {
 				                                                  } 
 				}
 				break;
-			case T__28:
+			case T__37:
 				{
 				setState(233);
-				match(T__28);
+				match(T__37);
 				 if (receiver == null) {
 				                                                       receiver = factory.createRead(assignmentName);
 				                                                  } 
@@ -1211,10 +1223,10 @@ public class SimpleLanguageParser extends Parser {
 				                                                  ((Member_expressionContext)_localctx).result =  factory.createReadProperty(receiver, nestedAssignmentName); 
 				}
 				break;
-			case T__29:
+			case T__38:
 				{
 				setState(237);
-				match(T__29);
+				match(T__38);
 				 if (receiver == null) {
 				                                                      receiver = factory.createRead(assignmentName);
 				                                                  } 
@@ -1223,7 +1235,7 @@ public class SimpleLanguageParser extends Parser {
 				 nestedAssignmentName = ((Member_expressionContext)_localctx).expression.result;
 				                                                  ((Member_expressionContext)_localctx).result =  factory.createReadProperty(receiver, nestedAssignmentName); 
 				setState(241);
-				match(T__30);
+				match(T__39);
 				}
 				break;
 			default:
@@ -1257,20 +1269,25 @@ public class SimpleLanguageParser extends Parser {
 	public static class ArrayContext extends ParserRuleContext {
 		public SLExpressionNode result;
 		public Token s;
-		public Token NUMERIC_LITERAL;
+		public ExpressionContext expression;
 		public Token e;
 		public Token IDENTIFIER;
 		public Member_expressionContext member_expression;
 		public Token ARRAY_LITERAL_INTERNAL;
+		public Token NUMERIC_LITERAL;
+		public ExpressionContext expr;
 		public TerminalNode IDENTIFIER() { return getToken(SimpleLanguageParser.IDENTIFIER, 0); }
 		public TerminalNode ARRAY_LITERAL_INTERNAL() { return getToken(SimpleLanguageParser.ARRAY_LITERAL_INTERNAL, 0); }
+		public TerminalNode NUMERIC_LITERAL() { return getToken(SimpleLanguageParser.NUMERIC_LITERAL, 0); }
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
 		public Member_expressionContext member_expression() {
 			return getRuleContext(Member_expressionContext.class,0);
 		}
-		public List<TerminalNode> NUMERIC_LITERAL() { return getTokens(SimpleLanguageParser.NUMERIC_LITERAL); }
-		public TerminalNode NUMERIC_LITERAL(int i) {
-			return getToken(SimpleLanguageParser.NUMERIC_LITERAL, i);
-		}
 		public ArrayContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1284,23 +1301,23 @@ public class SimpleLanguageParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(276);
+			setState(284);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
-			case T__29:
+			case T__38:
 				{
 				setState(250);
-				((ArrayContext)_localctx).s = match(T__29);
-				   ArrayList<BigInteger> values = new ArrayList<>();  
-				setState(262);
+				((ArrayContext)_localctx).s = match(T__38);
+				   List<SLExpressionNode> elements = new ArrayList<>();  
+				setState(263);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if (_la==NUMERIC_LITERAL) {
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 264432546480132L) != 0)) {
 					{
 					setState(252);
-					((ArrayContext)_localctx).NUMERIC_LITERAL = match(NUMERIC_LITERAL);
-					   values.add(new BigInteger(((ArrayContext)_localctx).NUMERIC_LITERAL.getText())); 
-					setState(259);
+					((ArrayContext)_localctx).expression = expression();
+					   elements.add(((ArrayContext)_localctx).expression.result); 
+					setState(260);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					while (_la==T__2) {
@@ -1309,33 +1326,33 @@ public class SimpleLanguageParser extends Parser {
 						setState(254);
 						match(T__2);
 						setState(255);
-						((ArrayContext)_localctx).NUMERIC_LITERAL = match(NUMERIC_LITERAL);
-						   values.add(new BigInteger(((ArrayContext)_localctx).NUMERIC_LITERAL.getText())); 
+						((ArrayContext)_localctx).expression = expression();
+						   elements.add(((ArrayContext)_localctx).expression.result); 
 						}
 						}
-						setState(261);
+						setState(262);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					}
 					}
 				}
 
-				setState(264);
-				((ArrayContext)_localctx).e = match(T__30);
-				   ((ArrayContext)_localctx).result =  factory.createArray(values,((ArrayContext)_localctx).s,((ArrayContext)_localctx).e); 
+				setState(265);
+				((ArrayContext)_localctx).e = match(T__39);
+				   ((ArrayContext)_localctx).result =  factory.createArray(elements,((ArrayContext)_localctx).s,((ArrayContext)_localctx).e); 
 				}
 				break;
 			case IDENTIFIER:
 				{
-				setState(266);
+				setState(267);
 				((ArrayContext)_localctx).IDENTIFIER = match(IDENTIFIER);
 				   SLExpressionNode assignmentName = factory.createStringLiteral(((ArrayContext)_localctx).IDENTIFIER, false); 
-				setState(272);
+				setState(273);
 				_errHandler.sync(this);
 				switch ( getInterpreter().adaptivePredict(_input,22,_ctx) ) {
 				case 1:
 					{
-					setState(268);
+					setState(269);
 					((ArrayContext)_localctx).member_expression = member_expression(null, null, assignmentName);
 					 ((ArrayContext)_localctx).result =  ((ArrayContext)_localctx).member_expression.result; 
 					}
@@ -1350,11 +1367,29 @@ public class SimpleLanguageParser extends Parser {
 				break;
 			case ARRAY_LITERAL_INTERNAL:
 				{
-				setState(274);
+				setState(275);
 				((ArrayContext)_localctx).ARRAY_LITERAL_INTERNAL = match(ARRAY_LITERAL_INTERNAL);
 				   ((ArrayContext)_localctx).result =  factory.createArrayInternal(((ArrayContext)_localctx).ARRAY_LITERAL_INTERNAL);   
 				}
 				break;
+			case NUMERIC_LITERAL:
+				{
+				setState(277);
+				((ArrayContext)_localctx).NUMERIC_LITERAL = match(NUMERIC_LITERAL);
+				   ((ArrayContext)_localctx).result =  factory.createNumericLiteral(((ArrayContext)_localctx).NUMERIC_LITERAL); 
+				}
+				break;
+			case T__1:
+				{
+				setState(279);
+				((ArrayContext)_localctx).s = match(T__1);
+				setState(280);
+				((ArrayContext)_localctx).expr = ((ArrayContext)_localctx).expression = expression();
+				setState(281);
+				((ArrayContext)_localctx).e = match(T__3);
+				   ((ArrayContext)_localctx).result =  factory.createParenExpression(((ArrayContext)_localctx).expr.result, ((ArrayContext)_localctx).s.getStartIndex(), ((ArrayContext)_localctx).e.getStopIndex() - ((ArrayContext)_localctx).s.getStartIndex() + 1); 
+				}
+				break;
 			default:
 				throw new NoViableAltException(this);
 			}
@@ -1372,7 +1407,7 @@ public class SimpleLanguageParser extends Parser {
 	}
 
 	public static final String _serializedATN =
-		"\u0004\u0001&\u0117\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
+		"\u0004\u0001/\u011f\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
 		"\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004\u0002"+
 		"\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007\u0007\u0007\u0002"+
 		"\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b\u0007\u000b\u0002"+
@@ -1408,150 +1443,156 @@ public class SimpleLanguageParser extends Parser {
 		"\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001"+
 		"\r\u0001\r\u0001\r\u0003\r\u00f4\b\r\u0001\r\u0001\r\u0001\r\u0003\r\u00f9"+
 		"\b\r\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001"+
-		"\u000e\u0001\u000e\u0005\u000e\u0102\b\u000e\n\u000e\f\u000e\u0105\t\u000e"+
-		"\u0003\u000e\u0107\b\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e"+
-		"\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0003\u000e\u0111\b\u000e"+
-		"\u0001\u000e\u0001\u000e\u0003\u000e\u0115\b\u000e\u0001\u000e\u0000\u0000"+
-		"\u000f\u0000\u0002\u0004\u0006\b\n\f\u000e\u0010\u0012\u0014\u0016\u0018"+
-		"\u001a\u001c\u0000\u0003\u0001\u0000\u0011\u0016\u0001\u0000\u0017\u0018"+
-		"\u0001\u0000\u001a\u001b\u0129\u0000\u001e\u0001\u0000\u0000\u0000\u0002"+
-		"\'\u0001\u0000\u0000\u0000\u0004;\u0001\u0000\u0000\u0000\u0006^\u0001"+
-		"\u0000\u0000\u0000\b`\u0001\u0000\u0000\u0000\ng\u0001\u0000\u0000\u0000"+
-		"\fu\u0001\u0000\u0000\u0000\u000e\u007f\u0001\u0000\u0000\u0000\u0010"+
-		"\u008a\u0001\u0000\u0000\u0000\u0012\u0095\u0001\u0000\u0000\u0000\u0014"+
-		"\u00b3\u0001\u0000\u0000\u0000\u0016\u00b5\u0001\u0000\u0000\u0000\u0018"+
-		"\u00d1\u0001\u0000\u0000\u0000\u001a\u00d3\u0001\u0000\u0000\u0000\u001c"+
-		"\u0114\u0001\u0000\u0000\u0000\u001e\"\u0003\u0002\u0001\u0000\u001f!"+
-		"\u0003\u0002\u0001\u0000 \u001f\u0001\u0000\u0000\u0000!$\u0001\u0000"+
-		"\u0000\u0000\" \u0001\u0000\u0000\u0000\"#\u0001\u0000\u0000\u0000#%\u0001"+
-		"\u0000\u0000\u0000$\"\u0001\u0000\u0000\u0000%&\u0005\u0000\u0000\u0001"+
-		"&\u0001\u0001\u0000\u0000\u0000\'(\u0005\u0001\u0000\u0000()\u0005$\u0000"+
-		"\u0000)*\u0005\u0002\u0000\u0000*5\u0006\u0001\uffff\uffff\u0000+,\u0005"+
-		"$\u0000\u0000,2\u0006\u0001\uffff\uffff\u0000-.\u0005\u0003\u0000\u0000"+
-		"./\u0005$\u0000\u0000/1\u0006\u0001\uffff\uffff\u00000-\u0001\u0000\u0000"+
-		"\u000014\u0001\u0000\u0000\u000020\u0001\u0000\u0000\u000023\u0001\u0000"+
-		"\u0000\u000036\u0001\u0000\u0000\u000042\u0001\u0000\u0000\u00005+\u0001"+
-		"\u0000\u0000\u000056\u0001\u0000\u0000\u000067\u0001\u0000\u0000\u0000"+
-		"78\u0005\u0004\u0000\u000089\u0003\u0004\u0002\u00009:\u0006\u0001\uffff"+
-		"\uffff\u0000:\u0003\u0001\u0000\u0000\u0000;<\u0006\u0002\uffff\uffff"+
-		"\u0000<B\u0005\u0005\u0000\u0000=>\u0003\u0006\u0003\u0000>?\u0006\u0002"+
-		"\uffff\uffff\u0000?A\u0001\u0000\u0000\u0000@=\u0001\u0000\u0000\u0000"+
-		"AD\u0001\u0000\u0000\u0000B@\u0001\u0000\u0000\u0000BC\u0001\u0000\u0000"+
-		"\u0000CE\u0001\u0000\u0000\u0000DB\u0001\u0000\u0000\u0000EF\u0005\u0006"+
-		"\u0000\u0000FG\u0006\u0002\uffff\uffff\u0000G\u0005\u0001\u0000\u0000"+
-		"\u0000HI\u0003\b\u0004\u0000IJ\u0006\u0003\uffff\uffff\u0000J_\u0001\u0000"+
-		"\u0000\u0000KL\u0005\u0007\u0000\u0000LM\u0006\u0003\uffff\uffff\u0000"+
-		"M_\u0005\b\u0000\u0000NO\u0005\t\u0000\u0000OP\u0006\u0003\uffff\uffff"+
-		"\u0000P_\u0005\b\u0000\u0000QR\u0003\n\u0005\u0000RS\u0006\u0003\uffff"+
-		"\uffff\u0000S_\u0001\u0000\u0000\u0000TU\u0003\f\u0006\u0000UV\u0006\u0003"+
-		"\uffff\uffff\u0000V_\u0001\u0000\u0000\u0000WX\u0003\u000e\u0007\u0000"+
-		"XY\u0005\b\u0000\u0000YZ\u0006\u0003\uffff\uffff\u0000Z_\u0001\u0000\u0000"+
-		"\u0000[\\\u0005\n\u0000\u0000\\]\u0006\u0003\uffff\uffff\u0000]_\u0005"+
-		"\b\u0000\u0000^H\u0001\u0000\u0000\u0000^K\u0001\u0000\u0000\u0000^N\u0001"+
-		"\u0000\u0000\u0000^Q\u0001\u0000\u0000\u0000^T\u0001\u0000\u0000\u0000"+
-		"^W\u0001\u0000\u0000\u0000^[\u0001\u0000\u0000\u0000_\u0007\u0001\u0000"+
-		"\u0000\u0000`a\u0005\u000b\u0000\u0000ab\u0005\u0002\u0000\u0000bc\u0003"+
-		"\u000e\u0007\u0000cd\u0005\u0004\u0000\u0000de\u0003\u0004\u0002\u0000"+
-		"ef\u0006\u0004\uffff\uffff\u0000f\t\u0001\u0000\u0000\u0000gh\u0005\f"+
-		"\u0000\u0000hi\u0005\u0002\u0000\u0000ij\u0003\u000e\u0007\u0000jk\u0005"+
-		"\u0004\u0000\u0000kl\u0003\u0004\u0002\u0000lq\u0006\u0005\uffff\uffff"+
-		"\u0000mn\u0005\r\u0000\u0000no\u0003\u0004\u0002\u0000op\u0006\u0005\uffff"+
-		"\uffff\u0000pr\u0001\u0000\u0000\u0000qm\u0001\u0000\u0000\u0000qr\u0001"+
-		"\u0000\u0000\u0000rs\u0001\u0000\u0000\u0000st\u0006\u0005\uffff\uffff"+
-		"\u0000t\u000b\u0001\u0000\u0000\u0000uv\u0005\u000e\u0000\u0000vz\u0006"+
-		"\u0006\uffff\uffff\u0000wx\u0003\u000e\u0007\u0000xy\u0006\u0006\uffff"+
-		"\uffff\u0000y{\u0001\u0000\u0000\u0000zw\u0001\u0000\u0000\u0000z{\u0001"+
-		"\u0000\u0000\u0000{|\u0001\u0000\u0000\u0000|}\u0006\u0006\uffff\uffff"+
-		"\u0000}~\u0005\b\u0000\u0000~\r\u0001\u0000\u0000\u0000\u007f\u0080\u0003"+
-		"\u0010\b\u0000\u0080\u0087\u0006\u0007\uffff\uffff\u0000\u0081\u0082\u0005"+
-		"\u000f\u0000\u0000\u0082\u0083\u0003\u0010\b\u0000\u0083\u0084\u0006\u0007"+
-		"\uffff\uffff\u0000\u0084\u0086\u0001\u0000\u0000\u0000\u0085\u0081\u0001"+
-		"\u0000\u0000\u0000\u0086\u0089\u0001\u0000\u0000\u0000\u0087\u0085\u0001"+
-		"\u0000\u0000\u0000\u0087\u0088\u0001\u0000\u0000\u0000\u0088\u000f\u0001"+
-		"\u0000\u0000\u0000\u0089\u0087\u0001\u0000\u0000\u0000\u008a\u008b\u0003"+
-		"\u0012\t\u0000\u008b\u0092\u0006\b\uffff\uffff\u0000\u008c\u008d\u0005"+
-		"\u0010\u0000\u0000\u008d\u008e\u0003\u0012\t\u0000\u008e\u008f\u0006\b"+
-		"\uffff\uffff\u0000\u008f\u0091\u0001\u0000\u0000\u0000\u0090\u008c\u0001"+
-		"\u0000\u0000\u0000\u0091\u0094\u0001\u0000\u0000\u0000\u0092\u0090\u0001"+
-		"\u0000\u0000\u0000\u0092\u0093\u0001\u0000\u0000\u0000\u0093\u0011\u0001"+
-		"\u0000\u0000\u0000\u0094\u0092\u0001\u0000\u0000\u0000\u0095\u0096\u0003"+
-		"\u0014\n\u0000\u0096\u009b\u0006\t\uffff\uffff\u0000\u0097\u0098\u0007"+
-		"\u0000\u0000\u0000\u0098\u0099\u0003\u0014\n\u0000\u0099\u009a\u0006\t"+
-		"\uffff\uffff\u0000\u009a\u009c\u0001\u0000\u0000\u0000\u009b\u0097\u0001"+
-		"\u0000\u0000\u0000\u009b\u009c\u0001\u0000\u0000\u0000\u009c\u0013\u0001"+
-		"\u0000\u0000\u0000\u009d\u009e\u0003\u0016\u000b\u0000\u009e\u00a5\u0006"+
-		"\n\uffff\uffff\u0000\u009f\u00a0\u0007\u0001\u0000\u0000\u00a0\u00a1\u0003"+
-		"\u0016\u000b\u0000\u00a1\u00a2\u0006\n\uffff\uffff\u0000\u00a2\u00a4\u0001"+
-		"\u0000\u0000\u0000\u00a3\u009f\u0001\u0000\u0000\u0000\u00a4\u00a7\u0001"+
-		"\u0000\u0000\u0000\u00a5\u00a3\u0001\u0000\u0000\u0000\u00a5\u00a6\u0001"+
-		"\u0000\u0000\u0000\u00a6\u00b4\u0001\u0000\u0000\u0000\u00a7\u00a5\u0001"+
-		"\u0000\u0000\u0000\u00a8\u00a9\u0003\u001c\u000e\u0000\u00a9\u00b0\u0006"+
-		"\n\uffff\uffff\u0000\u00aa\u00ab\u0005\u0019\u0000\u0000\u00ab\u00ac\u0003"+
-		"\u001c\u000e\u0000\u00ac\u00ad\u0006\n\uffff\uffff\u0000\u00ad\u00af\u0001"+
-		"\u0000\u0000\u0000\u00ae\u00aa\u0001\u0000\u0000\u0000\u00af\u00b2\u0001"+
-		"\u0000\u0000\u0000\u00b0\u00ae\u0001\u0000\u0000\u0000\u00b0\u00b1\u0001"+
-		"\u0000\u0000\u0000\u00b1\u00b4\u0001\u0000\u0000\u0000\u00b2\u00b0\u0001"+
-		"\u0000\u0000\u0000\u00b3\u009d\u0001\u0000\u0000\u0000\u00b3\u00a8\u0001"+
-		"\u0000\u0000\u0000\u00b4\u0015\u0001\u0000\u0000\u0000\u00b5\u00b6\u0003"+
-		"\u0018\f\u0000\u00b6\u00bd\u0006\u000b\uffff\uffff\u0000\u00b7\u00b8\u0007"+
-		"\u0002\u0000\u0000\u00b8\u00b9\u0003\u0018\f\u0000\u00b9\u00ba\u0006\u000b"+
-		"\uffff\uffff\u0000\u00ba\u00bc\u0001\u0000\u0000\u0000\u00bb\u00b7\u0001"+
-		"\u0000\u0000\u0000\u00bc\u00bf\u0001\u0000\u0000\u0000\u00bd\u00bb\u0001"+
-		"\u0000\u0000\u0000\u00bd\u00be\u0001\u0000\u0000\u0000\u00be\u0017\u0001"+
-		"\u0000\u0000\u0000\u00bf\u00bd\u0001\u0000\u0000\u0000\u00c0\u00c1\u0005"+
-		"$\u0000\u0000\u00c1\u00c6\u0006\f\uffff\uffff\u0000\u00c2\u00c3\u0003"+
-		"\u001a\r\u0000\u00c3\u00c4\u0006\f\uffff\uffff\u0000\u00c4\u00c7\u0001"+
-		"\u0000\u0000\u0000\u00c5\u00c7\u0006\f\uffff\uffff\u0000\u00c6\u00c2\u0001"+
-		"\u0000\u0000\u0000\u00c6\u00c5\u0001\u0000\u0000\u0000\u00c7\u00d2\u0001"+
-		"\u0000\u0000\u0000\u00c8\u00c9\u0005%\u0000\u0000\u00c9\u00d2\u0006\f"+
-		"\uffff\uffff\u0000\u00ca\u00cb\u0005&\u0000\u0000\u00cb\u00d2\u0006\f"+
-		"\uffff\uffff\u0000\u00cc\u00cd\u0005\u0002\u0000\u0000\u00cd\u00ce\u0003"+
-		"\u000e\u0007\u0000\u00ce\u00cf\u0005\u0004\u0000\u0000\u00cf\u00d0\u0006"+
-		"\f\uffff\uffff\u0000\u00d0\u00d2\u0001\u0000\u0000\u0000\u00d1\u00c0\u0001"+
-		"\u0000\u0000\u0000\u00d1\u00c8\u0001\u0000\u0000\u0000\u00d1\u00ca\u0001"+
-		"\u0000\u0000\u0000\u00d1\u00cc\u0001\u0000\u0000\u0000\u00d2\u0019\u0001"+
-		"\u0000\u0000\u0000\u00d3\u00f3\u0006\r\uffff\uffff\u0000\u00d4\u00d5\u0005"+
-		"\u0002\u0000\u0000\u00d5\u00e1\u0006\r\uffff\uffff\u0000\u00d6\u00d7\u0003"+
-		"\u000e\u0007\u0000\u00d7\u00de\u0006\r\uffff\uffff\u0000\u00d8\u00d9\u0005"+
-		"\u0003\u0000\u0000\u00d9\u00da\u0003\u000e\u0007\u0000\u00da\u00db\u0006"+
-		"\r\uffff\uffff\u0000\u00db\u00dd\u0001\u0000\u0000\u0000\u00dc\u00d8\u0001"+
-		"\u0000\u0000\u0000\u00dd\u00e0\u0001\u0000\u0000\u0000\u00de\u00dc\u0001"+
-		"\u0000\u0000\u0000\u00de\u00df\u0001\u0000\u0000\u0000\u00df\u00e2\u0001"+
-		"\u0000\u0000\u0000\u00e0\u00de\u0001\u0000\u0000\u0000\u00e1\u00d6\u0001"+
-		"\u0000\u0000\u0000\u00e1\u00e2\u0001\u0000\u0000\u0000\u00e2\u00e3\u0001"+
-		"\u0000\u0000\u0000\u00e3\u00e4\u0005\u0004\u0000\u0000\u00e4\u00f4\u0006"+
-		"\r\uffff\uffff\u0000\u00e5\u00e6\u0005\u001c\u0000\u0000\u00e6\u00e7\u0003"+
-		"\u000e\u0007\u0000\u00e7\u00e8\u0006\r\uffff\uffff\u0000\u00e8\u00f4\u0001"+
-		"\u0000\u0000\u0000\u00e9\u00ea\u0005\u001d\u0000\u0000\u00ea\u00eb\u0006"+
-		"\r\uffff\uffff\u0000\u00eb\u00ec\u0005$\u0000\u0000\u00ec\u00f4\u0006"+
-		"\r\uffff\uffff\u0000\u00ed\u00ee\u0005\u001e\u0000\u0000\u00ee\u00ef\u0006"+
-		"\r\uffff\uffff\u0000\u00ef\u00f0\u0003\u000e\u0007\u0000\u00f0\u00f1\u0006"+
-		"\r\uffff\uffff\u0000\u00f1\u00f2\u0005\u001f\u0000\u0000\u00f2\u00f4\u0001"+
-		"\u0000\u0000\u0000\u00f3\u00d4\u0001\u0000\u0000\u0000\u00f3\u00e5\u0001"+
-		"\u0000\u0000\u0000\u00f3\u00e9\u0001\u0000\u0000\u0000\u00f3\u00ed\u0001"+
-		"\u0000\u0000\u0000\u00f4\u00f8\u0001\u0000\u0000\u0000\u00f5\u00f6\u0003"+
-		"\u001a\r\u0000\u00f6\u00f7\u0006\r\uffff\uffff\u0000\u00f7\u00f9\u0001"+
-		"\u0000\u0000\u0000\u00f8\u00f5\u0001\u0000\u0000\u0000\u00f8\u00f9\u0001"+
-		"\u0000\u0000\u0000\u00f9\u001b\u0001\u0000\u0000\u0000\u00fa\u00fb\u0005"+
-		"\u001e\u0000\u0000\u00fb\u0106\u0006\u000e\uffff\uffff\u0000\u00fc\u00fd"+
-		"\u0005&\u0000\u0000\u00fd\u0103\u0006\u000e\uffff\uffff\u0000\u00fe\u00ff"+
-		"\u0005\u0003\u0000\u0000\u00ff\u0100\u0005&\u0000\u0000\u0100\u0102\u0006"+
-		"\u000e\uffff\uffff\u0000\u0101\u00fe\u0001\u0000\u0000\u0000\u0102\u0105"+
-		"\u0001\u0000\u0000\u0000\u0103\u0101\u0001\u0000\u0000\u0000\u0103\u0104"+
-		"\u0001\u0000\u0000\u0000\u0104\u0107\u0001\u0000\u0000\u0000\u0105\u0103"+
-		"\u0001\u0000\u0000\u0000\u0106\u00fc\u0001\u0000\u0000\u0000\u0106\u0107"+
-		"\u0001\u0000\u0000\u0000\u0107\u0108\u0001\u0000\u0000\u0000\u0108\u0109"+
-		"\u0005\u001f\u0000\u0000\u0109\u0115\u0006\u000e\uffff\uffff\u0000\u010a"+
-		"\u010b\u0005$\u0000\u0000\u010b\u0110\u0006\u000e\uffff\uffff\u0000\u010c"+
-		"\u010d\u0003\u001a\r\u0000\u010d\u010e\u0006\u000e\uffff\uffff\u0000\u010e"+
-		"\u0111\u0001\u0000\u0000\u0000\u010f\u0111\u0006\u000e\uffff\uffff\u0000"+
-		"\u0110\u010c\u0001\u0000\u0000\u0000\u0110\u010f\u0001\u0000\u0000\u0000"+
-		"\u0111\u0115\u0001\u0000\u0000\u0000\u0112\u0113\u0005#\u0000\u0000\u0113"+
-		"\u0115\u0006\u000e\uffff\uffff\u0000\u0114\u00fa\u0001\u0000\u0000\u0000"+
-		"\u0114\u010a\u0001\u0000\u0000\u0000\u0114\u0112\u0001\u0000\u0000\u0000"+
-		"\u0115\u001d\u0001\u0000\u0000\u0000\u0018\"25B^qz\u0087\u0092\u009b\u00a5"+
-		"\u00b0\u00b3\u00bd\u00c6\u00d1\u00de\u00e1\u00f3\u00f8\u0103\u0106\u0110"+
-		"\u0114";
+		"\u000e\u0001\u000e\u0001\u000e\u0005\u000e\u0103\b\u000e\n\u000e\f\u000e"+
+		"\u0106\t\u000e\u0003\u000e\u0108\b\u000e\u0001\u000e\u0001\u000e\u0001"+
+		"\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0003"+
+		"\u000e\u0112\b\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001"+
+		"\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0003\u000e\u011d"+
+		"\b\u000e\u0001\u000e\u0000\u0000\u000f\u0000\u0002\u0004\u0006\b\n\f\u000e"+
+		"\u0010\u0012\u0014\u0016\u0018\u001a\u001c\u0000\u0004\u0001\u0000\u0011"+
+		"\u0016\u0001\u0000\u0017\u0018\u0001\u0000\u0019\"\u0001\u0000#$\u0133"+
+		"\u0000\u001e\u0001\u0000\u0000\u0000\u0002\'\u0001\u0000\u0000\u0000\u0004"+
+		";\u0001\u0000\u0000\u0000\u0006^\u0001\u0000\u0000\u0000\b`\u0001\u0000"+
+		"\u0000\u0000\ng\u0001\u0000\u0000\u0000\fu\u0001\u0000\u0000\u0000\u000e"+
+		"\u007f\u0001\u0000\u0000\u0000\u0010\u008a\u0001\u0000\u0000\u0000\u0012"+
+		"\u0095\u0001\u0000\u0000\u0000\u0014\u00b3\u0001\u0000\u0000\u0000\u0016"+
+		"\u00b5\u0001\u0000\u0000\u0000\u0018\u00d1\u0001\u0000\u0000\u0000\u001a"+
+		"\u00d3\u0001\u0000\u0000\u0000\u001c\u011c\u0001\u0000\u0000\u0000\u001e"+
+		"\"\u0003\u0002\u0001\u0000\u001f!\u0003\u0002\u0001\u0000 \u001f\u0001"+
+		"\u0000\u0000\u0000!$\u0001\u0000\u0000\u0000\" \u0001\u0000\u0000\u0000"+
+		"\"#\u0001\u0000\u0000\u0000#%\u0001\u0000\u0000\u0000$\"\u0001\u0000\u0000"+
+		"\u0000%&\u0005\u0000\u0000\u0001&\u0001\u0001\u0000\u0000\u0000\'(\u0005"+
+		"\u0001\u0000\u0000()\u0005-\u0000\u0000)*\u0005\u0002\u0000\u0000*5\u0006"+
+		"\u0001\uffff\uffff\u0000+,\u0005-\u0000\u0000,2\u0006\u0001\uffff\uffff"+
+		"\u0000-.\u0005\u0003\u0000\u0000./\u0005-\u0000\u0000/1\u0006\u0001\uffff"+
+		"\uffff\u00000-\u0001\u0000\u0000\u000014\u0001\u0000\u0000\u000020\u0001"+
+		"\u0000\u0000\u000023\u0001\u0000\u0000\u000036\u0001\u0000\u0000\u0000"+
+		"42\u0001\u0000\u0000\u00005+\u0001\u0000\u0000\u000056\u0001\u0000\u0000"+
+		"\u000067\u0001\u0000\u0000\u000078\u0005\u0004\u0000\u000089\u0003\u0004"+
+		"\u0002\u00009:\u0006\u0001\uffff\uffff\u0000:\u0003\u0001\u0000\u0000"+
+		"\u0000;<\u0006\u0002\uffff\uffff\u0000<B\u0005\u0005\u0000\u0000=>\u0003"+
+		"\u0006\u0003\u0000>?\u0006\u0002\uffff\uffff\u0000?A\u0001\u0000\u0000"+
+		"\u0000@=\u0001\u0000\u0000\u0000AD\u0001\u0000\u0000\u0000B@\u0001\u0000"+
+		"\u0000\u0000BC\u0001\u0000\u0000\u0000CE\u0001\u0000\u0000\u0000DB\u0001"+
+		"\u0000\u0000\u0000EF\u0005\u0006\u0000\u0000FG\u0006\u0002\uffff\uffff"+
+		"\u0000G\u0005\u0001\u0000\u0000\u0000HI\u0003\b\u0004\u0000IJ\u0006\u0003"+
+		"\uffff\uffff\u0000J_\u0001\u0000\u0000\u0000KL\u0005\u0007\u0000\u0000"+
+		"LM\u0006\u0003\uffff\uffff\u0000M_\u0005\b\u0000\u0000NO\u0005\t\u0000"+
+		"\u0000OP\u0006\u0003\uffff\uffff\u0000P_\u0005\b\u0000\u0000QR\u0003\n"+
+		"\u0005\u0000RS\u0006\u0003\uffff\uffff\u0000S_\u0001\u0000\u0000\u0000"+
+		"TU\u0003\f\u0006\u0000UV\u0006\u0003\uffff\uffff\u0000V_\u0001\u0000\u0000"+
+		"\u0000WX\u0003\u000e\u0007\u0000XY\u0005\b\u0000\u0000YZ\u0006\u0003\uffff"+
+		"\uffff\u0000Z_\u0001\u0000\u0000\u0000[\\\u0005\n\u0000\u0000\\]\u0006"+
+		"\u0003\uffff\uffff\u0000]_\u0005\b\u0000\u0000^H\u0001\u0000\u0000\u0000"+
+		"^K\u0001\u0000\u0000\u0000^N\u0001\u0000\u0000\u0000^Q\u0001\u0000\u0000"+
+		"\u0000^T\u0001\u0000\u0000\u0000^W\u0001\u0000\u0000\u0000^[\u0001\u0000"+
+		"\u0000\u0000_\u0007\u0001\u0000\u0000\u0000`a\u0005\u000b\u0000\u0000"+
+		"ab\u0005\u0002\u0000\u0000bc\u0003\u000e\u0007\u0000cd\u0005\u0004\u0000"+
+		"\u0000de\u0003\u0004\u0002\u0000ef\u0006\u0004\uffff\uffff\u0000f\t\u0001"+
+		"\u0000\u0000\u0000gh\u0005\f\u0000\u0000hi\u0005\u0002\u0000\u0000ij\u0003"+
+		"\u000e\u0007\u0000jk\u0005\u0004\u0000\u0000kl\u0003\u0004\u0002\u0000"+
+		"lq\u0006\u0005\uffff\uffff\u0000mn\u0005\r\u0000\u0000no\u0003\u0004\u0002"+
+		"\u0000op\u0006\u0005\uffff\uffff\u0000pr\u0001\u0000\u0000\u0000qm\u0001"+
+		"\u0000\u0000\u0000qr\u0001\u0000\u0000\u0000rs\u0001\u0000\u0000\u0000"+
+		"st\u0006\u0005\uffff\uffff\u0000t\u000b\u0001\u0000\u0000\u0000uv\u0005"+
+		"\u000e\u0000\u0000vz\u0006\u0006\uffff\uffff\u0000wx\u0003\u000e\u0007"+
+		"\u0000xy\u0006\u0006\uffff\uffff\u0000y{\u0001\u0000\u0000\u0000zw\u0001"+
+		"\u0000\u0000\u0000z{\u0001\u0000\u0000\u0000{|\u0001\u0000\u0000\u0000"+
+		"|}\u0006\u0006\uffff\uffff\u0000}~\u0005\b\u0000\u0000~\r\u0001\u0000"+
+		"\u0000\u0000\u007f\u0080\u0003\u0010\b\u0000\u0080\u0087\u0006\u0007\uffff"+
+		"\uffff\u0000\u0081\u0082\u0005\u000f\u0000\u0000\u0082\u0083\u0003\u0010"+
+		"\b\u0000\u0083\u0084\u0006\u0007\uffff\uffff\u0000\u0084\u0086\u0001\u0000"+
+		"\u0000\u0000\u0085\u0081\u0001\u0000\u0000\u0000\u0086\u0089\u0001\u0000"+
+		"\u0000\u0000\u0087\u0085\u0001\u0000\u0000\u0000\u0087\u0088\u0001\u0000"+
+		"\u0000\u0000\u0088\u000f\u0001\u0000\u0000\u0000\u0089\u0087\u0001\u0000"+
+		"\u0000\u0000\u008a\u008b\u0003\u0012\t\u0000\u008b\u0092\u0006\b\uffff"+
+		"\uffff\u0000\u008c\u008d\u0005\u0010\u0000\u0000\u008d\u008e\u0003\u0012"+
+		"\t\u0000\u008e\u008f\u0006\b\uffff\uffff\u0000\u008f\u0091\u0001\u0000"+
+		"\u0000\u0000\u0090\u008c\u0001\u0000\u0000\u0000\u0091\u0094\u0001\u0000"+
+		"\u0000\u0000\u0092\u0090\u0001\u0000\u0000\u0000\u0092\u0093\u0001\u0000"+
+		"\u0000\u0000\u0093\u0011\u0001\u0000\u0000\u0000\u0094\u0092\u0001\u0000"+
+		"\u0000\u0000\u0095\u0096\u0003\u0014\n\u0000\u0096\u009b\u0006\t\uffff"+
+		"\uffff\u0000\u0097\u0098\u0007\u0000\u0000\u0000\u0098\u0099\u0003\u0014"+
+		"\n\u0000\u0099\u009a\u0006\t\uffff\uffff\u0000\u009a\u009c\u0001\u0000"+
+		"\u0000\u0000\u009b\u0097\u0001\u0000\u0000\u0000\u009b\u009c\u0001\u0000"+
+		"\u0000\u0000\u009c\u0013\u0001\u0000\u0000\u0000\u009d\u009e\u0003\u0016"+
+		"\u000b\u0000\u009e\u00a5\u0006\n\uffff\uffff\u0000\u009f\u00a0\u0007\u0001"+
+		"\u0000\u0000\u00a0\u00a1\u0003\u0016\u000b\u0000\u00a1\u00a2\u0006\n\uffff"+
+		"\uffff\u0000\u00a2\u00a4\u0001\u0000\u0000\u0000\u00a3\u009f\u0001\u0000"+
+		"\u0000\u0000\u00a4\u00a7\u0001\u0000\u0000\u0000\u00a5\u00a3\u0001\u0000"+
+		"\u0000\u0000\u00a5\u00a6\u0001\u0000\u0000\u0000\u00a6\u00b4\u0001\u0000"+
+		"\u0000\u0000\u00a7\u00a5\u0001\u0000\u0000\u0000\u00a8\u00a9\u0003\u001c"+
+		"\u000e\u0000\u00a9\u00b0\u0006\n\uffff\uffff\u0000\u00aa\u00ab\u0007\u0002"+
+		"\u0000\u0000\u00ab\u00ac\u0003\u001c\u000e\u0000\u00ac\u00ad\u0006\n\uffff"+
+		"\uffff\u0000\u00ad\u00af\u0001\u0000\u0000\u0000\u00ae\u00aa\u0001\u0000"+
+		"\u0000\u0000\u00af\u00b2\u0001\u0000\u0000\u0000\u00b0\u00ae\u0001\u0000"+
+		"\u0000\u0000\u00b0\u00b1\u0001\u0000\u0000\u0000\u00b1\u00b4\u0001\u0000"+
+		"\u0000\u0000\u00b2\u00b0\u0001\u0000\u0000\u0000\u00b3\u009d\u0001\u0000"+
+		"\u0000\u0000\u00b3\u00a8\u0001\u0000\u0000\u0000\u00b4\u0015\u0001\u0000"+
+		"\u0000\u0000\u00b5\u00b6\u0003\u0018\f\u0000\u00b6\u00bd\u0006\u000b\uffff"+
+		"\uffff\u0000\u00b7\u00b8\u0007\u0003\u0000\u0000\u00b8\u00b9\u0003\u0018"+
+		"\f\u0000\u00b9\u00ba\u0006\u000b\uffff\uffff\u0000\u00ba\u00bc\u0001\u0000"+
+		"\u0000\u0000\u00bb\u00b7\u0001\u0000\u0000\u0000\u00bc\u00bf\u0001\u0000"+
+		"\u0000\u0000\u00bd\u00bb\u0001\u0000\u0000\u0000\u00bd\u00be\u0001\u0000"+
+		"\u0000\u0000\u00be\u0017\u0001\u0000\u0000\u0000\u00bf\u00bd\u0001\u0000"+
+		"\u0000\u0000\u00c0\u00c1\u0005-\u0000\u0000\u00c1\u00c6\u0006\f\uffff"+
+		"\uffff\u0000\u00c2\u00c3\u0003\u001a\r\u0000\u00c3\u00c4\u0006\f\uffff"+
+		"\uffff\u0000\u00c4\u00c7\u0001\u0000\u0000\u0000\u00c5\u00c7\u0006\f\uffff"+
+		"\uffff\u0000\u00c6\u00c2\u0001\u0000\u0000\u0000\u00c6\u00c5\u0001\u0000"+
+		"\u0000\u0000\u00c7\u00d2\u0001\u0000\u0000\u0000\u00c8\u00c9\u0005.\u0000"+
+		"\u0000\u00c9\u00d2\u0006\f\uffff\uffff\u0000\u00ca\u00cb\u0005/\u0000"+
+		"\u0000\u00cb\u00d2\u0006\f\uffff\uffff\u0000\u00cc\u00cd\u0005\u0002\u0000"+
+		"\u0000\u00cd\u00ce\u0003\u000e\u0007\u0000\u00ce\u00cf\u0005\u0004\u0000"+
+		"\u0000\u00cf\u00d0\u0006\f\uffff\uffff\u0000\u00d0\u00d2\u0001\u0000\u0000"+
+		"\u0000\u00d1\u00c0\u0001\u0000\u0000\u0000\u00d1\u00c8\u0001\u0000\u0000"+
+		"\u0000\u00d1\u00ca\u0001\u0000\u0000\u0000\u00d1\u00cc\u0001\u0000\u0000"+
+		"\u0000\u00d2\u0019\u0001\u0000\u0000\u0000\u00d3\u00f3\u0006\r\uffff\uffff"+
+		"\u0000\u00d4\u00d5\u0005\u0002\u0000\u0000\u00d5\u00e1\u0006\r\uffff\uffff"+
+		"\u0000\u00d6\u00d7\u0003\u000e\u0007\u0000\u00d7\u00de\u0006\r\uffff\uffff"+
+		"\u0000\u00d8\u00d9\u0005\u0003\u0000\u0000\u00d9\u00da\u0003\u000e\u0007"+
+		"\u0000\u00da\u00db\u0006\r\uffff\uffff\u0000\u00db\u00dd\u0001\u0000\u0000"+
+		"\u0000\u00dc\u00d8\u0001\u0000\u0000\u0000\u00dd\u00e0\u0001\u0000\u0000"+
+		"\u0000\u00de\u00dc\u0001\u0000\u0000\u0000\u00de\u00df\u0001\u0000\u0000"+
+		"\u0000\u00df\u00e2\u0001\u0000\u0000\u0000\u00e0\u00de\u0001\u0000\u0000"+
+		"\u0000\u00e1\u00d6\u0001\u0000\u0000\u0000\u00e1\u00e2\u0001\u0000\u0000"+
+		"\u0000\u00e2\u00e3\u0001\u0000\u0000\u0000\u00e3\u00e4\u0005\u0004\u0000"+
+		"\u0000\u00e4\u00f4\u0006\r\uffff\uffff\u0000\u00e5\u00e6\u0005%\u0000"+
+		"\u0000\u00e6\u00e7\u0003\u000e\u0007\u0000\u00e7\u00e8\u0006\r\uffff\uffff"+
+		"\u0000\u00e8\u00f4\u0001\u0000\u0000\u0000\u00e9\u00ea\u0005&\u0000\u0000"+
+		"\u00ea\u00eb\u0006\r\uffff\uffff\u0000\u00eb\u00ec\u0005-\u0000\u0000"+
+		"\u00ec\u00f4\u0006\r\uffff\uffff\u0000\u00ed\u00ee\u0005\'\u0000\u0000"+
+		"\u00ee\u00ef\u0006\r\uffff\uffff\u0000\u00ef\u00f0\u0003\u000e\u0007\u0000"+
+		"\u00f0\u00f1\u0006\r\uffff\uffff\u0000\u00f1\u00f2\u0005(\u0000\u0000"+
+		"\u00f2\u00f4\u0001\u0000\u0000\u0000\u00f3\u00d4\u0001\u0000\u0000\u0000"+
+		"\u00f3\u00e5\u0001\u0000\u0000\u0000\u00f3\u00e9\u0001\u0000\u0000\u0000"+
+		"\u00f3\u00ed\u0001\u0000\u0000\u0000\u00f4\u00f8\u0001\u0000\u0000\u0000"+
+		"\u00f5\u00f6\u0003\u001a\r\u0000\u00f6\u00f7\u0006\r\uffff\uffff\u0000"+
+		"\u00f7\u00f9\u0001\u0000\u0000\u0000\u00f8\u00f5\u0001\u0000\u0000\u0000"+
+		"\u00f8\u00f9\u0001\u0000\u0000\u0000\u00f9\u001b\u0001\u0000\u0000\u0000"+
+		"\u00fa\u00fb\u0005\'\u0000\u0000\u00fb\u0107\u0006\u000e\uffff\uffff\u0000"+
+		"\u00fc\u00fd\u0003\u000e\u0007\u0000\u00fd\u0104\u0006\u000e\uffff\uffff"+
+		"\u0000\u00fe\u00ff\u0005\u0003\u0000\u0000\u00ff\u0100\u0003\u000e\u0007"+
+		"\u0000\u0100\u0101\u0006\u000e\uffff\uffff\u0000\u0101\u0103\u0001\u0000"+
+		"\u0000\u0000\u0102\u00fe\u0001\u0000\u0000\u0000\u0103\u0106\u0001\u0000"+
+		"\u0000\u0000\u0104\u0102\u0001\u0000\u0000\u0000\u0104\u0105\u0001\u0000"+
+		"\u0000\u0000\u0105\u0108\u0001\u0000\u0000\u0000\u0106\u0104\u0001\u0000"+
+		"\u0000\u0000\u0107\u00fc\u0001\u0000\u0000\u0000\u0107\u0108\u0001\u0000"+
+		"\u0000\u0000\u0108\u0109\u0001\u0000\u0000\u0000\u0109\u010a\u0005(\u0000"+
+		"\u0000\u010a\u011d\u0006\u000e\uffff\uffff\u0000\u010b\u010c\u0005-\u0000"+
+		"\u0000\u010c\u0111\u0006\u000e\uffff\uffff\u0000\u010d\u010e\u0003\u001a"+
+		"\r\u0000\u010e\u010f\u0006\u000e\uffff\uffff\u0000\u010f\u0112\u0001\u0000"+
+		"\u0000\u0000\u0110\u0112\u0006\u000e\uffff\uffff\u0000\u0111\u010d\u0001"+
+		"\u0000\u0000\u0000\u0111\u0110\u0001\u0000\u0000\u0000\u0112\u011d\u0001"+
+		"\u0000\u0000\u0000\u0113\u0114\u0005,\u0000\u0000\u0114\u011d\u0006\u000e"+
+		"\uffff\uffff\u0000\u0115\u0116\u0005/\u0000\u0000\u0116\u011d\u0006\u000e"+
+		"\uffff\uffff\u0000\u0117\u0118\u0005\u0002\u0000\u0000\u0118\u0119\u0003"+
+		"\u000e\u0007\u0000\u0119\u011a\u0005\u0004\u0000\u0000\u011a\u011b\u0006"+
+		"\u000e\uffff\uffff\u0000\u011b\u011d\u0001\u0000\u0000\u0000\u011c\u00fa"+
+		"\u0001\u0000\u0000\u0000\u011c\u010b\u0001\u0000\u0000\u0000\u011c\u0113"+
+		"\u0001\u0000\u0000\u0000\u011c\u0115\u0001\u0000\u0000\u0000\u011c\u0117"+
+		"\u0001\u0000\u0000\u0000\u011d\u001d\u0001\u0000\u0000\u0000\u0018\"2"+
+		"5B^qz\u0087\u0092\u009b\u00a5\u00b0\u00b3\u00bd\u00c6\u00d1\u00de\u00e1"+
+		"\u00f3\u00f8\u0104\u0107\u0111\u011c";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
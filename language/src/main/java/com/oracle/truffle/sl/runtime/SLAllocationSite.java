@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.runtime;
+
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.utilities.CyclicAssumption;
+
+/**
+ * Allocation-site feedback for the arrays that a node creates, similar to the allocation mementos
+ * of JavaScript engines. The arrays created by an array literal remember their allocation site,
+ * and report to it when they are widened later, either in place by a write or by an operation that
+ * reads them as wider storage, e.g. a {@code vec_add} with a wider operand. From then on the literal
+ * creates arrays with the wider storage directly, so the widening copies disappear from the steady
+ * state.
+ * <p>
+ * The storage width is a compilation constant of the code that allocates the arrays. Widening the
+ * site invalidates a {@link CyclicAssumption}, which deoptimizes that code, like a change of the
+ * call target of an {@link SLFunction}. The width only grows, so every site changes at most twice.
+ */
+public final class SLAllocationSite {
+
+    public static final int INT = 0;
+    public static final int LONG = 1;
+    public static final int BIG_INTEGER = 2;
+
+    @CompilationFinal private int width;
+    private final CyclicAssumption widthStable = new CyclicAssumption("allocation site width");
+
+    private SLAllocationSite() {
+    }
+
+    public static SLAllocationSite create() {
+        return new SLAllocationSite();
+    }
+
+    /**
+     * Returns the narrowest storage that the arrays created at this site should use:
+     * {@link #INT}, {@link #LONG} or {@link #BIG_INTEGER}.
+     */
+    public int getWidth() {
+        if (!widthStable.getAssumption().isValid()) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+        }
+        return width;
+    }
+
+    /**
+     * Records that an array created at this site needed at least the storage {@code newWidth}.
+     */
+    public void recordWidth(int newWidth) {
+        if (newWidth > width) {
+            widen(newWidth);
+        }
+    }
+
+    /**
+     * Records that {@code array} was read as an array of the storage {@code newWidth}, if it has an
+     * allocation site.
+     */
+    public static void recordWidth(Object array, int newWidth) {
+        SLAllocationSite site = null;
+        if (array instanceof SLIntegerArray) {
+            site = ((SLIntegerArray) array).getAllocationSite();
+        } else if (array instanceof SLLongArray) {
+            site = ((SLLongArray) array).getAllocationSite();
+        }
+        if (site != null) {
+            site.recordWidth(newWidth);
+        }
+    }
+
+    @TruffleBoundary
+    private synchronized void widen(int newWidth) {
+        if (newWidth > width) {
+            width = newWidth;
+            widthStable.invalidate();
+        }
+    }
+}
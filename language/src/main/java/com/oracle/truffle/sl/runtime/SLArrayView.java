@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.runtime;
+
+import java.math.BigInteger;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.TruffleLanguage;
+import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.interop.InvalidArrayIndexException;
+import com.oracle.truffle.api.interop.TruffleObject;
+import com.oracle.truffle.api.interop.UnsupportedMessageException;
+import com.oracle.truffle.api.interop.UnsupportedTypeException;
+import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.library.ExportLibrary;
+import com.oracle.truffle.api.library.ExportMessage;
+import com.oracle.truffle.sl.SLLanguage;
+
+/**
+ * SL array that is a window of another array, created by the {@code slice} and {@code stride}
+ * builtins. The view does not copy any elements: element {@code i} of the view is element
+ * {@code offset + i * stride} of the primitive storage of the array it was created from, so
+ * creating a view takes constant time, independent of its length.
+ * <p>
+ * The view shares the storage of its parent, and sees the writes to the parent until the parent
+ * is {@link SLIntegerArray#widen() widened}: the parent then moves to a new storage, while the
+ * view keeps the elements it had at that point. Writes to the view never change the parent. The
+ * first write {@link #detach() detaches} the view, which copies its elements to a dense array of
+ * its own that the view forwards to from then on, like a widened array.
+ * <p>
+ * Views are also used internally to process numbers and {@link SLUniformArray uniform arrays}
+ * together with views, as views with a stride of {@code 0} over a single element.
+ */
+@ExportLibrary(InteropLibrary.class)
+@SuppressWarnings("static-method")
+public final class SLArrayView implements TruffleObject {
+
+    /*
+     * Exactly one of ints and longs is set. The overflow side table of a view of a
+     * SLBigIntegerArray is read from the array, because the array allocates it lazily.
+     */
+    private final int[] ints;
+    private final long[] longs;
+    private final SLBigIntegerArray bigIntegers;
+    private final int offset;
+    private final int stride;
+    private final int length;
+    private Object detached;
+
+    private SLArrayView(int[] ints, long[] longs, SLBigIntegerArray bigIntegers, int offset, int stride, int length) {
+        assert (ints == null) != (longs == null);
+        this.ints = ints;
+        this.longs = longs;
+        this.bigIntegers = bigIntegers;
+        this.offset = offset;
+        this.stride = stride;
+        this.length = length;
+    }
+
+    /**
+     * Returns a view of all elements of an array, or {@code null} if the value is not an array.
+     * Views are returned as they are.
+     */
+    public static SLArrayView of(Object value) {
+        Object array = resolve(value);
+        if (array instanceof SLArrayView) {
+            return (SLArrayView) array;
+        } else if (array instanceof SLIntegerArray) {
+            int[] values = ((SLIntegerArray) array).getValues();
+            return new SLArrayView(values, null, null, 0, 1, values.length);
+        } else if (array instanceof SLLongArray) {
+            long[] values = ((SLLongArray) array).getValues();
+            return new SLArrayView(null, values, null, 0, 1, values.length);
+        } else if (array instanceof SLBigIntegerArray) {
+            SLBigIntegerArray bigArray = (SLBigIntegerArray) array;
+            return new SLArrayView(null, bigArray.getValues(), bigArray, 0, 1, bigArray.size());
+        } else if (array instanceof SLUniformArray) {
+            SLUniformArray uniform = (SLUniformArray) array;
+            return repeat(uniform.getValue(), uniform.size());
+        }
+        return null;
+    }
+
+    private static SLArrayView repeat(long value, int length) {
+        if ((int) value == value) {
+            return new SLArrayView(new int[]{(int) value}, null, null, 0, 0, length);
+        }
+        return new SLArrayView(null, new long[]{value}, null, 0, 0, length);
+    }
+
+    /**
+     * Returns a view that repeats a number {@code length} times, or {@code null} if the value is
+     * not a number.
+     */
+    public static SLArrayView broadcast(Object value, int length) {
+        if (value instanceof Long) {
+            return repeat((long) value, length);
+        } else if (value instanceof SLBigInteger) {
+            SLBigIntegerArray element = new SLBigIntegerArray(new long[1]);
+            element.set(0, ((SLBigInteger) value).getValue());
+            return new SLArrayView(null, element.getValues(), element, 0, 0, length);
+        }
+        return null;
+    }
+
+    private static Object resolve(Object value) {
+        if (value instanceof SLIntegerArray) {
+            return ((SLIntegerArray) value).resolve();
+        } else if (value instanceof SLLongArray) {
+            return ((SLLongArray) value).resolve();
+        } else if (value instanceof SLArrayView) {
+            return ((SLArrayView) value).resolve();
+        } else if (value instanceof SLUniformArray) {
+            return ((SLUniformArray) value).resolve();
+        }
+        return value;
+    }
+
+    /**
+     * Returns the view of the elements {@code [from, to)} of this view. The bounds must be valid.
+     */
+    public SLArrayView slice(int from, int to) {
+        assert 0 <= from && from <= to && to <= length;
+        return new SLArrayView(ints, longs, bigIntegers, offset + from * stride, stride, to - from);
+    }
+
+    /**
+     * Returns the view of every {@code step}-th element of this view, starting with the first one.
+     */
+    public SLArrayView stride(int step) {
+        assert step > 0;
+        int newLength = length == 0 ? 0 : (length - 1) / step + 1;
+        /* With less than two elements the stride is irrelevant, and the product might overflow. */
+        int newStride = newLength < 2 ? stride : stride * step;
+        return new SLArrayView(ints, longs, bigIntegers, offset, newStride, newLength);
+    }
+
+    /**
+     * Returns the array that holds the elements: this view, or the array it was detached to.
+     */
+    public Object resolve() {
+        if (detached == null) {
+            return this;
+        } else if (detached instanceof SLIntegerArray) {
+            return ((SLIntegerArray) detached).resolve();
+        } else if (detached instanceof SLLongArray) {
+            return ((SLLongArray) detached).resolve();
+        }
+        return detached;
+    }
+
+    public int size() {
+        return length;
+    }
+
+    /**
+     * Returns the {@code int[]} storage of the parent, or {@code null} if the elements are stored
+     * in a {@code long[]}.
+     */
+    public int[] getInts() {
+        return ints;
+    }
+
+    /**
+     * Returns the storage of the parent as {@link SLAllocationSite#INT},
+     * {@link SLAllocationSite#LONG} or {@link SLAllocationSite#BIG_INTEGER}.
+     */
+    public int getWidth() {
+        if (ints != null) {
+            return SLAllocationSite.INT;
+        }
+        return bigIntegers == null ? SLAllocationSite.LONG : SLAllocationSite.BIG_INTEGER;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getStride() {
+        return stride;
+    }
+
+    /**
+     * Returns whether the element does not fit into a {@code long}, and has to be read with
+     * {@link #getBigInteger(int)}.
+     */
+    public boolean isOverflow(int index) {
+        return bigIntegers != null && bigIntegers.isOverflow(offset + index * stride);
+    }
+
+    /**
+     * Returns an element that is not {@link #isOverflow(int) overflowed}.
+     */
+    public long getLong(int index) {
+        int i = offset + index * stride;
+        return ints != null ? ints[i] : longs[i];
+    }
+
+    @TruffleBoundary
+    public BigInteger getBigInteger(int index) {
+        if (isOverflow(index)) {
+            return bigIntegers.get(offset + index * stride);
+        }
+        return BigInteger.valueOf(getLong(index));
+    }
+
+    /**
+     * Copies the elements to a dense array of the same width and forwards this view to it.
+     */
+    public Object detach() {
+        assert detached == null;
+        detached = copy();
+        return detached;
+    }
+
+    /**
+     * Returns a dense array of the same width with a copy of the elements.
+     */
+    @TruffleBoundary
+    public Object copy() {
+        if (ints != null) {
+            int[] values = new int[length];
+            for (int i = 0; i < length; i++) {
+                values[i] = ints[offset + i * stride];
+            }
+            return new SLIntegerArray(values);
+        } else if (bigIntegers == null) {
+            long[] values = new long[length];
+            for (int i = 0; i < length; i++) {
+                values[i] = longs[offset + i * stride];
+            }
+            return new SLLongArray(values);
+        } else {
+            SLBigIntegerArray array = new SLBigIntegerArray(new long[length]);
+            for (int i = 0; i < length; i++) {
+                if (isOverflow(i)) {
+                    array.set(i, getBigInteger(i));
+                } else {
+                    array.set(i, getLong(i));
+                }
+            }
+            return array;
+        }
+    }
+
+    @Override
+    @TruffleBoundary
+    public int hashCode() {
+        Object array = resolve();
+        if (array != this) {
+            return array.hashCode();
+        }
+        int result = 1;
+        for (int i = 0; i < length; i++) {
+            result = 31 * result + getBigInteger(i).hashCode();
+        }
+        return result;
+    }
+
+    @ExportMessage
+    boolean hasLanguage() {
+        return true;
+    }
+
+    @ExportMessage
+    Class<? extends TruffleLanguage<?>> getLanguage() {
+        return SLLanguage.class;
+    }
+
+    @ExportMessage
+    boolean hasMetaObject() {
+        return true;
+    }
+
+    @ExportMessage
+    Object getMetaObject() {
+        return SLType.ARRAY;
+    }
+
+    @ExportMessage
+    boolean hasArrayElements() {
+        return true;
+    }
+
+    @ExportMessage
+    long getArraySize() {
+        return length;
+    }
+
+    @ExportMessage(name = "isArrayElementReadable")
+    @ExportMessage(name = "isArrayElementModifiable")
+    boolean isArrayElementInBounds(long index) {
+        return index >= 0 && index < length;
+    }
+
+    /**
+     * Arrays have a fixed length.
+     */
+    @ExportMessage
+    boolean isArrayElementInsertable(@SuppressWarnings("unused") long index) {
+        return false;
+    }
+
+    @ExportMessage
+    Object readArrayElement(long index) throws InvalidArrayIndexException {
+        if (!isArrayElementInBounds(index)) {
+            throw InvalidArrayIndexException.create(index);
+        }
+        if (detached instanceof SLIntegerArray) {
+            return ((SLIntegerArray) detached).readArrayElement(index);
+        } else if (detached instanceof SLLongArray) {
+            return ((SLLongArray) detached).readArrayElement(index);
+        } else if (detached != null) {
+            return ((SLBigIntegerArray) detached).readArrayElement(index);
+        } else if (isOverflow((int) index)) {
+            return new SLBigInteger(getBigInteger((int) index));
+        }
+        return getLong((int) index);
+    }
+
+    /**
+     * Stores an element into the array this view is {@link #detach() detached} to, detaching it
+     * first if needed.
+     */
+    @ExportMessage
+    void writeArrayElement(long index, Object value,
+                    @CachedLibrary(limit = "3") InteropLibrary numbers) throws UnsupportedMessageException, UnsupportedTypeException, InvalidArrayIndexException {
+        if (!isArrayElementInBounds(index)) {
+            throw InvalidArrayIndexException.create(index);
+        }
+        Object array = detached == null ? detach() : detached;
+        if (array instanceof SLIntegerArray) {
+            ((SLIntegerArray) array).writeArrayElement(index, value, numbers);
+        } else if (array instanceof SLLongArray) {
+            ((SLLongArray) array).writeArrayElement(index, value, numbers);
+        } else {
+            ((SLBigIntegerArray) array).writeArrayElement(index, value, numbers);
+        }
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    Object toDisplayString(@SuppressWarnings("unused") boolean allowSideEffects) {
+        return toString();
+    }
+
+    @Override
+    @TruffleBoundary
+    public String toString() {
+        Object array = resolve();
+        if (array != this) {
+            return array.toString();
+        }
+        StringBuilder result = new StringBuilder("[");
+        for (int i = 0; i < length; i++) {
+            result.append(getBigInteger(i)).append(", ");
+        }
+        result.append("]");
+        return result.toString();
+    }
+}
@@ -40,86 +40,125 @@
  */
 package com.oracle.truffle.sl.runtime;
 
-import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
-import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.interop.InvalidArrayIndexException;
 import com.oracle.truffle.api.interop.TruffleObject;
 import com.oracle.truffle.api.interop.UnsupportedMessageException;
+import com.oracle.truffle.api.interop.UnsupportedTypeException;
+import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.library.ExportLibrary;
 import com.oracle.truffle.api.library.ExportMessage;
 import com.oracle.truffle.sl.SLLanguage;
 
+/**
+ * SL array of arbitrary precision numbers. Typically only a few elements of such an array exceed
+ * the 64 bit range, so the storage is split in two parts: a dense {@code long[]} that holds every
+ * element that fits into a {@code long}, and a side table with the {@link BigInteger} values of
+ * the elements that do not. The side table is {@code null} as long as no element overflows, and
+ * otherwise has the same length as the array with {@code null} entries for the elements that are
+ * stored in the dense part.
+ */
 @ExportLibrary(InteropLibrary.class)
 @SuppressWarnings("static-method")
 public final class SLBigIntegerArray implements TruffleObject{
 
-    private final ArrayList<BigInteger> values;
+    private final long[] values;
+    private BigInteger[] overflow;
 
     public SLBigIntegerArray() {
-        this.values = new ArrayList<BigInteger>();
+        this.values = new long[1000];
+        this.overflow = null;
         for(int i=0; i< 1000; i++){
-            this.values.add(BigInteger.valueOf(i));
+            this.values[i] = i;
         }
     }
 
-    public SLBigIntegerArray(String token) {
-        final int n_iter = 10000;
-        this.values = new ArrayList<BigInteger>();
-
-        switch(token) {
-            case "BIG_ZERO_ARRAY":
-                for(int i=0; i< n_iter; i++){
-                    this.values.add(BigInteger.valueOf(0));
-                }
-                break;
+    /**
+     * Creates an array from its two storage parts. Entries of {@code overflow} must either be
+     * {@code null} or hold a value that does not fit into a {@code long}.
+     */
+    public SLBigIntegerArray(long[] values, BigInteger[] overflow) {
+        assert overflow == null || overflow.length == values.length;
+        this.values = values;
+        this.overflow = overflow;
+    }
 
-            case "BIG_ONES_ARRAY":
-                for(int i=0; i< n_iter; i++){
-                    this.values.add(BigInteger.valueOf(1));
-                }
-                break;
+    public SLBigIntegerArray(long[] values) {
+        this(values, null);
+    }
 
-            default:
-                for(int i=0; i< n_iter; i++){
-                    this.values.add(BigInteger.valueOf(i));
+    @TruffleBoundary
+    public SLBigIntegerArray(List<BigInteger> values) {
+        this.values = new long[values.size()];
+        BigInteger[] bigValues = null;
+        for(int i = 0; i < this.values.length; i++){
+            BigInteger val = values.get(i);
+            if(fitsInDenseStorage(val)){
+                this.values[i] = val.longValue();
+            } else {
+                if(bigValues == null){
+                    bigValues = new BigInteger[this.values.length];
                 }
+                bigValues[i] = val;
+            }
         }
-
+        this.overflow = bigValues;
     }
 
-    public SLBigIntegerArray(ArrayList<BigInteger> values) {
-        this.values = values;
+    /**
+     * Returns the dense part of the storage. The entries at the indices that are
+     * {@link #isOverflow(int) overflowed} are undefined. The returned array is not copied, callers
+     * must not modify it.
+     */
+    public long[] getValues() {
+        return values;
     }
 
+    /**
+     * Returns the side table of the elements that do not fit into a {@code long}, or {@code null}
+     * if there are no such elements.
+     */
+    public BigInteger[] getOverflow() {
+        return overflow;
+    }
 
-
-    public ArrayList<BigInteger> getValues() {
-        return values;
+    public boolean isOverflow(int index) {
+        return overflow != null && overflow[index] != null;
     }
 
     public int size(){
-        return this.values.size();
+        return this.values.length;
     }
 
+    @TruffleBoundary
     public BigInteger get(int index){
-        return this.values.get(index);
+        if(isOverflow(index)){
+            return overflow[index];
+        }
+        return BigInteger.valueOf(this.values[index]);
     }
 
     @Override
     public int hashCode() {
-        return values.hashCode();
+        return 31 * Arrays.hashCode(values) + Arrays.hashCode(overflow);
     }
 
+    public static boolean fitsInDenseStorage(BigInteger value) {
+        return value.bitLength() < Long.SIZE;
+    }
 
     boolean valuesFitInLong() {
-        for(BigInteger val : values){
-            if( val.bitLength() > Long.SIZE){
-                return false;
+        if(overflow != null){
+            for(BigInteger val : overflow){
+                if(val != null){
+                    return false;
+                }
             }
         }
         return true;
@@ -127,33 +166,161 @@ public final class SLBigIntegerArray implements TruffleObject{
 
 
     boolean valuesFitInInt() {
-        for(BigInteger val : values){
-            if( val.bitLength() > Integer.SIZE){
-                return false;
+        return valuesFitInLong() && SLLongArray.valuesFitInInt(values);
+    }
+
+    /**
+     * The overflow side table of a {@link SLBigIntegerArray} under construction. The table is only
+     * allocated once the first element overflows, and can be filled by several threads that set
+     * disjoint elements.
+     */
+    public static final class OverflowTable {
+
+        private final int length;
+        private volatile BigInteger[] values;
+
+        public OverflowTable(int length) {
+            this.length = length;
+        }
+
+        public void set(int index, BigInteger value) {
+            BigInteger[] table = values;
+            if(table == null){
+                table = allocate();
             }
+            table[index] = value;
         }
+
+        private synchronized BigInteger[] allocate() {
+            if(values == null){
+                values = new BigInteger[length];
+            }
+            return values;
+        }
+
+        /**
+         * Returns the side table, or {@code null} if no element overflowed.
+         */
+        public BigInteger[] getValues() {
+            return values;
+        }
+    }
+
+    @ExportMessage
+    boolean hasLanguage() {
         return true;
     }
 
     @ExportMessage
+    Class<? extends TruffleLanguage<?>> getLanguage() {
+        return SLLanguage.class;
+    }
+
+    @ExportMessage
+    boolean hasMetaObject() {
+        return true;
+    }
+
+    @ExportMessage
+    Object getMetaObject() {
+        return SLType.ARRAY;
+    }
+
+    @ExportMessage
+    boolean hasArrayElements() {
+        return true;
+    }
+
+    @ExportMessage
+    long getArraySize() {
+        return values.length;
+    }
+
+    @ExportMessage(name = "isArrayElementReadable")
+    @ExportMessage(name = "isArrayElementModifiable")
+    boolean isArrayElementInBounds(long index) {
+        return index >= 0 && index < values.length;
+    }
+
+    /**
+     * Arrays have a fixed length.
+     */
+    @ExportMessage
+    boolean isArrayElementInsertable(@SuppressWarnings("unused") long index) {
+        return false;
+    }
+
+    @ExportMessage
+    Object readArrayElement(long index) throws InvalidArrayIndexException {
+        if (!isArrayElementInBounds(index)) {
+            throw InvalidArrayIndexException.create(index);
+        }
+        if (isOverflow((int) index)) {
+            return new SLBigInteger(overflow[(int) index]);
+        }
+        return values[(int) index];
+    }
+
+    /**
+     * Stores an element in place. Values that do not fit into a {@code long} go to the overflow
+     * side table, which is allocated by the first such write.
+     */
+    @ExportMessage
+    void writeArrayElement(long index, Object value,
+                    @CachedLibrary(limit = "3") InteropLibrary numbers) throws UnsupportedMessageException, UnsupportedTypeException, InvalidArrayIndexException {
+        if (!isArrayElementInBounds(index)) {
+            throw InvalidArrayIndexException.create(index);
+        }
+        if (numbers.fitsInLong(value)) {
+            set((int) index, numbers.asLong(value));
+        } else if (numbers.fitsInBigInteger(value)) {
+            set((int) index, numbers.asBigInteger(value));
+        } else {
+            throw UnsupportedTypeException.create(new Object[]{value}, "Element is not a number.");
+        }
+    }
+
+    /**
+     * Stores an element that fits into the dense storage.
+     */
+    public void set(int index, long value) {
+        values[index] = value;
+        if (overflow != null) {
+            overflow[index] = null;
+        }
+    }
+
     @TruffleBoundary
-    Object toDisplayString(@SuppressWarnings("unused") boolean allowSideEffects) {
-        String result = "[";
-        for(BigInteger val : this.values){
-            result = result.concat(val.toString() + ", ");
+    public void set(int index, BigInteger value) {
+        if (fitsInDenseStorage(value)) {
+            set(index, value.longValue());
+            return;
+        }
+        if (overflow == null) {
+            overflow = new BigInteger[values.length];
         }
-        result = result.concat("]");
-        return result;
+        overflow[index] = value;
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    Object toDisplayString(@SuppressWarnings("unused") boolean allowSideEffects) {
+        return toString();
     }
 
     @Override
     @TruffleBoundary
     public String toString(){
-        String result = "[";
-        for(BigInteger val : this.values){
-            result = result.concat(val.toString() + ", ");
+        StringBuilder result = new StringBuilder("[");
+        for(int i = 0; i < values.length; i++){
+            if(isOverflow(i)){
+                result.append(overflow[i]);
+            } else {
+                result.append(values[i]);
+            }
+            result.append(", ");
         }
-        result = result.concat("]");
-        return result;
+        result.append("]");
+        return result.toString();
     }
 }
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.runtime;
+
+import java.util.Arrays;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.TruffleLanguage;
+import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.interop.InvalidArrayIndexException;
+import com.oracle.truffle.api.interop.TruffleObject;
+import com.oracle.truffle.api.library.ExportLibrary;
+import com.oracle.truffle.api.library.ExportMessage;
+import com.oracle.truffle.sl.SLLanguage;
+
+/**
+ * SL array of booleans, the result of the element-wise comparisons such as {@code vec_lt}. The
+ * elements are packed into the bits of a {@code long[]}: element {@code i} is bit {@code i % 64} of
+ * word {@code i / 64}. The bits above the length in the last word are always zero, so the number
+ * of {@code true} elements is the sum of the {@link Long#bitCount bit counts} of the words.
+ * <p>
+ * Masks are immutable, their elements can only be read. They select elements with
+ * {@code vec_select} and are reduced with {@code vec_count}, {@code vec_any} and {@code vec_all},
+ * which all process 64 elements per word.
+ */
+@ExportLibrary(InteropLibrary.class)
+@SuppressWarnings("static-method")
+public final class SLBitmaskArray implements TruffleObject {
+
+    private final long[] words;
+    private final int length;
+
+    public SLBitmaskArray(long[] words, int length) {
+        assert words.length == wordCount(length);
+        this.words = words;
+        this.length = length;
+    }
+
+    /**
+     * Returns the number of words that hold {@code length} elements.
+     */
+    public static int wordCount(int length) {
+        return (length + Long.SIZE - 1) >>> 6;
+    }
+
+    /**
+     * Returns the bits of word {@code word} that hold elements of an array of length
+     * {@code length}.
+     */
+    public static long wordMask(int length, int word) {
+        int end = length - (word << 6);
+        return end >= Long.SIZE ? -1L : (1L << end) - 1;
+    }
+
+    public int size() {
+        return length;
+    }
+
+    public long[] getWords() {
+        return words;
+    }
+
+    public boolean get(int index) {
+        if (index < 0 || index >= length) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns the number of {@code true} elements.
+     */
+    public long count() {
+        long count = 0;
+        for (int w = 0; w < words.length; w++) {
+            count += Long.bitCount(words[w]);
+        }
+        return count;
+    }
+
+    /**
+     * Returns whether at least one element is {@code true}, looking at the words up to the first
+     * one that is not zero.
+     */
+    public boolean any() {
+        for (int w = 0; w < words.length; w++) {
+            if (words[w] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether all elements are {@code true}, looking at the words up to the first one that
+     * has a zero bit below the length.
+     */
+    public boolean all() {
+        for (int w = 0; w < words.length; w++) {
+            if (words[w] != wordMask(length, w)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * length + Arrays.hashCode(words);
+    }
+
+    @ExportMessage
+    boolean hasLanguage() {
+        return true;
+    }
+
+    @ExportMessage
+    Class<? extends TruffleLanguage<?>> getLanguage() {
+        return SLLanguage.class;
+    }
+
+    @ExportMessage
+    boolean hasMetaObject() {
+        return true;
+    }
+
+    @ExportMessage
+    Object getMetaObject() {
+        return SLType.ARRAY;
+    }
+
+    @ExportMessage
+    boolean hasArrayElements() {
+        return true;
+    }
+
+    @ExportMessage
+    long getArraySize() {
+        return length;
+    }
+
+    @ExportMessage
+    boolean isArrayElementReadable(long index) {
+        return index >= 0 && index < length;
+    }
+
+    @ExportMessage
+    Object readArrayElement(long index) throws InvalidArrayIndexException {
+        if (!isArrayElementReadable(index)) {
+            throw InvalidArrayIndexException.create(index);
+        }
+        return get((int) index);
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    Object toDisplayString(@SuppressWarnings("unused") boolean allowSideEffects) {
+        return toString();
+    }
+
+    @Override
+    @TruffleBoundary
+    public String toString() {
+        StringBuilder result = new StringBuilder("[");
+        for (int i = 0; i < length; i++) {
+            result.append(get(i)).append(", ");
+        }
+        result.append("]");
+        return result.toString();
+    }
+}
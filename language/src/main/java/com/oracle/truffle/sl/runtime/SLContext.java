@@ -47,6 +47,8 @@ import java.io.InputStreamReader;
 import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BinaryOperator;
 
 import org.graalvm.polyglot.Context;
 
@@ -73,6 +75,7 @@ import com.oracle.truffle.sl.builtins.SLBuiltinNode;
 import com.oracle.truffle.sl.builtins.SLDefineFunctionBuiltinFactory;
 import com.oracle.truffle.sl.builtins.SLEvalBuiltinFactory;
 import com.oracle.truffle.sl.builtins.SLExitBuiltinFactory;
+import com.oracle.truffle.sl.builtins.SLFillBuiltinFactory;
 import com.oracle.truffle.sl.builtins.SLGetSizeBuiltinFactory;
 import com.oracle.truffle.sl.builtins.SLHasSizeBuiltinFactory;
 import com.oracle.truffle.sl.builtins.SLHelloEqualsWorldBuiltinFactory;
@@ -83,15 +86,36 @@ import com.oracle.truffle.sl.builtins.SLIsInstanceBuiltinFactory;
 import com.oracle.truffle.sl.builtins.SLIsNullBuiltinFactory;
 import com.oracle.truffle.sl.builtins.SLJavaTypeBuiltinFactory;
 import com.oracle.truffle.sl.builtins.SLNanoTimeBuiltinFactory;
+import com.oracle.truffle.sl.builtins.SLNewArrayBuiltinFactory;
 import com.oracle.truffle.sl.builtins.SLNewObjectBuiltinFactory;
 import com.oracle.truffle.sl.builtins.SLPrintlnBuiltin;
 import com.oracle.truffle.sl.builtins.SLPrintlnBuiltinFactory;
 import com.oracle.truffle.sl.builtins.SLReadlnBuiltin;
+import com.oracle.truffle.sl.builtins.SLRangeBuiltinFactory;
 import com.oracle.truffle.sl.builtins.SLReadlnBuiltinFactory;
 import com.oracle.truffle.sl.builtins.SLRegisterShutdownHookBuiltinFactory;
+import com.oracle.truffle.sl.builtins.SLSliceBuiltinFactory;
 import com.oracle.truffle.sl.builtins.SLStackTraceBuiltinFactory;
+import com.oracle.truffle.sl.builtins.SLStrideBuiltinFactory;
 import com.oracle.truffle.sl.builtins.SLTypeOfBuiltinFactory;
 import com.oracle.truffle.sl.builtins.SLWrapPrimitiveBuiltinFactory;
+import com.oracle.truffle.sl.builtins.SLVecAllBuiltinFactory;
+import com.oracle.truffle.sl.builtins.SLVecAnyBuiltinFactory;
+import com.oracle.truffle.sl.builtins.SLVecArgsortBuiltinFactory;
+import com.oracle.truffle.sl.builtins.SLVecBsearchBuiltinFactory;
+import com.oracle.truffle.sl.builtins.SLVecCountBuiltinFactory;
+import com.oracle.truffle.sl.builtins.SLVecDiffBuiltinFactory;
+import com.oracle.truffle.sl.builtins.SLVecDotBuiltinFactory;
+import com.oracle.truffle.sl.builtins.SLVecFilterBuiltinFactory;
+import com.oracle.truffle.sl.builtins.SLVecMapBuiltinFactory;
+import com.oracle.truffle.sl.builtins.SLVecMaxBuiltinFactory;
+import com.oracle.truffle.sl.builtins.SLVecMinBuiltinFactory;
+import com.oracle.truffle.sl.builtins.SLVecReduceBuiltinFactory;
+import com.oracle.truffle.sl.builtins.SLVecScanBuiltinFactory;
+import com.oracle.truffle.sl.builtins.SLVecSelectBuiltinFactory;
+import com.oracle.truffle.sl.builtins.SLVecSortBuiltinFactory;
+import com.oracle.truffle.sl.builtins.SLVecSortInPlaceBuiltinFactory;
+import com.oracle.truffle.sl.builtins.SLVecSumBuiltinFactory;
 
 /**
  * The run-time state of SL during execution. The context is created by the {@link SLLanguage}. It
@@ -110,6 +134,11 @@ public final class SLContext {
     private final SLFunctionRegistry functionRegistry;
     private final AllocationReporter allocationReporter;
     private final List<SLFunction> shutdownHooks = new ArrayList<>();
+    private boolean simdEnabled;
+    private int parallelism;
+    private int parallelThreshold;
+    private int bigArrayLength;
+    private ForkJoinPool forkJoinPool;
 
     public SLContext(SLLanguage language, TruffleLanguage.Env env, List<NodeFactory<? extends SLBuiltinNode>> externalBuiltins) {
         this.env = env;
@@ -118,6 +147,7 @@ public final class SLContext {
         this.language = language;
         this.allocationReporter = env.lookup(AllocationReporter.class);
         this.functionRegistry = new SLFunctionRegistry(language);
+        initializeOptions(env);
         installBuiltins();
         for (NodeFactory<? extends SLBuiltinNode> builtin : externalBuiltins) {
             installBuiltin(builtin);
@@ -133,6 +163,15 @@ public final class SLContext {
      */
     public void patchContext(Env newEnv) {
         this.env = newEnv;
+        initializeOptions(newEnv);
+    }
+
+    private void initializeOptions(Env newEnv) {
+        this.simdEnabled = newEnv.getOptions().get(SLLanguage.SIMD) && SLSimd.isAvailable();
+        int requestedParallelism = newEnv.getOptions().get(SLLanguage.Parallelism);
+        this.parallelism = requestedParallelism > 0 ? requestedParallelism : Runtime.getRuntime().availableProcessors();
+        this.parallelThreshold = Math.max(newEnv.getOptions().get(SLLanguage.ParallelThreshold), 1);
+        this.bigArrayLength = Math.max(newEnv.getOptions().get(SLLanguage.BigArrayLength), 0);
     }
 
     /**
@@ -165,6 +204,116 @@ public final class SLContext {
         return functionRegistry;
     }
 
+    /**
+     * Returns whether vector operations on arrays should use the {@link SLSimd SIMD kernels}. This
+     * is only the case if the {@link SLLanguage#SIMD option} is set and the Vector API is
+     * available at run time.
+     */
+    public boolean isSimdEnabled() {
+        return simdEnabled;
+    }
+
+    /**
+     * Returns the number of elements of the {@code BIG_ZERO_ARRAY} and {@code BIG_ONES_ARRAY}
+     * literals, see {@link SLLanguage#BigArrayLength}.
+     */
+    public int getBigArrayLength() {
+        return bigArrayLength;
+    }
+
+    /**
+     * Returns whether a vector operation on arrays with {@code length} elements should be split into
+     * chunks that are processed {@link #forEachChunk in parallel}.
+     */
+    public boolean isParallel(int length) {
+        return parallelism > 1 && length >= parallelThreshold;
+    }
+
+    /**
+     * Splits the index range {@code [0, length)} into chunks and runs {@code action} for each of
+     * them on the {@link ForkJoinPool} of this context. Returns when all chunks are done, so all
+     * writes of the action are visible to the caller. The action must not execute guest code.
+     */
+    @TruffleBoundary
+    public void forEachChunk(int length, SLParallel.RangeAction action) {
+        getForkJoinPool().invoke(new SLParallel.RangeTask(action, 0, length, chunkSize(length)));
+    }
+
+    /**
+     * Splits the index range {@code [0, length)} into chunks like {@link #forEachChunk}, reduces
+     * each chunk with {@code reduction} and combines the partial results pairwise with
+     * {@code combiner}. The combiner must be associative, the order of the chunks is preserved.
+     */
+    @TruffleBoundary
+    public <T> T reduceChunks(int length, SLParallel.RangeReduction<T> reduction, BinaryOperator<T> combiner) {
+        return getForkJoinPool().invoke(new SLParallel.ReduceTask<>(reduction, combiner, 0, length, chunkSize(length)));
+    }
+
+    /**
+     * Computes a prefix scan over the index range {@code [0, length)} in two parallel passes. The
+     * range is split into chunks of a fixed size. The first pass reduces every chunk to a partial
+     * result with {@code reduction}. The partial results are then combined in order with
+     * {@code combiner}, starting from {@code identity}, and the second pass scans every chunk with
+     * the combined partial results of all chunks before it. Every element is processed twice,
+     * independent of the number of threads.
+     */
+    @TruffleBoundary
+    @SuppressWarnings("unchecked")
+    public <T> void scanChunks(int length, SLParallel.RangeReduction<T> reduction, BinaryOperator<T> combiner, T identity, SLParallel.RangeScan<T> scan) {
+        int chunkSize = chunkSize(length);
+        int chunks = (int) ((length + (long) chunkSize - 1) / chunkSize);
+        Object[] partials = new Object[chunks];
+        ForkJoinPool pool = getForkJoinPool();
+        pool.invoke(new SLParallel.RangeTask((from, to) -> {
+            for (int chunk = from; chunk < to; chunk++) {
+                partials[chunk] = reduction.reduce(chunk * chunkSize, (int) Math.min(length, (chunk + 1L) * chunkSize));
+            }
+        }, 0, chunks, 1));
+        T prefix = identity;
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            T partial = (T) partials[chunk];
+            partials[chunk] = prefix;
+            prefix = combiner.apply(prefix, partial);
+        }
+        pool.invoke(new SLParallel.RangeTask((from, to) -> {
+            for (int chunk = from; chunk < to; chunk++) {
+                scan.scan(chunk * chunkSize, (int) Math.min(length, (chunk + 1L) * chunkSize), (T) partials[chunk]);
+            }
+        }, 0, chunks, 1));
+    }
+
+    /**
+     * Runs {@code action} on the {@link ForkJoinPool} of this context, so that parallel library
+     * code it calls, e.g. {@link java.util.Arrays#parallelSort(long[])}, forks its tasks into that
+     * pool instead of the common pool. The action must not execute guest code.
+     */
+    @TruffleBoundary
+    public void runParallel(Runnable action) {
+        getForkJoinPool().submit(action).join();
+    }
+
+    private int chunkSize(int length) {
+        return Math.max(length / (parallelism * SLParallel.CHUNKS_PER_THREAD), SLParallel.MIN_CHUNK_SIZE);
+    }
+
+    private synchronized ForkJoinPool getForkJoinPool() {
+        if (forkJoinPool == null) {
+            forkJoinPool = new ForkJoinPool(parallelism);
+        }
+        return forkJoinPool;
+    }
+
+    /**
+     * Releases the resources of this context. Called when the context is
+     * {@link TruffleLanguage#disposeContext(Object) disposed}.
+     */
+    public synchronized void dispose() {
+        if (forkJoinPool != null) {
+            forkJoinPool.shutdown();
+            forkJoinPool = null;
+        }
+    }
+
     /**
      * Adds all builtin functions to the {@link SLFunctionRegistry}. This method lists all
      * {@link SLBuiltinNode builtin implementation classes}.
@@ -191,6 +340,28 @@ public final class SLContext {
         installBuiltin(SLRegisterShutdownHookBuiltinFactory.getInstance());
         installBuiltin(SLAddToHostClassPathBuiltinFactory.getInstance());
         installBuiltin(SLInNativeImageBuiltinFactory.getInstance());
+        installBuiltin(SLVecSumBuiltinFactory.getInstance());
+        installBuiltin(SLVecMinBuiltinFactory.getInstance());
+        installBuiltin(SLVecMaxBuiltinFactory.getInstance());
+        installBuiltin(SLVecDotBuiltinFactory.getInstance());
+        installBuiltin(SLNewArrayBuiltinFactory.getInstance());
+        installBuiltin(SLFillBuiltinFactory.getInstance());
+        installBuiltin(SLRangeBuiltinFactory.getInstance());
+        installBuiltin(SLSliceBuiltinFactory.getInstance());
+        installBuiltin(SLStrideBuiltinFactory.getInstance());
+        installBuiltin(SLVecMapBuiltinFactory.getInstance());
+        installBuiltin(SLVecFilterBuiltinFactory.getInstance());
+        installBuiltin(SLVecReduceBuiltinFactory.getInstance());
+        installBuiltin(SLVecSortBuiltinFactory.getInstance());
+        installBuiltin(SLVecSortInPlaceBuiltinFactory.getInstance());
+        installBuiltin(SLVecArgsortBuiltinFactory.getInstance());
+        installBuiltin(SLVecBsearchBuiltinFactory.getInstance());
+        installBuiltin(SLVecScanBuiltinFactory.getInstance());
+        installBuiltin(SLVecDiffBuiltinFactory.getInstance());
+        installBuiltin(SLVecSelectBuiltinFactory.getInstance());
+        installBuiltin(SLVecCountBuiltinFactory.getInstance());
+        installBuiltin(SLVecAnyBuiltinFactory.getInstance());
+        installBuiltin(SLVecAllBuiltinFactory.getInstance());
     }
 
     public void installBuiltin(NodeFactory<? extends SLBuiltinNode> factory) {
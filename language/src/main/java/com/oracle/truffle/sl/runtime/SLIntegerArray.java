@@ -40,109 +40,215 @@
  */
 package com.oracle.truffle.sl.runtime;
 
-
-import java.util.ArrayList;
-
+import java.util.Arrays;
 
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.interop.InvalidArrayIndexException;
 import com.oracle.truffle.api.interop.TruffleObject;
+import com.oracle.truffle.api.interop.UnsupportedMessageException;
+import com.oracle.truffle.api.interop.UnsupportedTypeException;
+import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.library.ExportLibrary;
 import com.oracle.truffle.api.library.ExportMessage;
-
-
+import com.oracle.truffle.sl.SLLanguage;
+
+/**
+ * SL array whose elements all fit into 32 bits. The elements are stored unboxed in an
+ * {@code int[]}, so that vector operations can work directly on the primitive storage.
+ * <p>
+ * Like {@link SLLongArray}, the array is {@link #widen() widened} in place by the first write of
+ * an element that does not fit: the elements move to a {@link SLLongArray} that this array
+ * forwards to, and which may in turn be widened to a {@link SLBigIntegerArray}.
+ */
 @ExportLibrary(InteropLibrary.class)
 @SuppressWarnings("static-method")
 public final class SLIntegerArray implements TruffleObject{
 
-    private final ArrayList<Integer> values;
+    private int[] values;
+    private SLLongArray widened;
+    private final SLAllocationSite site;
+
+    public SLIntegerArray(int[] values) {
+        this(values, null);
+    }
 
-    public SLIntegerArray(ArrayList<Integer> values) {
+    /**
+     * Creates an array that reports its widening to {@code site}, see {@link SLAllocationSite}.
+     */
+    public SLIntegerArray(int[] values, SLAllocationSite site) {
         this.values = values;
+        this.site = site;
     }
 
-    public ArrayList<Integer> getValues() {
+    /**
+     * Returns the site that created this array, or {@code null} if it has none.
+     */
+    public SLAllocationSite getAllocationSite() {
+        return site;
+    }
+
+    /**
+     * Returns the backing storage of this array. The returned array is not copied, callers must
+     * not modify it. Must not be called on a {@link #resolve() widened} array.
+     */
+    public int[] getValues() {
+        assert widened == null;
         return values;
     }
 
+    /**
+     * Returns the array that holds the elements: this array, or the wider array it was widened
+     * to.
+     */
+    public Object resolve() {
+        return widened == null ? this : widened.resolve();
+    }
+
+    /**
+     * Copies the elements to a {@link SLLongArray} and forwards this array to it.
+     */
+    @TruffleBoundary
+    public SLLongArray widen() {
+        assert widened == null;
+        long[] longValues = new long[values.length];
+        for(int i = 0; i < values.length; i++){
+            longValues[i] = values[i];
+        }
+        widened = new SLLongArray(longValues, site);
+        values = null;
+        if(site != null){
+            site.recordWidth(SLAllocationSite.LONG);
+        }
+        return widened;
+    }
+
     public int size(){
-        return this.values.size();
+        return widened == null ? this.values.length : widened.size();
     }
 
-    public Integer get(int index){
-        return this.values.get(index);
+    public int get(int index){
+        return this.values[index];
     }
 
     @Override
     public int hashCode() {
-        return values.hashCode();
+        return widened == null ? Arrays.hashCode(values) : widened.hashCode();
     }
 
 
     boolean valuesFitInLong() {
-        return true;
+        return widened == null || widened.valuesFitInLong();
     }
 
     public SLIntegerArray() {
-        this.values = new ArrayList<Integer>();
+        this.site = null;
+        this.values = new int[1000];
         for(int i=0; i< 1000; i++){
-            this.values.add(i);
+            this.values[i] = i;
         }
     }
 
-    public SLIntegerArray(String token) {
-        final int n_iter = 10000;
-        this.values = new ArrayList<Integer>();
+    boolean valuesFitInInt() {
+        return widened == null || widened.valuesFitInInt();
+    }
 
-        switch(token) {
-            case "BIG_ZERO_ARRAY":
-                for(int i=0; i< n_iter; i++){
-                    this.values.add(Integer.valueOf(0));
-                }
-                break;
+    @ExportMessage
+    boolean hasLanguage() {
+        return true;
+    }
 
-            case "BIG_ONES_ARRAY":
-                for(int i=0; i< n_iter; i++){
-                    this.values.add(Integer.valueOf(1));
-                }
-                break;
+    @ExportMessage
+    Class<? extends TruffleLanguage<?>> getLanguage() {
+        return SLLanguage.class;
+    }
 
-            default:
-                for(int i=0; i< n_iter; i++){
-                    this.values.add(Integer.valueOf(i));
-                }
-        }
+    @ExportMessage
+    boolean hasMetaObject() {
+        return true;
+    }
 
+    @ExportMessage
+    Object getMetaObject() {
+        return SLType.ARRAY;
     }
 
-    boolean valuesFitInInt() {
-        for(Integer val : values){
-            if( val > Integer.MAX_VALUE){
-                return false;
-            }
-        }
+    @ExportMessage
+    boolean hasArrayElements() {
         return true;
     }
 
+    @ExportMessage
+    long getArraySize() {
+        return size();
+    }
+
+    @ExportMessage(name = "isArrayElementReadable")
+    @ExportMessage(name = "isArrayElementModifiable")
+    boolean isArrayElementInBounds(long index) {
+        return index >= 0 && index < size();
+    }
+
+    /**
+     * Arrays have a fixed length.
+     */
+    @ExportMessage
+    boolean isArrayElementInsertable(@SuppressWarnings("unused") long index) {
+        return false;
+    }
+
+    @ExportMessage
+    Object readArrayElement(long index) throws InvalidArrayIndexException {
+        if (widened != null) {
+            return widened.readArrayElement(index);
+        }
+        if (!isArrayElementInBounds(index)) {
+            throw InvalidArrayIndexException.create(index);
+        }
+        return (long) values[(int) index];
+    }
+
+    /**
+     * Stores an element in place, {@link #widen() widening} the array if the element does not fit
+     * into an {@code int}.
+     */
+    @ExportMessage
+    void writeArrayElement(long index, Object value,
+                    @CachedLibrary(limit = "3") InteropLibrary numbers) throws UnsupportedMessageException, UnsupportedTypeException, InvalidArrayIndexException {
+        if (widened != null) {
+            widened.writeArrayElement(index, value, numbers);
+            return;
+        }
+        if (!isArrayElementInBounds(index)) {
+            throw InvalidArrayIndexException.create(index);
+        }
+        if (numbers.fitsInInt(value)) {
+            values[(int) index] = numbers.asInt(value);
+        } else if (numbers.fitsInBigInteger(value)) {
+            widen().writeArrayElement(index, value, numbers);
+        } else {
+            throw UnsupportedTypeException.create(new Object[]{value}, "Element is not a number.");
+        }
+    }
+
     @ExportMessage
     @TruffleBoundary
     Object toDisplayString(@SuppressWarnings("unused") boolean allowSideEffects) {
-        String result = "[";
-        for(Integer val : this.values){
-            result = result.concat(val.toString() + ", ");
-        }
-        result = result.concat("]");
-        return result;
+        return toString();
     }
 
     @Override
     @TruffleBoundary
     public String toString(){
-        String result = "[";
-        for(Integer val : this.values){
-            result = result.concat(val.toString() + ", ");
+        if(widened != null){
+            return widened.toString();
+        }
+        StringBuilder result = new StringBuilder("[");
+        for(int val : this.values){
+            result.append(val).append(", ");
         }
-        result = result.concat("]");
-        return result;
+        result.append("]");
+        return result.toString();
     }
 }
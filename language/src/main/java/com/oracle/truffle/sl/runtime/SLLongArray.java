@@ -40,106 +40,237 @@
  */
 package com.oracle.truffle.sl.runtime;
 
-import java.math.BigDecimal;
-import java.util.ArrayList;
+import java.util.Arrays;
 
-import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.interop.InvalidArrayIndexException;
 import com.oracle.truffle.api.interop.TruffleObject;
 import com.oracle.truffle.api.interop.UnsupportedMessageException;
+import com.oracle.truffle.api.interop.UnsupportedTypeException;
+import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.library.ExportLibrary;
 import com.oracle.truffle.api.library.ExportMessage;
 import com.oracle.truffle.sl.SLLanguage;
 
+/**
+ * SL array whose elements all fit into 64 bits. The elements are stored unboxed in a
+ * {@code long[]}, so that vector operations can work directly on the primitive storage.
+ * <p>
+ * The first write of an element that does not fit into a {@code long} {@link #widen() widens} the
+ * array in place: the storage moves to a {@link SLBigIntegerArray} that this array forwards to,
+ * so all references to the array observe the write. The {@link com.oracle.truffle.sl.nodes.SLTypes
+ * type system} sees a widened array as its {@link #resolve() resolved} storage.
+ */
 @ExportLibrary(InteropLibrary.class)
 @SuppressWarnings("static-method")
 public final class SLLongArray implements TruffleObject{
 
-    private final ArrayList<Long> values;
-
-    public SLLongArray(String token) {
-        final int n_iter = 10000;
-        this.values = new ArrayList<Long>();
-
-        switch(token) {
-            case "BIG_ZERO_ARRAY":
-                for(int i=0; i< n_iter; i++){
-                    this.values.add(Long.valueOf(0));
-                }
-                break;
-
-            case "BIG_ONES_ARRAY":
-                for(int i=0; i< n_iter; i++){
-                    this.values.add(Long.valueOf(1));
-                }
-                break;
-
-            default:
-                for(int i=0; i< n_iter; i++){
-                    this.values.add(Long.valueOf(i));
-                }
-        }
+    private long[] values;
+    private SLBigIntegerArray widened;
+    private final SLAllocationSite site;
 
+    public SLLongArray(long[] values) {
+        this(values, null);
     }
 
-    public SLLongArray(ArrayList<Long> values) {
+    /**
+     * Creates an array that reports its widening to {@code site}, see {@link SLAllocationSite}.
+     */
+    public SLLongArray(long[] values, SLAllocationSite site) {
         this.values = values;
+        this.site = site;
+    }
+
+    /**
+     * Returns the site that created this array, or {@code null} if it has none.
+     */
+    public SLAllocationSite getAllocationSite() {
+        return site;
     }
 
+    /**
+     * Returns an array with the given elements: an {@link SLIntegerArray} if they all fit into an
+     * {@code int}, and an array that takes ownership of {@code values} otherwise.
+     */
+    public static Object narrow(long[] values) {
+        int[] ints = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            long value = values[i];
+            if ((int) value != value) {
+                return new SLLongArray(values);
+            }
+            ints[i] = (int) value;
+        }
+        return new SLIntegerArray(ints);
+    }
 
-    public ArrayList<Long> getValues() {
+    /**
+     * Returns the backing storage of this array. The returned array is not copied, callers must
+     * not modify it. Must not be called on a {@link #resolve() widened} array.
+     */
+    public long[] getValues() {
+        assert widened == null;
         return values;
     }
 
+    /**
+     * Returns the array that holds the elements: this array, or the {@link SLBigIntegerArray} it
+     * was widened to.
+     */
+    public Object resolve() {
+        return widened == null ? this : widened;
+    }
+
+    /**
+     * Moves the elements to a {@link SLBigIntegerArray} and forwards this array to it. The dense
+     * storage is copied, because {@link SLArrayView views} of this array keep the old
+     * {@code long[]} and must not see the writes to the new array.
+     */
+    public SLBigIntegerArray widen() {
+        assert widened == null;
+        widened = new SLBigIntegerArray(Arrays.copyOf(values, values.length), null);
+        values = null;
+        if(site != null){
+            site.recordWidth(SLAllocationSite.BIG_INTEGER);
+        }
+        return widened;
+    }
+
     public int size(){
-        return this.values.size();
+        return widened == null ? this.values.length : widened.size();
     }
 
-    public Long get(int index){
-        return this.values.get(index);
+    public long get(int index){
+        return this.values[index];
     }
 
     @Override
     public int hashCode() {
-        return values.hashCode();
+        return widened == null ? Arrays.hashCode(values) : widened.hashCode();
     }
 
 
     boolean valuesFitInLong() {
-        return true;
+        return widened == null || widened.valuesFitInLong();
     }
 
-
     boolean valuesFitInInt() {
-        for(Long val : values){
-            if( val > Integer.MAX_VALUE){
+        if(widened != null){
+            return widened.valuesFitInInt();
+        }
+        return valuesFitInInt(values);
+    }
+
+    /**
+     * Returns whether all {@code values} fit into an {@code int}, i.e. whether they can be stored
+     * in an {@link SLIntegerArray}.
+     */
+    public static boolean valuesFitInInt(long[] values) {
+        for(long val : values){
+            if( val > Integer.MAX_VALUE || val < Integer.MIN_VALUE){
                 return false;
             }
         }
         return true;
     }
 
+    @ExportMessage
+    boolean hasLanguage() {
+        return true;
+    }
+
+    @ExportMessage
+    Class<? extends TruffleLanguage<?>> getLanguage() {
+        return SLLanguage.class;
+    }
+
+    @ExportMessage
+    boolean hasMetaObject() {
+        return true;
+    }
+
+    @ExportMessage
+    Object getMetaObject() {
+        return SLType.ARRAY;
+    }
+
+    @ExportMessage
+    boolean hasArrayElements() {
+        return true;
+    }
+
+    @ExportMessage
+    long getArraySize() {
+        return size();
+    }
+
+    @ExportMessage(name = "isArrayElementReadable")
+    @ExportMessage(name = "isArrayElementModifiable")
+    boolean isArrayElementInBounds(long index) {
+        return index >= 0 && index < size();
+    }
+
+    /**
+     * Arrays have a fixed length.
+     */
+    @ExportMessage
+    boolean isArrayElementInsertable(@SuppressWarnings("unused") long index) {
+        return false;
+    }
+
+    @ExportMessage
+    Object readArrayElement(long index) throws InvalidArrayIndexException {
+        if (widened != null) {
+            return widened.readArrayElement(index);
+        }
+        if (!isArrayElementInBounds(index)) {
+            throw InvalidArrayIndexException.create(index);
+        }
+        return values[(int) index];
+    }
+
+    /**
+     * Stores an element in place, {@link #widen() widening} the array if the element does not fit
+     * into a {@code long}.
+     */
+    @ExportMessage
+    void writeArrayElement(long index, Object value,
+                    @CachedLibrary(limit = "3") InteropLibrary numbers) throws UnsupportedMessageException, UnsupportedTypeException, InvalidArrayIndexException {
+        if (widened != null) {
+            widened.writeArrayElement(index, value, numbers);
+            return;
+        }
+        if (!isArrayElementInBounds(index)) {
+            throw InvalidArrayIndexException.create(index);
+        }
+        if (numbers.fitsInLong(value)) {
+            values[(int) index] = numbers.asLong(value);
+        } else if (numbers.fitsInBigInteger(value)) {
+            widen().writeArrayElement(index, value, numbers);
+        } else {
+            throw UnsupportedTypeException.create(new Object[]{value}, "Element is not a number.");
+        }
+    }
+
     @ExportMessage
     @TruffleBoundary
     Object toDisplayString(@SuppressWarnings("unused") boolean allowSideEffects) {
-        String result = "[";
-        for(Long val : this.values){
-            result = result.concat(val.toString() + ", ");
-        }
-        result = result.concat("]");
-        return result;
+        return toString();
     }
 
     @Override
     @TruffleBoundary
     public String toString(){
-        String result = "[";
-        for(Long val : this.values){
-            result = result.concat(val.toString() + ", ");
+        if(widened != null){
+            return widened.toString();
+        }
+        StringBuilder result = new StringBuilder("[");
+        for(long val : this.values){
+            result.append(val).append(", ");
         }
-        result = result.concat("]");
-        return result;
+        result.append("]");
+        return result.toString();
     }
 }
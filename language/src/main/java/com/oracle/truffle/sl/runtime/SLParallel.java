@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.runtime;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+/**
+ * Fork/join support for vector operations on large arrays. The index range of an operation is
+ * split recursively until the chunks are small enough, and each chunk is processed by a
+ * {@link RangeAction}. The chunks are disjoint, so actions can write their part of a result array
+ * without synchronization. See {@link SLContext#forEachChunk(int, RangeAction)}. Reductions reduce
+ * each chunk to a partial result with a {@link RangeReduction}, and combine the partial results
+ * pairwise along the same split tree, see {@link SLContext#reduceChunks}. Scans process fixed
+ * chunks in two passes with a {@link RangeReduction} and a {@link RangeScan}, see
+ * {@link SLContext#scanChunks}.
+ */
+public final class SLParallel {
+
+    /** Chunks are never split below this number of elements. */
+    static final int MIN_CHUNK_SIZE = 1 << 13;
+    /** Number of chunks per thread, so that threads that finish early can steal work. */
+    static final int CHUNKS_PER_THREAD = 4;
+
+    private SLParallel() {
+    }
+
+    /**
+     * Processes the elements {@code [from, to)} of a vector operation.
+     */
+    @FunctionalInterface
+    public interface RangeAction {
+
+        void run(int from, int to);
+
+    }
+
+    /**
+     * Reduces the elements {@code [from, to)} of a vector operation to a partial result.
+     */
+    @FunctionalInterface
+    public interface RangeReduction<T> {
+
+        T reduce(int from, int to);
+
+    }
+
+    /**
+     * Scans the elements {@code [from, to)} of a vector operation, given the combined partial
+     * results of all elements before {@code from}.
+     */
+    @FunctionalInterface
+    public interface RangeScan<T> {
+
+        void scan(int from, int to, T prefix);
+
+    }
+
+    @SuppressWarnings("serial")
+    static final class RangeTask extends RecursiveAction {
+
+        private final RangeAction action;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        RangeTask(RangeAction action, int from, int to, int chunkSize) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                action.run(from, to);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RangeTask(action, from, middle, chunkSize), new RangeTask(action, middle, to, chunkSize));
+            }
+        }
+    }
+
+    @SuppressWarnings("serial")
+    static final class ReduceTask<T> extends RecursiveTask<T> {
+
+        private final RangeReduction<T> reduction;
+        private final BinaryOperator<T> combiner;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        ReduceTask(RangeReduction<T> reduction, BinaryOperator<T> combiner, int from, int to, int chunkSize) {
+            this.reduction = reduction;
+            this.combiner = combiner;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected T compute() {
+            if (to - from <= chunkSize) {
+                return reduction.reduce(from, to);
+            }
+            int middle = (from + to) >>> 1;
+            ReduceTask<T> left = new ReduceTask<>(reduction, combiner, from, middle, chunkSize);
+            left.fork();
+            T right = new ReduceTask<>(reduction, combiner, middle, to, chunkSize).compute();
+            return combiner.apply(left.join(), right);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.runtime;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * Entry point for the SIMD kernels of the vector operations. The kernels in {@link SLSimdKernels}
+ * use the incubating Vector API of the JDK, which is only present if the
+ * {@code jdk.incubator.vector} module was added to the boot layer (e.g., with
+ * {@code --add-modules jdk.incubator.vector}). This class does not reference the Vector API itself,
+ * so it can always be loaded, and {@link #isAvailable()} tells whether the kernels can be used.
+ * <p>
+ * Every kernel processes the elements {@code [from, to)} of the operands in chunks of the preferred
+ * vector length and returns the index up to which it has written the result. This is less than
+ * {@code to} if the remaining elements do not fill a whole vector, or if an element of the next
+ * chunk overflows. The caller continues with its scalar loop at the returned index, which handles
+ * both the tail and the precise overflow position.
+ * <p>
+ * The kernels are called behind a {@link TruffleBoundary}: partial evaluation does not know the
+ * Vector API intrinsics, but the kernels themselves are compiled by the host compiler.
+ */
+public final class SLSimd {
+
+    private static final boolean AVAILABLE = initializeAvailable();
+
+    private SLSimd() {
+    }
+
+    private static boolean initializeAvailable() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        try {
+            return SLSimdKernels.INT_SPECIES.length() > 1;
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    @TruffleBoundary
+    public static int add(int[] left, int[] right, int[] result, int from, int to) {
+        return SLSimdKernels.add(left, right, result, from, to);
+    }
+
+    @TruffleBoundary
+    public static int add(long[] left, long[] right, long[] result, int from, int to) {
+        return SLSimdKernels.add(left, right, result, from, to);
+    }
+
+    /**
+     * Adds all {@code operands} and the {@code offset} element-wise. A vector is only written if
+     * none of the partial sums of its lanes overflows, which is stricter than necessary but lets the
+     * scalar loop of the caller decide the precise representation of the remaining elements.
+     */
+    @TruffleBoundary
+    public static int add(int[][] operands, int offset, int[] result, int from, int to) {
+        return SLSimdKernels.add(operands, offset, result, from, to);
+    }
+
+    @TruffleBoundary
+    public static int add(long[][] operands, long offset, long[] result, int from, int to) {
+        return SLSimdKernels.add(operands, offset, result, from, to);
+    }
+
+    @TruffleBoundary
+    public static int sub(int[] left, int[] right, int[] result, int from, int to) {
+        return SLSimdKernels.sub(left, right, result, from, to);
+    }
+
+    @TruffleBoundary
+    public static int sub(long[] left, long[] right, long[] result, int from, int to) {
+        return SLSimdKernels.sub(left, right, result, from, to);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.runtime;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API implementation of the {@link SLSimd} kernels. Must only be used if
+ * {@link SLSimd#isAvailable()} returns {@code true}.
+ * <p>
+ * A lane of an addition overflows if both operands have a different sign than the result, i.e.,
+ * if {@code ((a ^ r) & (b ^ r)) < 0}. A lane of a subtraction overflows if the operands have
+ * different signs and the result has a different sign than the left operand, i.e., if
+ * {@code ((a ^ b) & (a ^ r)) < 0}. These checks are done for all lanes of a vector at once.
+ */
+final class SLSimdKernels {
+
+    static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+    static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+
+    private SLSimdKernels() {
+    }
+
+    static int add(int[] left, int[] right, int[] result, int from, int to) {
+        int upperBound = from + INT_SPECIES.loopBound(to - from);
+        int i = from;
+        for (; i < upperBound; i += INT_SPECIES.length()) {
+            IntVector a = IntVector.fromArray(INT_SPECIES, left, i);
+            IntVector b = IntVector.fromArray(INT_SPECIES, right, i);
+            IntVector r = a.add(b);
+            if (a.lanewise(VectorOperators.XOR, r).and(b.lanewise(VectorOperators.XOR, r)).compare(VectorOperators.LT, 0).anyTrue()) {
+                break;
+            }
+            r.intoArray(result, i);
+        }
+        return i;
+    }
+
+    static int add(long[] left, long[] right, long[] result, int from, int to) {
+        int upperBound = from + LONG_SPECIES.loopBound(to - from);
+        int i = from;
+        for (; i < upperBound; i += LONG_SPECIES.length()) {
+            LongVector a = LongVector.fromArray(LONG_SPECIES, left, i);
+            LongVector b = LongVector.fromArray(LONG_SPECIES, right, i);
+            LongVector r = a.add(b);
+            if (a.lanewise(VectorOperators.XOR, r).and(b.lanewise(VectorOperators.XOR, r)).compare(VectorOperators.LT, 0).anyTrue()) {
+                break;
+            }
+            r.intoArray(result, i);
+        }
+        return i;
+    }
+
+    static int add(int[][] operands, int offset, int[] result, int from, int to) {
+        int upperBound = from + INT_SPECIES.loopBound(to - from);
+        IntVector start = IntVector.broadcast(INT_SPECIES, offset);
+        int i = from;
+        vectors: for (; i < upperBound; i += INT_SPECIES.length()) {
+            IntVector sum = start;
+            for (int[] operand : operands) {
+                IntVector b = IntVector.fromArray(INT_SPECIES, operand, i);
+                IntVector r = sum.add(b);
+                if (sum.lanewise(VectorOperators.XOR, r).and(b.lanewise(VectorOperators.XOR, r)).compare(VectorOperators.LT, 0).anyTrue()) {
+                    break vectors;
+                }
+                sum = r;
+            }
+            sum.intoArray(result, i);
+        }
+        return i;
+    }
+
+    static int add(long[][] operands, long offset, long[] result, int from, int to) {
+        int upperBound = from + LONG_SPECIES.loopBound(to - from);
+        LongVector start = LongVector.broadcast(LONG_SPECIES, offset);
+        int i = from;
+        vectors: for (; i < upperBound; i += LONG_SPECIES.length()) {
+            LongVector sum = start;
+            for (long[] operand : operands) {
+                LongVector b = LongVector.fromArray(LONG_SPECIES, operand, i);
+                LongVector r = sum.add(b);
+                if (sum.lanewise(VectorOperators.XOR, r).and(b.lanewise(VectorOperators.XOR, r)).compare(VectorOperators.LT, 0).anyTrue()) {
+                    break vectors;
+                }
+                sum = r;
+            }
+            sum.intoArray(result, i);
+        }
+        return i;
+    }
+
+    static int sub(int[] left, int[] right, int[] result, int from, int to) {
+        int upperBound = from + INT_SPECIES.loopBound(to - from);
+        int i = from;
+        for (; i < upperBound; i += INT_SPECIES.length()) {
+            IntVector a = IntVector.fromArray(INT_SPECIES, left, i);
+            IntVector b = IntVector.fromArray(INT_SPECIES, right, i);
+            IntVector r = a.sub(b);
+            if (a.lanewise(VectorOperators.XOR, b).and(a.lanewise(VectorOperators.XOR, r)).compare(VectorOperators.LT, 0).anyTrue()) {
+                break;
+            }
+            r.intoArray(result, i);
+        }
+        return i;
+    }
+
+    static int sub(long[] left, long[] right, long[] result, int from, int to) {
+        int upperBound = from + LONG_SPECIES.loopBound(to - from);
+        int i = from;
+        for (; i < upperBound; i += LONG_SPECIES.length()) {
+            LongVector a = LongVector.fromArray(LONG_SPECIES, left, i);
+            LongVector b = LongVector.fromArray(LONG_SPECIES, right, i);
+            LongVector r = a.sub(b);
+            if (a.lanewise(VectorOperators.XOR, b).and(a.lanewise(VectorOperators.XOR, r)).compare(VectorOperators.LT, 0).anyTrue()) {
+                break;
+            }
+            r.intoArray(result, i);
+        }
+        return i;
+    }
+}
@@ -83,6 +83,7 @@ public final class SLType implements TruffleObject {
     public static final SLType NULL = new SLType("NULL", (l, v) -> l.isNull(v));
     public static final SLType STRING = new SLType("String", (l, v) -> l.isString(v));
     public static final SLType BOOLEAN = new SLType("Boolean", (l, v) -> l.isBoolean(v));
+    public static final SLType ARRAY = new SLType("Array", (l, v) -> l.hasArrayElements(v));
     public static final SLType OBJECT = new SLType("Object", (l, v) -> l.hasMembers(v));
     public static final SLType FUNCTION = new SLType("Function", (l, v) -> l.isExecutable(v));
 
@@ -92,7 +93,7 @@ public final class SLType implements TruffleObject {
      * example, an object might be a function. In SimpleLanguage we decided to make functions,
      * functions and not objects.
      */
-    @CompilationFinal(dimensions = 1) public static final SLType[] PRECEDENCE = new SLType[]{NULL, NUMBER, STRING, BOOLEAN, FUNCTION, OBJECT};
+    @CompilationFinal(dimensions = 1) public static final SLType[] PRECEDENCE = new SLType[]{NULL, NUMBER, STRING, BOOLEAN, FUNCTION, ARRAY, OBJECT};
 
     private final String name;
     private final TypeCheck isInstance;
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.runtime;
+
+import java.util.Arrays;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.TruffleLanguage;
+import com.oracle.truffle.api.dsl.Cached.Shared;
+import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.interop.InvalidArrayIndexException;
+import com.oracle.truffle.api.interop.TruffleObject;
+import com.oracle.truffle.api.interop.UnsupportedMessageException;
+import com.oracle.truffle.api.interop.UnsupportedTypeException;
+import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.library.ExportLibrary;
+import com.oracle.truffle.api.library.ExportMessage;
+import com.oracle.truffle.sl.SLLanguage;
+
+/**
+ * SL array whose elements all have the same value, e.g. the {@code BIG_ZERO_ARRAY} and
+ * {@code BIG_ONES_ARRAY} literals. Only the length and the value are stored, so creating such an
+ * array and adding two of them takes constant time, independent of the length.
+ * <p>
+ * Operations that need the elements in memory use the {@link #materialize() materialized} form,
+ * which is created on first use and then shared by all later users of this array.
+ * <p>
+ * The first write of an element {@link #detach() detaches} the array: its elements are copied to a
+ * dense {@link SLIntegerArray} or {@link SLLongArray} that this array forwards to from then on,
+ * like a {@link SLIntegerArray#widen() widened} array, so a zero-initialized array can be used as
+ * an accumulator. Slices and strides taken before the first write keep the uniform value, like
+ * views of an array that is widened afterwards keep their elements.
+ */
+@ExportLibrary(InteropLibrary.class)
+@SuppressWarnings("static-method")
+public final class SLUniformArray implements TruffleObject {
+
+    private final int length;
+    private final long value;
+    private SLLongArray materialized;
+    private Object written;
+
+    public SLUniformArray(int length, long value) {
+        assert length >= 0;
+        this.length = length;
+        this.value = value;
+    }
+
+    public int size() {
+        return length;
+    }
+
+    /**
+     * Returns the value of all elements. Must not be called on a {@link #resolve() detached}
+     * array.
+     */
+    public long getValue() {
+        assert written == null;
+        return value;
+    }
+
+    /**
+     * Returns the array that holds the elements: this array, or the dense array it was detached
+     * to.
+     */
+    public Object resolve() {
+        if (written == null) {
+            return this;
+        } else if (written instanceof SLIntegerArray) {
+            return ((SLIntegerArray) written).resolve();
+        }
+        return ((SLLongArray) written).resolve();
+    }
+
+    /**
+     * Copies the elements to a dense array, an {@link SLIntegerArray} if the value fits into an
+     * {@code int}, and forwards this array to it.
+     */
+    @TruffleBoundary
+    public Object detach() {
+        assert written == null;
+        if ((int) value == value) {
+            int[] values = new int[length];
+            if (value != 0) {
+                Arrays.fill(values, (int) value);
+            }
+            written = new SLIntegerArray(values);
+        } else {
+            long[] values = new long[length];
+            Arrays.fill(values, value);
+            written = new SLLongArray(values);
+        }
+        materialized = null;
+        return written;
+    }
+
+    public long get(int index) {
+        if (index < 0 || index >= length) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+        return value;
+    }
+
+    /**
+     * Returns this array with its elements stored in a {@code long[]}. The storage is allocated
+     * the first time this method is called. Concurrent callers may allocate it more than once, but
+     * all copies hold the same elements.
+     */
+    @TruffleBoundary
+    public SLLongArray materialize() {
+        SLLongArray result = materialized;
+        if (result == null) {
+            long[] values = new long[length];
+            if (value != 0) {
+                Arrays.fill(values, value);
+            }
+            result = new SLLongArray(values);
+            materialized = result;
+        }
+        return result;
+    }
+
+    @Override
+    public int hashCode() {
+        if (written != null) {
+            return written.hashCode();
+        }
+        return 31 * length + Long.hashCode(value);
+    }
+
+    boolean valuesFitInLong() {
+        return true;
+    }
+
+    boolean valuesFitInInt() {
+        return value == (int) value;
+    }
+
+    @ExportMessage
+    boolean hasLanguage() {
+        return true;
+    }
+
+    @ExportMessage
+    Class<? extends TruffleLanguage<?>> getLanguage() {
+        return SLLanguage.class;
+    }
+
+    @ExportMessage
+    boolean hasMetaObject() {
+        return true;
+    }
+
+    @ExportMessage
+    Object getMetaObject() {
+        return SLType.ARRAY;
+    }
+
+    @ExportMessage
+    boolean hasArrayElements() {
+        return true;
+    }
+
+    @ExportMessage
+    long getArraySize() {
+        return length;
+    }
+
+    @ExportMessage(name = "isArrayElementReadable")
+    @ExportMessage(name = "isArrayElementModifiable")
+    boolean isArrayElementInBounds(long index) {
+        return index >= 0 && index < length;
+    }
+
+    /**
+     * Arrays have a fixed length.
+     */
+    @ExportMessage
+    boolean isArrayElementInsertable(@SuppressWarnings("unused") long index) {
+        return false;
+    }
+
+    @ExportMessage
+    Object readArrayElement(long index,
+                    @Shared("arrays") @CachedLibrary(limit = "3") InteropLibrary arrays) throws InvalidArrayIndexException, UnsupportedMessageException {
+        if (written != null) {
+            return arrays.readArrayElement(written, index);
+        }
+        if (!isArrayElementInBounds(index)) {
+            throw InvalidArrayIndexException.create(index);
+        }
+        return value;
+    }
+
+    /**
+     * Stores an element in the dense array, {@link #detach() detaching} this array on the first
+     * write.
+     */
+    @ExportMessage
+    void writeArrayElement(long index, Object element,
+                    @Shared("arrays") @CachedLibrary(limit = "3") InteropLibrary arrays) throws UnsupportedMessageException, UnsupportedTypeException, InvalidArrayIndexException {
+        if (!isArrayElementInBounds(index)) {
+            throw InvalidArrayIndexException.create(index);
+        }
+        arrays.writeArrayElement(written != null ? written : detach(), index, element);
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    Object toDisplayString(@SuppressWarnings("unused") boolean allowSideEffects) {
+        return toString();
+    }
+
+    @Override
+    @TruffleBoundary
+    public String toString() {
+        if (written != null) {
+            return written.toString();
+        }
+        StringBuilder result = new StringBuilder("[");
+        for (int i = 0; i < length; i++) {
+            result.append(value).append(", ");
+        }
+        result.append("]");
+        return result.toString();
+    }
+}
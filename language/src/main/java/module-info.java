@@ -42,12 +42,14 @@ module org.graalvm.sl {
   requires java.base;
   requires java.logging;
   requires jdk.unsupported;
+  requires static jdk.incubator.vector;
   requires org.antlr.antlr4.runtime;
   requires org.graalvm.polyglot;
   requires org.graalvm.truffle;
   exports com.oracle.truffle.sl to org.graalvm.sl.test;
   exports com.oracle.truffle.sl.runtime to org.graalvm.sl.test;
   exports com.oracle.truffle.sl.builtins to org.graalvm.sl.test;
+  exports com.oracle.truffle.sl.nodes.expression to org.graalvm.sl.test;
   provides  com.oracle.truffle.api.provider.TruffleLanguageProvider with
     com.oracle.truffle.sl.SLLanguageProvider;
 }
@@ -129,6 +129,26 @@ public class SLExecutionListenerTest {
         leaveStatement("2 + 3", 5, 2, 3);
     }
 
+    @Test
+    public void testFusedVecAdd() {
+        ExecutionListener.newBuilder().onEnter(this::add).onReturn(this::add).//
+                        expressions(true).//
+                        collectExceptions(true).collectInputValues(true).collectReturnValue(true).//
+                        attach(context.getEngine());
+        eval("[1] vec_add [2] vec_add [3];");
+
+        enterStatement("[1] vec_add [2] vec_add [3]");
+        enterExpression("[1] vec_add [2]");
+        enterExpression("[1]");
+        leaveExpression("[1]", "[1, ]");
+        enterExpression("[2]");
+        leaveExpression("[2]", "[2, ]");
+        leaveExpression("[1] vec_add [2]", "[3, ]", "[1, ]", "[2, ]");
+        enterExpression("[3]");
+        leaveExpression("[3]", "[3, ]");
+        leaveStatement("[1] vec_add [2] vec_add [3]", "[6, ]", "[3, ]", "[3, ]");
+    }
+
     @Test
     public void testRoots() {
         ExecutionListener.newBuilder().onEnter(this::add).onReturn(this::add).//
@@ -335,6 +355,8 @@ public class SLExecutionListenerTest {
             assertEquals(expected, actual.asBoolean());
         } else if (actual.canExecute()) {
             assertEquals(((Value) expected).getSourceLocation(), actual.getSourceLocation());
+        } else if (actual.hasArrayElements()) {
+            assertEquals(expected, actual.toString());
         } else {
             throw new AssertionError(expected.toString());
         }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.sl.test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Value;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.oracle.truffle.api.dsl.Introspection;
+import com.oracle.truffle.api.nodes.NodeUtil;
+import com.oracle.truffle.sl.nodes.expression.SLVecBinaryNode;
+import com.oracle.truffle.sl.runtime.SLContext;
+import com.oracle.truffle.sl.runtime.SLStrings;
+
+/**
+ * Checks that a vector operator only re-specializes to the narrow kernels after a wide
+ * specialization replaced a narrower one, and not for operands that were wide from the start.
+ */
+public class SLVecRenarrowTest {
+
+    private Context context;
+    private Value sub;
+    private Value ints;
+    private Value longs;
+
+    @Before
+    public void setUp() {
+        context = Context.create("sl");
+        context.eval("sl", "" +
+                        "function sub(a, b) { return a vec_sub b; }\n" +
+                        "function ints() { return range(0, 20); }\n" +
+                        "function longs() { return [3000000000, 3000000001, 3000000002, 3000000003, 3000000004, 3000000005, 3000000006, " +
+                        "3000000007, 3000000008, 3000000009, 3000000010, 3000000011, 3000000012, 3000000013, 3000000014, 3000000015, " +
+                        "3000000016, 3000000017, 3000000018, 3000000019]; }\n");
+        Value bindings = context.getBindings("sl");
+        sub = bindings.getMember("sub");
+        ints = bindings.getMember("ints");
+        longs = bindings.getMember("longs");
+    }
+
+    @After
+    public void tearDown() {
+        context.close();
+        context = null;
+    }
+
+    @Test
+    public void testWideOperandsKeepSpecialization() {
+        sub.execute(longs.execute(), longs.execute());
+        SLVecBinaryNode node = findSub();
+        assertTrue(isActive(node, "doSLLongArray"));
+
+        /* The results all fit into an int, but the operands never did. */
+        for (int i = 0; i < 200; i++) {
+            sub.execute(longs.execute(), longs.execute());
+        }
+        assertSame(node, findSub());
+        assertTrue(isActive(node, "doSLLongArray"));
+        assertFalse(isActive(node, "doSLIntegerArray"));
+    }
+
+    @Test
+    public void testRenarrowAfterOutlier() {
+        sub.execute(ints.execute(), ints.execute());
+        SLVecBinaryNode node = findSub();
+        assertTrue(isActive(node, "doSLIntegerArray"));
+
+        sub.execute(longs.execute(), longs.execute());
+        assertSame(node, findSub());
+        assertTrue(isActive(node, "doSLLongArray"));
+        assertTrue(isExcluded(node, "doSLIntegerArray"));
+
+        for (int i = 0; i < 8; i++) {
+            sub.execute(ints.execute(), ints.execute());
+        }
+        SLVecBinaryNode narrow = findSub();
+        assertNotSame(node, narrow);
+        sub.execute(ints.execute(), ints.execute());
+        assertTrue(isActive(narrow, "doSLIntegerArray"));
+        assertFalse(isActive(narrow, "doSLLongArray"));
+    }
+
+    @Test
+    public void testWideOperandsInterruptRenarrow() {
+        sub.execute(ints.execute(), ints.execute());
+        sub.execute(longs.execute(), longs.execute());
+        SLVecBinaryNode node = findSub();
+        for (int i = 0; i < 20; i++) {
+            sub.execute(ints.execute(), ints.execute());
+            sub.execute(longs.execute(), longs.execute());
+        }
+        assertSame(node, findSub());
+        assertTrue(isActive(node, "doSLLongArray"));
+    }
+
+    private SLVecBinaryNode findSub() {
+        context.enter();
+        try {
+            SLContext slContext = SLContext.get(null);
+            return NodeUtil.findFirstNodeInstance(slContext.getFunctionRegistry().getFunction(SLStrings.fromJavaString("sub")).getCallTarget().getRootNode(), SLVecBinaryNode.class);
+        } finally {
+            context.leave();
+        }
+    }
+
+    private static boolean isActive(SLVecBinaryNode node, String specialization) {
+        return Introspection.getSpecialization(node, specialization).isActive();
+    }
+
+    private static boolean isExcluded(SLVecBinaryNode node, String specialization) {
+        return Introspection.getSpecialization(node, specialization).isExcluded();
+    }
+}